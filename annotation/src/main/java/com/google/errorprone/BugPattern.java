@@ -179,4 +179,39 @@ public @interface BugPattern {
    * packages, so checks that operate at the package level need special treatment.
    */
   boolean documentSuppression() default true;
+
+  /**
+   * How expensive the check is to run, relative to the size of the code it analyzes. Expensive
+   * checks may be skipped or sampled on very large compilation units, such as generated code; see
+   * {@code -XepLargeUnitThreshold}.
+   */
+  CostClass cost() default CostClass.CHEAP;
+
+  /**
+   * Fully qualified names of types or packages that the check is only relevant to. If any are
+   * given, the check is skipped on a compilation unit when none of them has been loaded by javac
+   * by the time the unit is analyzed.
+   *
+   * <p>This is decided from javac's symbol table, not from the unit's own imports and member
+   * selects: a type counts once it has been entered, and a package once any of its classes has
+   * been used, anywhere in the compilation. Since the symbol table is shared by every unit in the
+   * compilation (and by later compilations that reuse the same context), a check can still run on
+   * units that don't mention its required references; it is only guaranteed to be skipped when no
+   * unit analyzed so far could have used them. Any unit that does refer to one of them, or to a
+   * type nested in or a subtype of one of them, is always checked. This is only appropriate for
+   * checks that match uses of a particular API, e.g. {@code "org.joda.time"}.
+   */
+  String[] requiredReferences() default {};
+
+  /** The cost of running a check. */
+  enum CostClass {
+    /** Matches individual trees syntactically, or with attribution information only. */
+    CHEAP,
+    /** Runs a dataflow analysis over the bodies of the methods it matches. */
+    DATAFLOW,
+    /** Scans or indexes the whole compilation unit for each match, or before matching. */
+    WHOLE_UNIT,
+    /** Checks candidate fixes by recompiling the compilation unit with the fix applied. */
+    SPECULATIVE_COMPILE,
+  }
 }
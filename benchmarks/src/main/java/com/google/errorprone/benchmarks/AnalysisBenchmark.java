@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.CharStreams;
+import com.google.errorprone.BaseErrorProneJavaCompiler;
+import com.google.errorprone.FileManagers;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.google.errorprone.scanner.ScannerSupplier;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the time to compile the corpus with Error Prone, end to end.
+ *
+ * <p>The {@code checks} parameter selects the checks to run: {@code none} (which measures plain
+ * javac plus the overhead of the analyzer), {@code default}, {@code all}, or the names of some
+ * checks separated by {@code +}, e.g. {@code -p checks=StringSplitter+ReferenceEquality}.
+ */
+@State(Scope.Benchmark)
+public class AnalysisBenchmark extends BenchmarkDefaults {
+
+  @Param({"none", "default", "all"})
+  public String checks;
+
+  private ScannerSupplier scannerSupplier;
+  private ImmutableList<JavaFileObject> sources;
+
+  @Setup
+  public void setUp() {
+    scannerSupplier = scannerSupplier(checks);
+    sources = Corpus.sources();
+  }
+
+  static ScannerSupplier scannerSupplier(String checks) {
+    return switch (checks) {
+      case "none" -> BuiltInCheckerSuppliers.allChecks().filter(unused -> false);
+      case "default" -> BuiltInCheckerSuppliers.defaultChecks();
+      case "all" -> BuiltInCheckerSuppliers.allChecks();
+      default -> {
+        ImmutableSet<String> names =
+            Splitter.on('+').trimResults().splitToStream(checks).collect(toImmutableSet());
+        ScannerSupplier supplier =
+            BuiltInCheckerSuppliers.allChecks()
+                .filter(info -> names.contains(info.canonicalName()));
+        if (supplier.getEnabledChecks().size() != names.size()) {
+          throw new IllegalArgumentException("unknown checks in: " + checks);
+        }
+        yield supplier;
+      }
+    };
+  }
+
+  /** Returns the number of diagnostics, so that JMH doesn't consider the result unused. */
+  @Benchmark
+  public int analyze() {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    new BaseErrorProneJavaCompiler(scannerSupplier)
+        .getTask(
+            CharStreams.nullWriter(),
+            FileManagers.testFileManager(),
+            diagnostics,
+            ImmutableList.of("-proc:none"),
+            /* classes= */ null,
+            sources)
+        .call();
+    return diagnostics.getDiagnostics().size();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.code.Symbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ASTHelpers#hasAnnotation(Symbol, String, VisitorState)} on every declaration in
+ * the corpus, for a mix of present, inherited and absent annotations.
+ */
+@State(Scope.Benchmark)
+public class AnnotationBenchmark extends BenchmarkDefaults {
+
+  private static final ImmutableList<String> ANNOTATIONS =
+      ImmutableList.of(
+          "corpus.Annotations$Component", // @Inherited
+          "corpus.Annotations$Subscribe",
+          "corpus.Annotations.MaybeNull", // canonical rather than binary name
+          "java.lang.Deprecated",
+          "java.lang.Override",
+          "java.lang.SuppressWarnings",
+          "javax.annotation.Nullable"); // not on the classpath
+
+  private VisitorState state;
+  private ImmutableList<Symbol> symbols;
+
+  @Setup
+  public void setUp() {
+    Corpus corpus = Corpus.compile();
+    state = corpus.state();
+    ImmutableList.Builder<Symbol> symbols = ImmutableList.builder();
+    for (TreePath path : corpus.paths(Tree.class)) {
+      if (path.getLeaf() instanceof ClassTree
+          || path.getLeaf() instanceof MethodTree
+          || path.getLeaf() instanceof VariableTree) {
+        symbols.add(ASTHelpers.getSymbol(path.getLeaf()));
+      }
+    }
+    this.symbols = symbols.build();
+  }
+
+  @Benchmark
+  public int hasAnnotation() {
+    int count = 0;
+    for (Symbol symbol : symbols) {
+      for (String annotation : ANNOTATIONS) {
+        if (ASTHelpers.hasAnnotation(symbol, annotation, state)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.fixes.AppliedFix;
+import com.google.errorprone.fixes.ErrorProneEndPosTable;
+import com.google.errorprone.fixes.SuggestedFix;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.util.Position;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures applying fixes to the corpus sources: a fix for each method invocation on its own, as
+ * when a snippet is rendered for each diagnostic, and all of them at once per file, as when
+ * patching.
+ */
+@State(Scope.Benchmark)
+public class AppliedFixBenchmark extends BenchmarkDefaults {
+
+  /** A corpus source with the fixes to apply to it. */
+  private record FixedUnit(
+      CharSequence source,
+      ErrorProneEndPosTable endPositions,
+      ImmutableList<SuggestedFix> fixes,
+      SuggestedFix merged) {}
+
+  private ImmutableList<FixedUnit> units;
+
+  @Setup
+  public void setUp() {
+    Corpus corpus = Corpus.compile();
+    ImmutableList.Builder<FixedUnit> units = ImmutableList.builder();
+    for (CompilationUnitTree unit : corpus.units()) {
+      ErrorProneEndPosTable endPositions = ErrorProneEndPosTable.create(unit);
+      ImmutableList.Builder<SuggestedFix> fixes = ImmutableList.builder();
+      SuggestedFix.Builder merged = SuggestedFix.builder();
+      for (TreePath path : corpus.paths(MethodInvocationTree.class)) {
+        if (path.getCompilationUnit() != unit) {
+          continue;
+        }
+        // Insertions after the method names, since the method selects of chained calls overlap.
+        MethodInvocationTree invocation = (MethodInvocationTree) path.getLeaf();
+        if (endPositions.getEndPosition(invocation.getMethodSelect()) == Position.NOPOS) {
+          // Implicit super constructor calls aren't in the source.
+          continue;
+        }
+        fixes.add(SuggestedFix.postfixWith(invocation.getMethodSelect(), "Fixed"));
+        merged.postfixWith(invocation.getMethodSelect(), "Fixed");
+      }
+      CharSequence source;
+      try {
+        source = unit.getSourceFile().getCharContent(false);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      units.add(new FixedUnit(source, endPositions, fixes.build(), merged.build()));
+    }
+    this.units = units.build();
+  }
+
+  /** Returns the total length of the snippets. */
+  @Benchmark
+  public int applySingleFixes() {
+    int length = 0;
+    for (FixedUnit unit : units) {
+      for (SuggestedFix fix : unit.fixes()) {
+        AppliedFix applied = AppliedFix.apply(unit.source(), unit.endPositions(), fix);
+        if (applied != null) {
+          length += applied.snippet().length();
+        }
+      }
+    }
+    return length;
+  }
+
+  /** Returns the total length of the fixed sources. */
+  @Benchmark
+  public int applyMergedFixes() {
+    int length = 0;
+    for (FixedUnit unit : units) {
+      length +=
+          AppliedFix.applyReplacements(unit.source(), unit.endPositions(), unit.merged()).length();
+    }
+    return length;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Streams.stream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharStreams;
+import com.google.errorprone.FileManagers;
+import com.google.errorprone.FileObjects;
+import com.google.errorprone.VisitorState;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import com.sun.tools.javac.api.JavacTaskImpl;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.util.Context;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+
+/**
+ * The checked-in Java sources that the benchmarks analyze.
+ *
+ * <p>The corpus only depends on the JDK, and changes to it invalidate comparisons with earlier
+ * results.
+ */
+final class Corpus {
+
+  static final ImmutableList<String> FILES =
+      ImmutableList.of(
+          "corpus/Annotations.java",
+          "corpus/EventBus.java",
+          "corpus/Inventory.java",
+          "corpus/LruCache.java",
+          "corpus/Matrix.java",
+          "corpus/TextFormatter.java");
+
+  /** Returns the corpus sources. */
+  static ImmutableList<JavaFileObject> sources() {
+    return FileObjects.forResources(Corpus.class, FILES.toArray(new String[0]));
+  }
+
+  /** Parses and attributes the corpus with javac, without running any checks. */
+  static Corpus compile() {
+    return compile(sources());
+  }
+
+  /** Parses and attributes the given sources with javac, without running any checks. */
+  static Corpus compile(List<JavaFileObject> sources) {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavacTaskImpl task =
+        (JavacTaskImpl)
+            JavacTool.create()
+                .getTask(
+                    CharStreams.nullWriter(),
+                    FileManagers.testFileManager(),
+                    diagnostics,
+                    ImmutableList.of("-proc:none"),
+                    /* classes= */ null,
+                    sources);
+    ImmutableList<CompilationUnitTree> units = stream(task.parse()).collect(toImmutableList());
+    task.analyze();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        throw new IllegalStateException("the corpus does not compile: " + diagnostic);
+      }
+    }
+    return new Corpus(task.getContext(), units);
+  }
+
+  private final Context context;
+  private final ImmutableList<CompilationUnitTree> units;
+
+  private Corpus(Context context, ImmutableList<CompilationUnitTree> units) {
+    this.context = context;
+    this.units = units;
+  }
+
+  Context context() {
+    return context;
+  }
+
+  ImmutableList<CompilationUnitTree> units() {
+    return units;
+  }
+
+  VisitorState state() {
+    return VisitorState.createForUtilityPurposes(context);
+  }
+
+  /** Returns the paths to all trees of the given type in the corpus, in source order. */
+  ImmutableList<TreePath> paths(Class<? extends Tree> type) {
+    ImmutableList.Builder<TreePath> paths = ImmutableList.builder();
+    for (CompilationUnitTree unit : units) {
+      new TreePathScanner<Void, Void>() {
+        @Override
+        public Void scan(Tree tree, Void unused) {
+          if (type.isInstance(tree)) {
+            paths.add(new TreePath(getCurrentPath(), tree));
+          }
+          return super.scan(tree, null);
+        }
+      }.scan(new TreePath(unit), null);
+    }
+    return paths.build();
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.base.Ascii;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
+import com.google.errorprone.names.LevenshteinEditDistance;
+import com.google.errorprone.names.NeedlemanWunschEditDistance;
+import com.google.errorprone.names.TermEditDistance;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the edit distance implementations in {@code com.google.errorprone.names} on pairs of
+ * identifiers from the corpus, which is what checks that compare argument and parameter names use
+ * them for.
+ *
+ * <p>The Needleman-Wunsch benchmarks use the costs {@code ArgumentSelectionDefectChecker} uses.
+ * {@link #reference} and {@link #needlemanWunschReference} compute the full distance matrices, as
+ * the implementations originally did, as baselines.
+ */
+@State(Scope.Benchmark)
+public class EditDistanceBenchmark extends BenchmarkDefaults {
+
+  private static final int PAIRS = 1000;
+
+  // The costs that ArgumentSelectionDefectChecker compares argument and parameter names with.
+  private static final int CHANGE_COST = 8;
+  private static final int OPEN_GAP_COST = 8;
+  private static final int CONTINUE_GAP_COST = 1;
+
+  private ImmutableList<String> sources;
+  private ImmutableList<String> targets;
+  private final TermEditDistance termEditDistance = new TermEditDistance();
+
+  @Setup
+  public void setUp() {
+    TreeSet<String> names = new TreeSet<>();
+    Corpus corpus = Corpus.compile();
+    for (TreePath path : corpus.paths(Tree.class)) {
+      switch (path.getLeaf()) {
+        case IdentifierTree identifier -> names.add(identifier.getName().toString());
+        case MemberSelectTree memberSelect -> names.add(memberSelect.getIdentifier().toString());
+        default -> {}
+      }
+    }
+    List<String> identifiers = new ArrayList<>(names);
+    // A fixed seed, so that every run measures the same pairs.
+    Random random = new Random(42);
+    ImmutableList.Builder<String> sources = ImmutableList.builder();
+    ImmutableList.Builder<String> targets = ImmutableList.builder();
+    for (int i = 0; i < PAIRS; i++) {
+      sources.add(identifiers.get(random.nextInt(identifiers.size())));
+      targets.add(identifiers.get(random.nextInt(identifiers.size())));
+    }
+    this.sources = sources.build();
+    this.targets = targets.build();
+  }
+
+  @Benchmark
+  public int levenshtein() {
+    int sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum += LevenshteinEditDistance.getEditDistance(sources.get(i), targets.get(i));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int levenshteinBounded() {
+    int sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum +=
+          LevenshteinEditDistance.getEditDistance(
+              sources.get(i), targets.get(i), /* caseSensitive= */ true, /* maxDistance= */ 3);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int needlemanWunsch() {
+    int sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum +=
+          NeedlemanWunschEditDistance.getEditDistance(
+              sources.get(i),
+              targets.get(i),
+              /* caseSensitive= */ false,
+              CHANGE_COST,
+              OPEN_GAP_COST,
+              CONTINUE_GAP_COST);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double needlemanWunschNormalized() {
+    double sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum +=
+          NeedlemanWunschEditDistance.getNormalizedEditDistance(
+              sources.get(i),
+              targets.get(i),
+              /* caseSensitive= */ false,
+              CHANGE_COST,
+              OPEN_GAP_COST,
+              CONTINUE_GAP_COST);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int needlemanWunschReference() {
+    int sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum +=
+          referenceNeedlemanWunschDistance(
+              Ascii.toLowerCase(sources.get(i)), Ascii.toLowerCase(targets.get(i)));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double termEditDistance() {
+    double sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum += termEditDistance.getNormalizedEditDistance(sources.get(i), targets.get(i));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int reference() {
+    int sum = 0;
+    for (int i = 0; i < PAIRS; i++) {
+      sum += referenceEditDistance(sources.get(i), targets.get(i));
+    }
+    return sum;
+  }
+
+  /** Levenshtein distance, computed with a newly allocated full matrix. */
+  static int referenceEditDistance(String source, String target) {
+    int[][] distances = new int[source.length() + 1][target.length() + 1];
+    for (int i = 0; i <= source.length(); i++) {
+      distances[i][0] = i;
+    }
+    for (int j = 0; j <= target.length(); j++) {
+      distances[0][j] = j;
+    }
+    for (int i = 1; i <= source.length(); i++) {
+      for (int j = 1; j <= target.length(); j++) {
+        int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+        distances[i][j] =
+            Ints.min(
+                distances[i - 1][j - 1] + cost, distances[i - 1][j] + 1, distances[i][j - 1] + 1);
+      }
+    }
+    return distances[source.length()][target.length()];
+  }
+
+  /**
+   * Needleman-Wunsch distance with affine gap costs, computed with newly allocated full matrices
+   * for edit scripts ending in a match, a deletion, and an insertion.
+   */
+  static int referenceNeedlemanWunschDistance(String source, String target) {
+    int sourceLength = source.length();
+    int targetLength = target.length();
+    if (sourceLength == 0 || targetLength == 0) {
+      return gapCost(sourceLength + targetLength);
+    }
+    int[][] matches = new int[sourceLength + 1][targetLength + 1];
+    int[][] deletions = new int[sourceLength + 1][targetLength + 1];
+    int[][] insertions = new int[sourceLength + 1][targetLength + 1];
+    for (int i = 1; i <= sourceLength; i++) {
+      matches[i][0] = deletions[i][0] = gapCost(i);
+      insertions[i][0] = Integer.MAX_VALUE / 2;
+    }
+    for (int j = 1; j <= targetLength; j++) {
+      matches[0][j] = insertions[0][j] = gapCost(j);
+      deletions[0][j] = Integer.MAX_VALUE / 2;
+    }
+    for (int i = 1; i <= sourceLength; i++) {
+      for (int j = 1; j <= targetLength; j++) {
+        int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : CHANGE_COST;
+        matches[i][j] =
+            cost
+                + Ints.min(
+                    matches[i - 1][j - 1], insertions[i - 1][j - 1], deletions[i - 1][j - 1]);
+        deletions[i][j] =
+            Math.min(
+                matches[i - 1][j] + OPEN_GAP_COST + CONTINUE_GAP_COST,
+                deletions[i - 1][j] + CONTINUE_GAP_COST);
+        insertions[i][j] =
+            Math.min(
+                matches[i][j - 1] + OPEN_GAP_COST + CONTINUE_GAP_COST,
+                insertions[i][j - 1] + CONTINUE_GAP_COST);
+      }
+    }
+    return Ints.min(
+        matches[sourceLength][targetLength],
+        deletions[sourceLength][targetLength],
+        insertions[sourceLength][targetLength]);
+  }
+
+  private static int gapCost(int length) {
+    return length == 0 ? 0 : OPEN_GAP_COST + length * CONTINUE_GAP_COST;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.errorprone.matchers.method.MethodMatchers.anyMethod;
+import static com.google.errorprone.matchers.method.MethodMatchers.constructor;
+import static com.google.errorprone.matchers.method.MethodMatchers.instanceMethod;
+import static com.google.errorprone.matchers.method.MethodMatchers.staticMethod;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.matchers.Matcher;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.util.TreePath;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a representative set of {@link com.google.errorprone.matchers.method.MethodMatchers}
+ * against every method invocation and constructor call in the corpus.
+ */
+@State(Scope.Benchmark)
+public class MethodMatchersBenchmark extends BenchmarkDefaults {
+
+  private static final ImmutableList<Matcher<ExpressionTree>> MATCHERS =
+      ImmutableList.of(
+          staticMethod().onClass("java.lang.String").named("format"),
+          staticMethod().onClass("java.util.Objects").named("requireNonNull"),
+          instanceMethod().onDescendantOf("java.util.Collection").named("add"),
+          instanceMethod().onDescendantOf("java.util.Map").namedAnyOf("get", "put", "remove"),
+          instanceMethod()
+              .onExactClass("java.lang.StringBuilder")
+              .named("append")
+              .withParameters("char"),
+          instanceMethod().anyClass().withNameMatching(Pattern.compile("^to[A-Z].*")),
+          anyMethod().onClass("java.util.regex.Matcher").named("find"),
+          constructor().forClass("java.util.ArrayList"));
+
+  private VisitorState state;
+  private ImmutableList<TreePath> invocations;
+
+  @Setup
+  public void setUp() {
+    Corpus corpus = Corpus.compile();
+    state = corpus.state();
+    invocations =
+        ImmutableList.<TreePath>builder()
+            .addAll(corpus.paths(MethodInvocationTree.class))
+            .addAll(corpus.paths(NewClassTree.class))
+            .build();
+  }
+
+  /** Returns the number of matches, checking every matcher against every invocation. */
+  @Benchmark
+  public int matches() {
+    int count = 0;
+    for (TreePath path : invocations) {
+      VisitorState stateWithPath = state.withPath(path);
+      ExpressionTree tree = (ExpressionTree) path.getLeaf();
+      for (Matcher<ExpressionTree> matcher : MATCHERS) {
+        if (matcher.matches(tree, stateWithPath)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /** A baseline that only resolves the symbol of each invocation, which every matcher does. */
+  @Benchmark
+  public int getSymbol() {
+    int count = 0;
+    for (TreePath path : invocations) {
+      if (ASTHelpers.getSymbol(path.getLeaf()) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.CodeTransformer;
+import com.google.errorprone.CompositeCodeTransformer;
+import com.google.errorprone.FileObjects;
+import com.google.errorprone.refaster.RefasterRuleBuilderScanner;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures matching a set of Refaster rules against the corpus. The rules in {@code
+ * rules/BenchmarkRules.java} cover alternatives, generic type inference, {@code @Repeated}
+ * arguments and block templates with placeholders.
+ */
+@State(Scope.Benchmark)
+public class RefasterBenchmark extends BenchmarkDefaults {
+
+  private static final String RULES = "rules/BenchmarkRules.java";
+
+  private Corpus corpus;
+  private CodeTransformer transformer;
+  private ImmutableList<CompilationUnitTree> targets;
+
+  @Setup
+  public void setUp() {
+    List<JavaFileObject> sources = new ArrayList<>(Corpus.sources());
+    sources.add(FileObjects.forResource(RefasterBenchmark.class, RULES));
+    corpus = Corpus.compile(sources);
+    List<CodeTransformer> rules = new ArrayList<>();
+    ImmutableList.Builder<CompilationUnitTree> targets = ImmutableList.builder();
+    for (CompilationUnitTree unit : corpus.units()) {
+      if (!unit.getSourceFile().getName().endsWith(RULES)) {
+        targets.add(unit);
+        continue;
+      }
+      for (Tree typeDecl : unit.getTypeDecls()) {
+        for (Tree member : ((ClassTree) typeDecl).getMembers()) {
+          if (member instanceof ClassTree rule) {
+            rules.addAll(RefasterRuleBuilderScanner.extractRules(rule, corpus.context()));
+          }
+        }
+      }
+    }
+    transformer = CompositeCodeTransformer.compose(rules);
+    this.targets = targets.build();
+  }
+
+  /** Returns the number of matches. */
+  @Benchmark
+  public int match() {
+    int[] matches = {0};
+    for (CompilationUnitTree unit : targets) {
+      transformer.apply(new TreePath(unit), corpus.context(), description -> matches[0]++);
+    }
+    return matches[0];
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.util.TreePath;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.Types;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ASTHelpers#isSubtype} for the types of all expressions in the corpus against
+ * some commonly tested supertypes, with javac's own subtype check on the erased types as a
+ * baseline.
+ */
+@State(Scope.Benchmark)
+public class SubtypeBenchmark extends BenchmarkDefaults {
+
+  private static final ImmutableList<String> SUPERTYPES =
+      ImmutableList.of(
+          "java.lang.Object",
+          "java.lang.CharSequence",
+          "java.lang.Comparable",
+          "java.lang.Iterable",
+          "java.lang.Number",
+          "java.lang.Throwable",
+          "java.util.Collection",
+          "java.util.Map",
+          "corpus.EventBus.Event");
+
+  private VisitorState state;
+  private ImmutableList<Type> types;
+  private ImmutableList<Type> supertypes;
+
+  @Setup
+  public void setUp() {
+    Corpus corpus = Corpus.compile();
+    state = corpus.state();
+    Set<Type> types = new LinkedHashSet<>();
+    for (TreePath path : corpus.paths(ExpressionTree.class)) {
+      Type type = ASTHelpers.getType(path.getLeaf());
+      // Skip primitives, and the package and method types of qualifiers and method selects.
+      if (type != null && type.isReference()) {
+        types.add(type);
+      }
+    }
+    this.types = ImmutableList.copyOf(types);
+    ImmutableList.Builder<Type> supertypes = ImmutableList.builder();
+    for (String supertype : SUPERTYPES) {
+      supertypes.add(state.getTypeFromString(supertype));
+    }
+    this.supertypes = supertypes.build();
+  }
+
+  @Benchmark
+  public int isSubtype() {
+    int count = 0;
+    for (Type type : types) {
+      for (Type supertype : supertypes) {
+        if (ASTHelpers.isSubtype(type, supertype, state)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int javacIsSubtype() {
+    Types javacTypes = state.getTypes();
+    int count = 0;
+    for (Type type : types) {
+      for (Type supertype : supertypes) {
+        if (javacTypes.isSubtype(javacTypes.erasure(type), javacTypes.erasure(supertype))) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
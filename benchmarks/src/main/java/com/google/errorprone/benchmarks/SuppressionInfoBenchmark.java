@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.SuppressionInfo;
+import com.google.errorprone.SuppressionInfo.SuppressedState;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.DeadException;
+import com.google.errorprone.bugpatterns.OperatorPrecedence;
+import com.google.errorprone.bugpatterns.ReferenceEquality;
+import com.google.errorprone.bugpatterns.StringSplitter;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreeScanner;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.util.Name;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures tracking suppressions while scanning the corpus, and querying them for several checks at
+ * every tree, in the way that {@link com.google.errorprone.scanner.Scanner} does.
+ */
+@State(Scope.Benchmark)
+public class SuppressionInfoBenchmark extends BenchmarkDefaults {
+
+  private static final ImmutableList<BugChecker> CHECKERS =
+      ImmutableList.of(
+          new DeadException(),
+          new OperatorPrecedence(),
+          new ReferenceEquality(),
+          new StringSplitter());
+
+  private Corpus corpus;
+  private VisitorState state;
+
+  @Setup
+  public void setUp() {
+    corpus = Corpus.compile();
+    state = corpus.state();
+  }
+
+  /** Returns the number of suppressed (tree, check) pairs. */
+  @Benchmark
+  public int suppressedState() {
+    int[] suppressed = {0};
+    ImmutableSet<Name> customSuppressions = ImmutableSet.of();
+    for (CompilationUnitTree unit : corpus.units()) {
+      new TreeScanner<Void, Void>() {
+        SuppressionInfo current = SuppressionInfo.EMPTY.forCompilationUnit(unit, state);
+
+        @Override
+        public Void scan(Tree tree, Void unused) {
+          if (tree == null) {
+            return null;
+          }
+          SuppressionInfo previous = current;
+          Symbol sym = ASTHelpers.getDeclaredSymbol(tree);
+          if (sym != null) {
+            current = current.withExtendedSuppressions(sym, state, customSuppressions);
+          }
+          for (BugChecker checker : CHECKERS) {
+            if (current.suppressedState(checker, /* suppressedInGeneratedCode= */ false, state)
+                == SuppressedState.SUPPRESSED) {
+              suppressed[0]++;
+            }
+          }
+          try {
+            return super.scan(tree, null);
+          } finally {
+            current = previous;
+          }
+        }
+      }.scan(unit, null);
+    }
+    return suppressed[0];
+  }
+}
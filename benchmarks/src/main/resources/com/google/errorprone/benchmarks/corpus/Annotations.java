@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package corpus;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Annotations used throughout the corpus. */
+public final class Annotations {
+
+  /** Marks a managed component; inherited by subclasses. */
+  @Inherited
+  @Documented
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.TYPE)
+  public @interface Component {
+    String value() default "";
+  }
+
+  /** Marks a method that receives events from an {@link EventBus}. */
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(ElementType.METHOD)
+  public @interface Subscribe {
+    int priority() default 0;
+  }
+
+  /** Marks a class whose instances are never modified after construction. */
+  @Retention(RetentionPolicy.CLASS)
+  @Target(ElementType.TYPE)
+  public @interface Value {}
+
+  /** Marks a parameter, field or return value that may be null. */
+  @Retention(RetentionPolicy.CLASS)
+  @Target({ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD, ElementType.TYPE_USE})
+  public @interface MaybeNull {}
+
+  /** Marks code that is only visible for testing. */
+  @Retention(RetentionPolicy.CLASS)
+  public @interface ForTesting {}
+
+  private Annotations() {}
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package corpus;
+
+import corpus.Annotations.Component;
+import corpus.Annotations.Subscribe;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Dispatches events to subscribers registered by type. */
+@Component
+public class EventBus {
+  private static final Logger logger = Logger.getLogger(EventBus.class.getName());
+
+  /** A registered receiver of events of one type. */
+  interface Subscriber {
+    Class<?> eventType();
+
+    int priority();
+
+    void dispatch(Object event) throws Exception;
+  }
+
+  /** Handles exceptions thrown by subscribers. */
+  @FunctionalInterface
+  public interface ExceptionHandler {
+    void handle(Throwable exception, Object event);
+  }
+
+  /** Base class for events, carrying a sequence number. */
+  public abstract static class Event {
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private final long id = sequence.incrementAndGet();
+
+    public long id() {
+      return id;
+    }
+  }
+
+  /** Published when an item is added to an {@link Inventory}. */
+  public static final class ItemAdded extends Event {
+    final Inventory.Item item;
+
+    ItemAdded(Inventory.Item item) {
+      this.item = item;
+    }
+  }
+
+  /** Published when no subscriber handled an event. */
+  public static final class DeadEvent extends Event {
+    final Object event;
+
+    DeadEvent(Object event) {
+      this.event = event;
+    }
+  }
+
+  private final Map<Class<?>, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final Executor executor;
+  private final ExceptionHandler exceptionHandler;
+
+  public EventBus() {
+    this(Runnable::run, (e, event) -> logger.log(Level.WARNING, "failed to dispatch " + event, e));
+  }
+
+  public EventBus(Executor executor, ExceptionHandler exceptionHandler) {
+    this.executor = executor;
+    this.exceptionHandler = exceptionHandler;
+  }
+
+  /** Registers all methods of the listener annotated with {@link Subscribe}. */
+  public void register(Object listener) {
+    for (Method method : listener.getClass().getDeclaredMethods()) {
+      Subscribe subscribe = method.getAnnotation(Subscribe.class);
+      if (subscribe == null) {
+        continue;
+      }
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      if (parameterTypes.length != 1) {
+        throw new IllegalArgumentException(
+            "subscriber method " + method + " must have exactly one parameter");
+      }
+      method.setAccessible(true);
+      add(new ReflectiveSubscriber(listener, method, parameterTypes[0], subscribe.priority()));
+    }
+  }
+
+  /** Registers a subscriber for events of the given type. */
+  public <E> void subscribe(Class<E> type, Consumer<? super E> consumer) {
+    add(
+        new Subscriber() {
+          @Override
+          public Class<?> eventType() {
+            return type;
+          }
+
+          @Override
+          public int priority() {
+            return 0;
+          }
+
+          @Override
+          public void dispatch(Object event) {
+            consumer.accept(type.cast(event));
+          }
+        });
+  }
+
+  private void add(Subscriber subscriber) {
+    List<Subscriber> list =
+        subscribers.computeIfAbsent(subscriber.eventType(), k -> new CopyOnWriteArrayList<>());
+    list.add(subscriber);
+    list.sort(Comparator.comparingInt(Subscriber::priority).reversed());
+  }
+
+  /** Posts an event to all subscribers for its type and supertypes. */
+  public void post(Object event) {
+    List<Subscriber> matching = new ArrayList<>();
+    for (Class<?> type = event.getClass(); type != null; type = type.getSuperclass()) {
+      List<Subscriber> forType = subscribers.get(type);
+      if (forType != null) {
+        matching.addAll(forType);
+      }
+      for (Class<?> iface : type.getInterfaces()) {
+        List<Subscriber> forInterface = subscribers.get(iface);
+        if (forInterface != null) {
+          matching.addAll(forInterface);
+        }
+      }
+    }
+    if (matching.isEmpty()) {
+      if (!(event instanceof DeadEvent)) {
+        post(new DeadEvent(event));
+      }
+      return;
+    }
+    for (Subscriber subscriber : matching) {
+      executor.execute(
+          () -> {
+            try {
+              subscriber.dispatch(event);
+            } catch (InvocationTargetException e) {
+              exceptionHandler.handle(e.getCause(), event);
+            } catch (Exception e) {
+              exceptionHandler.handle(e, event);
+            }
+          });
+    }
+  }
+
+  int subscriberCount() {
+    int count = 0;
+    for (List<Subscriber> list : subscribers.values()) {
+      count += list.size();
+    }
+    return count;
+  }
+
+  private static final class ReflectiveSubscriber implements Subscriber {
+    private final Object target;
+    private final Method method;
+    private final Class<?> eventType;
+    private final int priority;
+
+    ReflectiveSubscriber(Object target, Method method, Class<?> eventType, int priority) {
+      this.target = target;
+      this.method = method;
+      this.eventType = eventType;
+      this.priority = priority;
+    }
+
+    @Override
+    public Class<?> eventType() {
+      return eventType;
+    }
+
+    @Override
+    public int priority() {
+      return priority;
+    }
+
+    @Override
+    public void dispatch(Object event) throws Exception {
+      synchronized (target) {
+        method.invoke(target, event);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+  }
+
+  /** Keeps a running count of the items added to an inventory. */
+  @Component("listener")
+  static class InventoryListener {
+    private int added;
+
+    @Subscribe(priority = 1)
+    void onItemAdded(ItemAdded event) {
+      added += event.item.quantity();
+    }
+
+    @Subscribe
+    void onDeadEvent(DeadEvent event) {
+      logger.fine("unhandled event " + event.event);
+    }
+
+    int added() {
+      return added;
+    }
+  }
+
+  /** A listener that also audits events; inherits the {@link Component} annotation. */
+  @SuppressWarnings("unused")
+  static class AuditingListener extends InventoryListener {
+    private final List<Long> seen = new ArrayList<>();
+
+    @Subscribe
+    void onEvent(Event event) {
+      seen.add(event.id());
+    }
+  }
+}
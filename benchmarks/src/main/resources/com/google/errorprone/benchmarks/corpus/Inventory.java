@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package corpus;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toList;
+
+import corpus.Annotations.Component;
+import corpus.Annotations.MaybeNull;
+import corpus.Annotations.Value;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/** A warehouse inventory, with items grouped by category. */
+@Component("inventory")
+public class Inventory implements Iterable<Inventory.Item> {
+
+  /** The kinds of items the warehouse stocks. */
+  public enum Category {
+    HARDWARE,
+    GARDEN,
+    KITCHEN,
+    TOYS;
+
+    String displayName() {
+      String name = name();
+      return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+  }
+
+  /** A stocked item. */
+  @Value
+  public record Item(String sku, String name, Category category, BigDecimal price, int quantity) {
+    public Item {
+      Objects.requireNonNull(sku, "sku");
+      if (quantity < 0) {
+        throw new IllegalArgumentException("negative quantity for " + sku + ": " + quantity);
+      }
+    }
+
+    BigDecimal value() {
+      return price.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    Item withQuantity(int newQuantity) {
+      return new Item(sku, name, category, price, newQuantity);
+    }
+  }
+
+  private final Map<String, Item> items = new HashMap<>();
+  private final List<String> log = new ArrayList<>();
+
+  public void add(Item item) {
+    Item previous = items.put(item.sku(), item);
+    if (previous != null) {
+      log.add(
+          String.format(
+              "replaced %s (%d units) with %d units",
+              item.sku(), previous.quantity(), item.quantity()));
+    } else {
+      log.add(String.format("added %s", item.sku()));
+    }
+  }
+
+  public boolean remove(String sku, int quantity) {
+    Item item = items.get(sku);
+    if (item == null || item.quantity() < quantity) {
+      return false;
+    }
+    if (item.quantity() == quantity) {
+      items.remove(sku);
+    } else {
+      items.put(sku, item.withQuantity(item.quantity() - quantity));
+    }
+    log.add(String.format("removed %d units of %s", quantity, sku));
+    return true;
+  }
+
+  public @MaybeNull Item find(String sku) {
+    return items.get(sku);
+  }
+
+  public Optional<Item> cheapest(Category category) {
+    return items.values().stream()
+        .filter(item -> item.category() == category)
+        .min(Comparator.comparing(Item::price).thenComparing(Item::sku));
+  }
+
+  public List<Item> matching(Predicate<? super Item> predicate) {
+    List<Item> result = new ArrayList<>();
+    for (Item item : items.values()) {
+      if (predicate.test(item)) {
+        result.add(item);
+      }
+    }
+    result.sort(Comparator.comparing(Item::sku));
+    return result;
+  }
+
+  public Map<Category, Integer> unitsByCategory() {
+    return items.values().stream()
+        .collect(groupingBy(Item::category, TreeMap::new, summingInt(Item::quantity)));
+  }
+
+  public BigDecimal totalValue() {
+    BigDecimal total = BigDecimal.ZERO;
+    for (Item item : items.values()) {
+      total = total.add(item.value());
+    }
+    return total.setScale(2, RoundingMode.HALF_EVEN);
+  }
+
+  public List<String> lowStock(int threshold) {
+    return items.values().stream()
+        .filter(item -> item.quantity() < threshold)
+        .map(Item::sku)
+        .sorted()
+        .collect(toList());
+  }
+
+  public String report() {
+    StringBuilder sb = new StringBuilder();
+    Map<Category, Integer> units = unitsByCategory();
+    for (Map.Entry<Category, Integer> entry : units.entrySet()) {
+      sb.append(String.format("%-10s %6d%n", entry.getKey().displayName(), entry.getValue()));
+    }
+    sb.append(String.format("total value: %s%n", totalValue()));
+    return sb.toString();
+  }
+
+  public List<String> log() {
+    return Collections.unmodifiableList(log);
+  }
+
+  @Override
+  public Iterator<Item> iterator() {
+    List<Item> sorted = new ArrayList<>(items.values());
+    sorted.sort(Comparator.comparing(Item::category).thenComparing(Item::name));
+    return sorted.iterator();
+  }
+
+  int size() {
+    return items.size();
+  }
+
+  static Inventory of(Item... items) {
+    Inventory inventory = new Inventory();
+    for (Item item : items) {
+      inventory.add(item);
+    }
+    return inventory;
+  }
+
+  static String describe(Category category) {
+    switch (category) {
+      case HARDWARE:
+        return "tools and fixings";
+      case GARDEN:
+        return "plants and outdoor equipment";
+      case KITCHEN:
+        return "cookware";
+      default:
+        return "other";
+    }
+  }
+}
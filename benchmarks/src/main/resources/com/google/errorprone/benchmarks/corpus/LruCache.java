@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package corpus;
+
+import corpus.Annotations.ForTesting;
+import corpus.Annotations.MaybeNull;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/** A bounded cache that evicts the least recently used entries. */
+public class LruCache<K, V> extends AbstractMap<K, V> {
+
+  /** Receives entries evicted from the cache. */
+  public interface RemovalListener<K, V> {
+    void onRemoval(K key, V value, Cause cause);
+  }
+
+  /** Why an entry was removed. */
+  public enum Cause {
+    EXPLICIT,
+    REPLACED,
+    SIZE
+  }
+
+  /** Hit and miss counts. */
+  public static final class Stats {
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public long hits() {
+      return hits;
+    }
+
+    public long misses() {
+      return misses;
+    }
+
+    public long evictions() {
+      return evictions;
+    }
+
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "Stats{hits=%d, misses=%d, evictions=%d, hitRate=%.2f}",
+          hits, misses, evictions, hitRate());
+    }
+  }
+
+  private final int maximumSize;
+  private final Map<K, V> entries;
+  private final RemovalListener<? super K, ? super V> listener;
+  private final Stats stats = new Stats();
+
+  public LruCache(int maximumSize) {
+    this(maximumSize, (k, v, c) -> {});
+  }
+
+  @SuppressWarnings("serial")
+  public LruCache(int maximumSize, RemovalListener<? super K, ? super V> listener) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+    this.listener = listener;
+    this.entries =
+        new LinkedHashMap<K, V>(16, 0.75f, /* accessOrder= */ true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > LruCache.this.maximumSize) {
+              stats.evictions++;
+              LruCache.this.listener.onRemoval(eldest.getKey(), eldest.getValue(), Cause.SIZE);
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  @Override
+  public @MaybeNull V get(Object key) {
+    V value = entries.get(key);
+    if (value == null) {
+      stats.misses++;
+    } else {
+      stats.hits++;
+    }
+    return value;
+  }
+
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value == null) {
+      value = loader.apply(key);
+      put(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    V previous = entries.put(key, value);
+    if (previous != null && previous != value) {
+      listener.onRemoval(key, previous, Cause.REPLACED);
+    }
+    return previous;
+  }
+
+  @Override
+  public V remove(Object key) {
+    V previous = entries.remove(key);
+    if (previous != null) {
+      @SuppressWarnings("unchecked")
+      K k = (K) key;
+      listener.onRemoval(k, previous, Cause.EXPLICIT);
+    }
+    return previous;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return Collections.unmodifiableSet(entries.entrySet());
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  public Stats stats() {
+    return stats;
+  }
+
+  @ForTesting
+  int maximumSize() {
+    return maximumSize;
+  }
+
+  /** Iterates over the keys from least to most recently used. */
+  public Iterator<K> keysByAge() {
+    Iterator<K> delegate = entries.keySet().iterator();
+    return new Iterator<K>() {
+      @Override
+      public boolean hasNext() {
+        return delegate.hasNext();
+      }
+
+      @Override
+      public K next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return delegate.next();
+      }
+    };
+  }
+
+  /** A cache of string lengths, used by the text utilities. */
+  static final class LengthCache extends LruCache<String, Integer> {
+    LengthCache() {
+      super(128);
+    }
+
+    int length(String s) {
+      return computeIfAbsent(s, String::length);
+    }
+  }
+
+  @Deprecated
+  public void invalidateAll() {
+    for (K key : Set.copyOf(entries.keySet())) {
+      remove(key);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package corpus;
+
+import corpus.Annotations.Value;
+import java.util.Arrays;
+import java.util.Random;
+
+/** An immutable dense matrix of doubles. */
+@Value
+public final class Matrix {
+  private final int rows;
+  private final int columns;
+  private final double[] values;
+
+  private Matrix(int rows, int columns, double[] values) {
+    this.rows = rows;
+    this.columns = columns;
+    this.values = values;
+  }
+
+  public static Matrix zeros(int rows, int columns) {
+    return new Matrix(rows, columns, new double[rows * columns]);
+  }
+
+  public static Matrix identity(int size) {
+    double[] values = new double[size * size];
+    for (int i = 0; i < size; i++) {
+      values[i * size + i] = 1;
+    }
+    return new Matrix(size, size, values);
+  }
+
+  public static Matrix random(int rows, int columns, long seed) {
+    Random random = new Random(seed);
+    double[] values = new double[rows * columns];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble();
+    }
+    return new Matrix(rows, columns, values);
+  }
+
+  public double get(int row, int column) {
+    checkIndex(row, column);
+    return values[row * columns + column];
+  }
+
+  public Matrix with(int row, int column, double value) {
+    checkIndex(row, column);
+    double[] copy = values.clone();
+    copy[row * columns + column] = value;
+    return new Matrix(rows, columns, copy);
+  }
+
+  private void checkIndex(int row, int column) {
+    if (row < 0 || row >= rows || column < 0 || column >= columns) {
+      throw new IndexOutOfBoundsException(
+          String.format("(%d, %d) is outside a %dx%d matrix", row, column, rows, columns));
+    }
+  }
+
+  public Matrix plus(Matrix other) {
+    checkSameShape(other);
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i] + other.values[i];
+    }
+    return new Matrix(rows, columns, result);
+  }
+
+  public Matrix times(double scalar) {
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i] * scalar;
+    }
+    return new Matrix(rows, columns, result);
+  }
+
+  public Matrix times(Matrix other) {
+    if (columns != other.rows) {
+      throw new IllegalArgumentException(
+          "cannot multiply " + shape() + " by " + other.shape());
+    }
+    double[] result = new double[rows * other.columns];
+    for (int i = 0; i < rows; i++) {
+      for (int k = 0; k < columns; k++) {
+        double a = values[i * columns + k];
+        if (a == 0) {
+          continue;
+        }
+        for (int j = 0; j < other.columns; j++) {
+          result[i * other.columns + j] += a * other.values[k * other.columns + j];
+        }
+      }
+    }
+    return new Matrix(rows, other.columns, result);
+  }
+
+  public Matrix transpose() {
+    double[] result = new double[values.length];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        result[j * rows + i] = values[i * columns + j];
+      }
+    }
+    return new Matrix(columns, rows, result);
+  }
+
+  public double trace() {
+    double sum = 0;
+    for (int i = 0; i < Math.min(rows, columns); i++) {
+      sum += values[i * columns + i];
+    }
+    return sum;
+  }
+
+  public double frobeniusNorm() {
+    double sum = 0;
+    for (double value : values) {
+      sum += value * value;
+    }
+    return Math.sqrt(sum);
+  }
+
+  private void checkSameShape(Matrix other) {
+    if (rows != other.rows || columns != other.columns) {
+      throw new IllegalArgumentException(shape() + " != " + other.shape());
+    }
+  }
+
+  public String shape() {
+    return rows + "x" + columns;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Matrix)) {
+      return false;
+    }
+    Matrix that = (Matrix) obj;
+    return rows == that.rows && columns == that.columns && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * rows + columns) + Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < rows; i++) {
+      sb.append(i == 0 ? "[" : " ");
+      for (int j = 0; j < columns; j++) {
+        sb.append(String.format("%8.3f", values[i * columns + j]));
+      }
+      sb.append(i == rows - 1 ? "]" : "\n");
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package corpus;
+
+import corpus.Annotations.MaybeNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Utilities for wrapping, padding and tokenizing text. */
+public final class TextFormatter {
+  private static final Pattern WORD = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+  private final int width;
+  private final Locale locale;
+
+  public TextFormatter(int width) {
+    this(width, Locale.ROOT);
+  }
+
+  public TextFormatter(int width, Locale locale) {
+    this.width = width;
+    this.locale = locale;
+  }
+
+  /** Wraps the text at word boundaries so that no line exceeds the width. */
+  public List<String> wrap(String text) {
+    List<String> lines = new ArrayList<>();
+    StringBuilder line = new StringBuilder();
+    for (String word : text.split("\\s+")) {
+      if (word.isEmpty()) {
+        continue;
+      }
+      if (line.length() > 0 && line.length() + 1 + word.length() > width) {
+        lines.add(line.toString());
+        line.setLength(0);
+      }
+      if (line.length() > 0) {
+        line.append(' ');
+      }
+      line.append(word);
+    }
+    if (line.length() > 0) {
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+
+  public String padRight(String s, char padding) {
+    if (s.length() >= width) {
+      return s;
+    }
+    char[] pad = new char[width - s.length()];
+    Arrays.fill(pad, padding);
+    return s + new String(pad);
+  }
+
+  public String center(String s) {
+    int total = width - s.length();
+    if (total <= 0) {
+      return s;
+    }
+    int left = total / 2;
+    return " ".repeat(left) + s + " ".repeat(total - left);
+  }
+
+  /** Returns the identifiers in the text, in order of appearance. */
+  public static List<String> identifiers(String text) {
+    List<String> result = new ArrayList<>();
+    Matcher matcher = WORD.matcher(text);
+    while (matcher.find()) {
+      result.add(matcher.group());
+    }
+    return result;
+  }
+
+  /** Converts lowerCamelCase to UPPER_UNDERSCORE. */
+  public static String toConstantCase(String camel) {
+    StringBuilder sb = new StringBuilder(camel.length() + 4);
+    for (int i = 0; i < camel.length(); i++) {
+      char c = camel.charAt(i);
+      if (Character.isUpperCase(c) && i > 0) {
+        sb.append('_');
+      }
+      sb.append(Character.toUpperCase(c));
+    }
+    return sb.toString();
+  }
+
+  /** Converts UPPER_UNDERSCORE to lowerCamelCase. */
+  public static String toCamelCase(String constant) {
+    StringBuilder sb = new StringBuilder(constant.length());
+    boolean upper = false;
+    for (char c : constant.toCharArray()) {
+      if (c == '_') {
+        upper = true;
+      } else if (upper) {
+        sb.append(Character.toUpperCase(c));
+        upper = false;
+      } else {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /** Replaces {name} placeholders with the given values, in order. */
+  public String interpolate(String template, Object... values) {
+    Matcher matcher = PLACEHOLDER.matcher(template);
+    StringBuilder sb = new StringBuilder();
+    int i = 0;
+    while (matcher.find()) {
+      String replacement =
+          i < values.length ? String.valueOf(values[i++]) : "{" + matcher.group(1) + "}";
+      matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+    }
+    matcher.appendTail(sb);
+    return sb.toString();
+  }
+
+  public String formatNumber(double value) {
+    return String.format(locale, "%,.2f", value);
+  }
+
+  public String formatRow(String label, long count, double ratio) {
+    return String.format(locale, "%s: %d (%.1f%%)", label, count, ratio * 100);
+  }
+
+  public static @MaybeNull String emptyToNull(@MaybeNull String s) {
+    return s == null || s.isEmpty() ? null : s;
+  }
+
+  public static boolean isBlank(@MaybeNull String s) {
+    return s == null || s.trim().isEmpty();
+  }
+
+  public static int countOccurrences(String haystack, String needle) {
+    if (needle.isEmpty()) {
+      return 0;
+    }
+    int count = 0;
+    for (int i = haystack.indexOf(needle); i >= 0; i = haystack.indexOf(needle, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  public static String reverseWords(String s) {
+    String[] words = s.trim().split(" ");
+    StringBuilder sb = new StringBuilder();
+    for (int i = words.length - 1; i >= 0; i--) {
+      sb.append(words[i]);
+      if (i > 0) {
+        sb.append(' ');
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "TextFormatter{width=" + width + ", locale=" + locale + "}";
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rules;
+
+import com.google.errorprone.refaster.Refaster;
+import com.google.errorprone.refaster.annotation.AfterTemplate;
+import com.google.errorprone.refaster.annotation.BeforeTemplate;
+import com.google.errorprone.refaster.annotation.Placeholder;
+import com.google.errorprone.refaster.annotation.Repeated;
+import java.util.Collection;
+import java.util.Iterator;
+
+/** Refaster rules exercising the main features of template matching, for benchmarking. */
+public final class BenchmarkRules {
+
+  /** Alternatives, via {@code Refaster.anyOf}. */
+  static final class StringIsEmpty {
+    @BeforeTemplate
+    boolean before(String s) {
+      return Refaster.anyOf(s.length() == 0, 0 == s.length());
+    }
+
+    @AfterTemplate
+    boolean after(String s) {
+      return s.isEmpty();
+    }
+  }
+
+  /** Type inference for a generic template. */
+  static final class CollectionIsEmpty {
+    @BeforeTemplate
+    <E> boolean before(Collection<E> collection) {
+      return collection.size() == 0;
+    }
+
+    @AfterTemplate
+    <E> boolean after(Collection<E> collection) {
+      return collection.isEmpty();
+    }
+  }
+
+  /** A receiver that is a supertype of many argument types. */
+  static final class CharSequenceNotEmpty {
+    @BeforeTemplate
+    boolean before(CharSequence s) {
+      return s.length() > 0;
+    }
+
+    @AfterTemplate
+    boolean after(CharSequence s) {
+      return !s.isEmpty();
+    }
+  }
+
+  /** Varargs, via {@code @Repeated}. */
+  static final class StringFormatted {
+    @BeforeTemplate
+    String before(String template, @Repeated Object args) {
+      return String.format(template, args);
+    }
+
+    @AfterTemplate
+    String after(String template, @Repeated Object args) {
+      return template.formatted(args);
+    }
+  }
+
+  /** A block template with a placeholder. */
+  abstract static class IteratorRemoveIf {
+    @BeforeTemplate
+    <E> void before(Collection<E> collection) {
+      Iterator<E> iterator = collection.iterator();
+      while (iterator.hasNext()) {
+        if (shouldRemove(iterator.next())) {
+          iterator.remove();
+        }
+      }
+    }
+
+    @AfterTemplate
+    <E> void after(Collection<E> collection) {
+      collection.removeIf(e -> shouldRemove(e));
+    }
+
+    @Placeholder
+    abstract <E> boolean shouldRemove(E e);
+  }
+
+  private BenchmarkRules() {}
+}
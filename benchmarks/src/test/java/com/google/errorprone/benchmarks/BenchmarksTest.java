@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.benchmarks;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Runs each benchmark once, so that the build catches benchmarks that no longer work, and checks
+ * that the implementations measured against each other agree.
+ */
+@RunWith(JUnit4.class)
+public class BenchmarksTest {
+
+  @Test
+  public void analysis() {
+    AnalysisBenchmark benchmark = new AnalysisBenchmark();
+    benchmark.checks = "StringSplitter+ReferenceEquality";
+    benchmark.setUp();
+    assertThat(benchmark.analyze()).isAtLeast(0);
+  }
+
+  @Test
+  public void annotation() {
+    AnnotationBenchmark benchmark = new AnnotationBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.hasAnnotation()).isGreaterThan(0);
+  }
+
+  @Test
+  public void appliedFix() {
+    AppliedFixBenchmark benchmark = new AppliedFixBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.applySingleFixes()).isGreaterThan(0);
+    assertThat(benchmark.applyMergedFixes()).isGreaterThan(0);
+  }
+
+  @Test
+  public void editDistance() {
+    EditDistanceBenchmark benchmark = new EditDistanceBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.levenshtein()).isEqualTo(benchmark.reference());
+    assertThat(benchmark.needlemanWunsch()).isEqualTo(benchmark.needlemanWunschReference());
+    assertThat(benchmark.levenshteinBounded()).isGreaterThan(0);
+    assertThat(benchmark.needlemanWunschNormalized()).isGreaterThan(0.0);
+    assertThat(benchmark.termEditDistance()).isGreaterThan(0.0);
+  }
+
+  @Test
+  public void methodMatchers() {
+    MethodMatchersBenchmark benchmark = new MethodMatchersBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.matches()).isGreaterThan(0);
+    assertThat(benchmark.getSymbol()).isGreaterThan(0);
+  }
+
+  @Test
+  public void refaster() {
+    RefasterBenchmark benchmark = new RefasterBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.match()).isGreaterThan(0);
+  }
+
+  @Test
+  public void subtype() {
+    SubtypeBenchmark benchmark = new SubtypeBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.isSubtype()).isEqualTo(benchmark.javacIsSubtype());
+  }
+
+  @Test
+  public void suppressionInfo() {
+    SuppressionInfoBenchmark benchmark = new SuppressionInfoBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.suppressedState()).isAtLeast(0);
+  }
+}
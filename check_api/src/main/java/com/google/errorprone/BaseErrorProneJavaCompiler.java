@@ -68,27 +68,32 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
       Iterable<String> classes,
       Iterable<? extends JavaFileObject> compilationUnits) {
     ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(options);
-    ImmutableList<String> javacOpts = errorProneOptions.getRemainingArgs();
-    javacOpts = defaultToLatestSupportedLanguageLevel(javacOpts);
-    javacOpts = setCompilePolicyToByFile(javacOpts);
-    javacOpts = setShouldStopIfErrorPolicyToFlow(javacOpts);
-    javacOpts = setAddTypeAnnotationsToSymbol(javacOpts);
     JavacTask task =
         (JavacTask)
             javacTool.getTask(
-                out, fileManager, diagnosticListener, javacOpts, classes, compilationUnits);
+                out,
+                fileManager,
+                diagnosticListener,
+                javacOptions(errorProneOptions),
+                classes,
+                compilationUnits);
     addTaskListener(task, scannerSupplier, errorProneOptions);
     return task;
   }
 
+  /** Returns the options to pass to javac for a compilation with the given Error Prone options. */
+  static ImmutableList<String> javacOptions(ErrorProneOptions errorProneOptions) {
+    ImmutableList<String> javacOpts = errorProneOptions.getRemainingArgs();
+    javacOpts = defaultToLatestSupportedLanguageLevel(javacOpts);
+    javacOpts = setCompilePolicyToByFile(javacOpts, errorProneOptions.reducedMemory());
+    javacOpts = setShouldStopIfErrorPolicyToFlow(javacOpts);
+    javacOpts = setAddTypeAnnotationsToSymbol(javacOpts);
+    return javacOpts;
+  }
+
   static void addTaskListener(
       JavacTask javacTask, ScannerSupplier scannerSupplier, ErrorProneOptions errorProneOptions) {
-    Context context = ((BasicJavacTask) javacTask).getContext();
-    setupMessageBundle(context);
-    Options options = Options.instance(context);
-    checkCompilePolicy(options.get("compilePolicy"));
-    checkShouldStopIfErrorPolicy(options.get("should-stop.ifError"));
-    checkAddTypeAnnotationsToSymbol(options.get("addTypeAnnotationsToSymbol"));
+    Context context = prepareTask(javacTask, errorProneOptions);
     RefactoringCollection[] refactoringCollection = {null};
     javacTask.addTaskListener(
         ErrorProneAnalyzer.createAnalyzer(
@@ -99,6 +104,20 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
     }
   }
 
+  /**
+   * Checks that a task created with {@link #javacOptions} can be analyzed by Error Prone, and sets
+   * up its diagnostic messages. Returns the task's context.
+   */
+  static Context prepareTask(JavacTask javacTask, ErrorProneOptions errorProneOptions) {
+    Context context = ((BasicJavacTask) javacTask).getContext();
+    setupMessageBundle(context);
+    Options options = Options.instance(context);
+    checkCompilePolicy(options.get("compilePolicy"), errorProneOptions.reducedMemory());
+    checkShouldStopIfErrorPolicy(options.get("should-stop.ifError"));
+    checkAddTypeAnnotationsToSymbol(options.get("addTypeAnnotationsToSymbol"));
+    return context;
+  }
+
   @Override
   public StandardJavaFileManager getStandardFileManager(
       DiagnosticListener<? super JavaFileObject> diagnosticListener,
@@ -161,15 +180,29 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
   /**
    * Throws InvalidCommandLineOptionException if the {@code -XDcompilePolicy} flag is set to an
    * unsupported value
+   *
+   * <p>In reduced-memory mode ({@code -XepReducedMemory}) the {@code bytodo} policy is also
+   * supported, since {@link ErrorProneAnalyzer} attributes the remaining classes of a compilation
+   * unit itself before any of them are lowered.
    */
-  static void checkCompilePolicy(@Nullable String compilePolicy) {
+  static void checkCompilePolicy(@Nullable String compilePolicy, boolean reducedMemory) {
     if (compilePolicy == null) {
+      if (reducedMemory) {
+        return;
+      }
       throw new InvalidCommandLineOptionException(
           "The default compilation policy (by-todo) is not supported by Error Prone,"
               + " pass -XDcompilePolicy=simple instead");
     }
     switch (compilePolicy) {
       case "byfile", "simple" -> {}
+      case "bytodo" -> {
+        if (!reducedMemory) {
+          throw new InvalidCommandLineOptionException(
+              "-XDcompilePolicy=bytodo is not supported by Error Prone,"
+                  + " pass -XDcompilePolicy=simple or -XepReducedMemory instead");
+        }
+      }
       default ->
           throw new InvalidCommandLineOptionException(
               String.format(
@@ -183,16 +216,24 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
    * Sets javac's {@code -XDcompilePolicy} flag to ensure that all classes in a file are attributed
    * before any of them are lowered. Error Prone depends on this behavior when analyzing files that
    * contain multiple top-level classes.
+   *
+   * <p>In reduced-memory mode the {@code byfile} policy is used instead of {@code simple}, so that
+   * javac lowers and generates each file as soon as it has been analyzed rather than keeping every
+   * attributed tree in the compilation alive until code generation.
    */
-  private static ImmutableList<String> setCompilePolicyToByFile(ImmutableList<String> args) {
+  private static ImmutableList<String> setCompilePolicyToByFile(
+      ImmutableList<String> args, boolean reducedMemory) {
     for (String arg : args) {
       if (arg.startsWith("-XDcompilePolicy")) {
         String value = arg.substring(arg.indexOf('=') + 1);
-        checkCompilePolicy(value);
+        checkCompilePolicy(value, reducedMemory);
         return args; // don't do anything if a valid policy is already set
       }
     }
-    return ImmutableList.<String>builder().addAll(args).add("-XDcompilePolicy=simple").build();
+    return ImmutableList.<String>builder()
+        .addAll(args)
+        .add(reducedMemory ? "-XDcompilePolicy=byfile" : "-XDcompilePolicy=simple")
+        .build();
   }
 
   private static void checkShouldStopIfErrorPolicy(String value) {
@@ -251,9 +292,16 @@ public class BaseErrorProneJavaCompiler implements JavaCompiler {
     }
   }
 
+  private static final Context.Key<ResourceBundle> messageBundleKey = new Context.Key<>();
+
   /** Registers our message bundle. */
   public static void setupMessageBundle(Context context) {
+    if (context.get(messageBundleKey) != null) {
+      // The context is being reused for another compilation, and already has the bundle.
+      return;
+    }
     ResourceBundle bundle = ResourceBundle.getBundle("com.google.errorprone.errors");
+    context.put(messageBundleKey, bundle);
     JavacMessages.instance(context).add(l -> bundle);
   }
 }
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.BugPattern.CostClass;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.bugpatterns.BugChecker;
 import java.io.Serializable;
@@ -84,6 +85,15 @@ public final class BugCheckerInfo implements Serializable {
   /** True if the check can be disabled using command-line flags. */
   private final boolean disableable;
 
+  /** How expensive the check is to run. Corresponds to the {@code cost} attribute. */
+  private final CostClass cost;
+
+  /**
+   * The types or packages a compilation unit must refer to for the check to run. Corresponds to
+   * the {@code requiredReferences} attribute.
+   */
+  private final ImmutableSet<String> requiredReferences;
+
   public static BugCheckerInfo create(Class<? extends BugChecker> checker) {
     BugPattern pattern =
         checkNotNull(
@@ -120,7 +130,9 @@ public final class BugCheckerInfo implements Serializable {
             .filter(a -> !isSuppressWarnings(a))
             .collect(toImmutableSet()),
         ImmutableSet.copyOf(pattern.tags()),
-        pattern.disableable());
+        pattern.disableable(),
+        pattern.cost(),
+        ImmutableSet.copyOf(pattern.requiredReferences()));
   }
 
   private BugCheckerInfo(
@@ -133,7 +145,9 @@ public final class BugCheckerInfo implements Serializable {
       boolean supportsSuppressWarnings,
       Set<Class<? extends Annotation>> customSuppressionAnnotations,
       ImmutableSet<String> tags,
-      boolean disableable) {
+      boolean disableable,
+      CostClass cost,
+      ImmutableSet<String> requiredReferences) {
     this.checker = checker;
     this.canonicalName = canonicalName;
     this.allNames = allNames;
@@ -144,6 +158,8 @@ public final class BugCheckerInfo implements Serializable {
     this.customSuppressionAnnotations = customSuppressionAnnotations;
     this.tags = tags;
     this.disableable = disableable;
+    this.cost = cost;
+    this.requiredReferences = requiredReferences;
   }
 
   private static boolean isSuppressWarnings(Class<? extends Annotation> annotation) {
@@ -169,7 +185,9 @@ public final class BugCheckerInfo implements Serializable {
         supportsSuppressWarnings,
         customSuppressionAnnotations,
         tags,
-        disableable);
+        disableable,
+        cost,
+        requiredReferences);
   }
 
   private static @Nullable String createLinkUrl(String canonicalName, BugPattern pattern) {
@@ -231,6 +249,14 @@ public final class BugCheckerInfo implements Serializable {
     return disableable;
   }
 
+  public CostClass cost() {
+    return cost;
+  }
+
+  public ImmutableSet<String> requiredReferences() {
+    return requiredReferences;
+  }
+
   public ImmutableSet<String> getTags() {
     return tags;
   }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.apply.FileDestination;
+import com.google.errorprone.apply.FsFileDestination;
+import com.google.errorprone.apply.PatchFileDestination;
+import com.google.errorprone.apply.SourceFile;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.source.util.JavacTask;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * Applies the fixes suggested by Error Prone to many compilation targets at once, such as all of
+ * the targets in a repository, outside of a build.
+ *
+ * <p>Targets are analyzed in parallel, each in its own javac task. The refactored files are
+ * collected as the targets complete, and only written once every target has been analyzed: in
+ * place with {@code -XepPatchLocation:IN_PLACE}, or otherwise as a single patch file in the patch
+ * location. If a file belongs to several targets whose analyses change it in different ways, it's
+ * left unchanged and reported as a conflict.
+ *
+ * <pre>{@code
+ * BulkRefactoring.Result result =
+ *     BulkRefactoring.create(
+ *             scannerSupplier,
+ *             ImmutableList.of("-XepPatchChecks:MissingOverride", "-XepPatchLocation:IN_PLACE"),
+ *             Runtime.getRuntime().availableProcessors())
+ *         .run(targets);
+ * }</pre>
+ */
+public final class BulkRefactoring {
+
+  private static final Logger logger = Logger.getLogger(BulkRefactoring.class.getName());
+
+  /** The sources of a compilation target, and the classpath and javac options to compile with. */
+  public record Target(
+      ImmutableList<Path> sources, ImmutableList<Path> classpath, ImmutableList<String> options) {
+
+    /**
+     * Returns a target for the given sources, compiled against the given classpath. Sources may be
+     * Java files or directories, which are searched recursively for Java files.
+     */
+    public static Target of(Iterable<Path> sources, Iterable<Path> classpath) {
+      return new Target(
+          ImmutableList.copyOf(sources), ImmutableList.copyOf(classpath), ImmutableList.of());
+    }
+  }
+
+  /** The outcome of a bulk refactoring. */
+  public record Result(
+      int targets,
+      ImmutableList<String> failures,
+      int filesAnalyzed,
+      ImmutableSortedSet<Path> changedFiles,
+      ImmutableSortedSet<Path> conflictingFiles,
+      Optional<Path> patchFile,
+      Duration elapsed) {
+
+    /** Returns the number of source files analyzed per second. */
+    public double filesPerSecond() {
+      return elapsed.isZero() ? 0 : filesAnalyzed * 1e9 / elapsed.toNanos();
+    }
+  }
+
+  private final ScannerSupplier scannerSupplier;
+  private final ErrorProneOptions errorProneOptions;
+  private final int threads;
+
+  private BulkRefactoring(
+      ScannerSupplier scannerSupplier, ErrorProneOptions errorProneOptions, int threads) {
+    this.scannerSupplier = scannerSupplier;
+    this.errorProneOptions = errorProneOptions;
+    this.threads = threads;
+  }
+
+  /**
+   * Returns a driver that applies the fixes of the checks in {@code scannerSupplier}.
+   *
+   * @param errorProneArgs the Error Prone options for every target, which must include {@code
+   *     -XepPatchChecks} and {@code -XepPatchLocation}
+   * @param threads the number of targets to analyze at the same time
+   */
+  public static BulkRefactoring create(
+      ScannerSupplier scannerSupplier, Iterable<String> errorProneArgs, int threads) {
+    ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(errorProneArgs);
+    checkArgument(
+        errorProneOptions.patchingOptions().doRefactor(),
+        "-XepPatchChecks and -XepPatchLocation are required");
+    checkArgument(threads > 0, "threads must be positive: %s", threads);
+    return new BulkRefactoring(scannerSupplier, errorProneOptions, threads);
+  }
+
+  /** Analyzes the targets, and writes the resulting changes once all of them are complete. */
+  public Result run(List<Target> targets) throws IOException, InterruptedException {
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    Path rootPath = RefactoringCollection.buildRootPath();
+    CollectedChanges changes = new CollectedChanges(rootPath);
+    AtomicInteger completedTargets = new AtomicInteger();
+    AtomicInteger analyzedFiles = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Optional<String>>> futures = new ArrayList<>();
+    try {
+      for (Target target : targets) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  Optional<String> failure = refactor(target, changes, analyzedFiles);
+                  logger.info(
+                      String.format(
+                          "Analyzed %d/%d targets, %d files (%.1f files/s)",
+                          completedTargets.incrementAndGet(),
+                          targets.size(),
+                          analyzedFiles.get(),
+                          analyzedFiles.get() * 1e9 / Math.max(1, stopwatch.elapsed().toNanos())));
+                  return failure;
+                }));
+      }
+      ImmutableList.Builder<String> failures = ImmutableList.builder();
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get().ifPresent(failures::add);
+        } catch (ExecutionException e) {
+          failures.add(String.format("target %d: %s", i, e.getCause()));
+        }
+      }
+      ImmutableSortedSet<Path> changedFiles = changes.changedFiles();
+      Optional<Path> patchFile = write(rootPath, changes, changedFiles);
+      return new Result(
+          targets.size(),
+          failures.build(),
+          analyzedFiles.get(),
+          changedFiles,
+          ImmutableSortedSet.copyOf(changes.conflicts),
+          patchFile,
+          stopwatch.elapsed());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Analyzes a single target, and returns a description of its failure if it didn't compile. */
+  private Optional<String> refactor(
+      Target target, CollectedChanges changes, AtomicInteger analyzedFiles) throws IOException {
+    ImmutableList<Path> files = javaFiles(target.sources());
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    JavacTool tool = JavacTool.create();
+    try (StandardJavaFileManager fileManager =
+        tool.getStandardFileManager(diagnostics, /* locale= */ null, UTF_8)) {
+      fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, target.classpath());
+      ImmutableList<JavaFileObject> sources =
+          ImmutableList.copyOf(fileManager.getJavaFileObjectsFromPaths(files));
+      ImmutableList<String> args =
+          ImmutableList.<String>builder()
+              .addAll(BaseErrorProneJavaCompiler.javacOptions(errorProneOptions))
+              .addAll(target.options())
+              // only analysis is needed, so don't generate class files
+              .add("-XDshould-stop.ifNoError=FLOW")
+              .build();
+      JavacTask task =
+          tool.getTask(
+              /* out= */ null,
+              fileManager,
+              diagnostics,
+              args,
+              /* classes= */ ImmutableList.of(),
+              sources);
+      Context context = BaseErrorProneJavaCompiler.prepareTask(task, errorProneOptions);
+      RefactoringCollection refactoringCollection =
+          RefactoringCollection.collect(errorProneOptions.patchingOptions(), changes, context);
+      task.addTaskListener(
+          ErrorProneAnalyzer.createRefactoringAnalyzer(
+              scannerSupplier, errorProneOptions, context, refactoringCollection));
+      boolean succeeded = task.call();
+      analyzedFiles.addAndGet(sources.size());
+      if (!succeeded) {
+        return Optional.of(
+            String.format(
+                "target with sources %s failed to compile: %s",
+                target.sources(),
+                diagnostics.getDiagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .map(Object::toString)
+                    .collect(toImmutableList())));
+      }
+      for (JavaFileObject source : sources) {
+        try {
+          refactoringCollection.applyChanges(source.toUri());
+        } catch (Exception e) {
+          return Optional.of(String.format("failed to refactor %s: %s", source.toUri(), e));
+        }
+      }
+      return Optional.empty();
+    }
+  }
+
+  private static ImmutableList<Path> javaFiles(List<Path> sources) throws IOException {
+    ImmutableList.Builder<Path> files = ImmutableList.builder();
+    for (Path source : sources) {
+      if (!Files.isDirectory(source)) {
+        files.add(source);
+        continue;
+      }
+      try (Stream<Path> stream = Files.walk(source)) {
+        stream
+            .filter(p -> p.getFileName().toString().endsWith(".java") && Files.isRegularFile(p))
+            .sorted()
+            .forEach(files::add);
+      }
+    }
+    return files.build();
+  }
+
+  /** Writes the changed files, or a patch file containing them, and returns the patch file. */
+  private Optional<Path> write(
+      Path rootPath, CollectedChanges changes, ImmutableSortedSet<Path> changedFiles)
+      throws IOException {
+    if (errorProneOptions.patchingOptions().inPlace()) {
+      FsFileDestination destination = new FsFileDestination(rootPath);
+      for (Path path : changedFiles) {
+        destination.writeFile(changes.files.get(path));
+      }
+      destination.flush();
+      return Optional.empty();
+    }
+    Path baseDir = rootPath.resolve(errorProneOptions.patchingOptions().baseDirectory());
+    Path patchFile = baseDir.resolve("error-prone.patch");
+    PatchFileDestination destination = new PatchFileDestination(baseDir, rootPath);
+    StringBuilder patch = new StringBuilder();
+    for (Path path : changedFiles) {
+      destination.writeFile(changes.files.get(path));
+      String diff = destination.patchFile(path.toUri());
+      if (diff != null) {
+        patch.append(diff);
+      }
+    }
+    Files.createDirectories(baseDir);
+    Files.writeString(patchFile, patch);
+    return Optional.of(patchFile);
+  }
+
+  /**
+   * The refactored files of all targets, written to by the analyses of the targets concurrently.
+   */
+  private static final class CollectedChanges implements FileDestination {
+    private final Path rootPath;
+    private final Map<Path, SourceFile> files = new ConcurrentHashMap<>();
+    private final Set<Path> conflicts = ConcurrentHashMap.newKeySet();
+
+    CollectedChanges(Path rootPath) {
+      this.rootPath = rootPath;
+    }
+
+    @Override
+    public void writeFile(SourceFile update) {
+      Path path = rootPath.resolve(update.getPath());
+      SourceFile previous = files.putIfAbsent(path, update);
+      if (previous != null && !previous.getSourceText().equals(update.getSourceText())) {
+        conflicts.add(path);
+      }
+    }
+
+    @Override
+    public void flush() {}
+
+    /** Returns the files to change, which excludes files the targets disagree about. */
+    ImmutableSortedSet<Path> changedFiles() {
+      ImmutableSortedSet.Builder<Path> result = ImmutableSortedSet.naturalOrder();
+      for (Path path : files.keySet()) {
+        if (!conflicts.contains(path)) {
+          result.add(path);
+        }
+      }
+      return result.build();
+    }
+  }
+}
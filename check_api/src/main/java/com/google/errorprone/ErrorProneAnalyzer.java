@@ -37,8 +37,13 @@ import com.sun.source.util.TaskListener;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.api.ClientCodeWrapper.Trusted;
 import com.sun.tools.javac.api.JavacTrees;
+import com.sun.tools.javac.api.MultiTaskListener;
 import com.sun.tools.javac.code.Symbol.CompletionFailure;
+import com.sun.tools.javac.comp.AttrContext;
+import com.sun.tools.javac.comp.Enter;
+import com.sun.tools.javac.comp.Env;
 import com.sun.tools.javac.main.JavaCompiler;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
@@ -71,7 +76,15 @@ public final class ErrorProneAnalyzer implements TaskListener {
       return createByScanningForPlugins(scannerSupplier, epOptions, context);
     }
     refactoringCollection[0] = RefactoringCollection.refactor(epOptions.patchingOptions(), context);
+    return createRefactoringAnalyzer(scannerSupplier, epOptions, context, refactoringCollection[0]);
+  }
 
+  /** Returns an analyzer that reports fixes for its findings to {@code refactoringCollection}. */
+  static ErrorProneAnalyzer createRefactoringAnalyzer(
+      ScannerSupplier scannerSupplier,
+      ErrorProneOptions epOptions,
+      Context context,
+      RefactoringCollection refactoringCollection) {
     // Refaster refactorer or using builtin checks
     Supplier<CodeTransformer> codeTransformer =
         epOptions
@@ -96,7 +109,7 @@ public final class ErrorProneAnalyzer implements TaskListener {
                     }));
 
     return createWithCustomDescriptionListener(
-        codeTransformer, epOptions, context, refactoringCollection[0]);
+        codeTransformer, epOptions, context, refactoringCollection);
   }
 
   /** A {@link TaskListener} that performs refactorings. */
@@ -137,20 +150,33 @@ public final class ErrorProneAnalyzer implements TaskListener {
 
   public static ErrorProneAnalyzer createByScanningForPlugins(
       ScannerSupplier scannerSupplier, ErrorProneOptions errorProneOptions, Context context) {
+    DescriptionListener.Factory descriptionListenerFactory =
+        JavacErrorDescriptionListener.provider(context);
+    if (errorProneOptions.findingsOutput().isPresent()) {
+      FindingsWriter findingsWriter = FindingsWriter.open(errorProneOptions.findingsOutput().get());
+      // closes the file once the compilation is complete
+      MultiTaskListener.instance(context).add(findingsWriter);
+      descriptionListenerFactory =
+          findingsWriter.descriptionListenerFactory(descriptionListenerFactory);
+    }
+    Context errorProneContext = errorProneContext(context, errorProneOptions);
     return new ErrorProneAnalyzer(
-        scansPlugins(scannerSupplier, errorProneOptions, context),
+        scansPlugins(scannerSupplier, errorProneOptions, context, errorProneContext),
         errorProneOptions,
-        context,
-        JavacErrorDescriptionListener.provider(context));
+        errorProneContext,
+        descriptionListenerFactory);
   }
 
   private static Supplier<CodeTransformer> scansPlugins(
-      ScannerSupplier scannerSupplier, ErrorProneOptions errorProneOptions, Context context) {
+      ScannerSupplier scannerSupplier,
+      ErrorProneOptions errorProneOptions,
+      Context context,
+      Context errorProneContext) {
     return Suppliers.memoize(
         () -> {
           // we can't load plugins from the processorpath until the filemanager has been
           // initialized, so do it lazily
-          ErrorProneTimings timings = ErrorProneTimings.instance(context);
+          ErrorProneTimings timings = ErrorProneTimings.instance(errorProneContext);
           try (AutoCloseable unused = timings.initializationTimeSpan()) {
             return ErrorProneScannerTransformer.create(
                 ErrorPronePlugins.loadPlugins(scannerSupplier, context)
@@ -171,31 +197,49 @@ public final class ErrorProneAnalyzer implements TaskListener {
       Context context,
       DescriptionListener.Factory descriptionListenerFactory) {
     return new ErrorProneAnalyzer(
-        codeTransformer, errorProneOptions, context, descriptionListenerFactory);
+        codeTransformer,
+        errorProneOptions,
+        errorProneContext(context, errorProneOptions),
+        descriptionListenerFactory);
+  }
+
+  /**
+   * Returns the context in which Error Prone analyzes a single compilation.
+   *
+   * <p>Per-compilation state such as {@link ErrorProneTimings} is created in this context rather
+   * than in the javac context, which may be reset and reused for later compilations. Timings that
+   * the caller registered in the javac context before the compilation are still used.
+   */
+  private static Context errorProneContext(Context context, ErrorProneOptions errorProneOptions) {
+    Context errorProneContext = new SubContext(context);
+    errorProneContext.put(ErrorProneOptions.class, errorProneOptions);
+    return errorProneContext;
   }
 
   private ErrorProneAnalyzer(
       Supplier<CodeTransformer> transformer,
       ErrorProneOptions errorProneOptions,
-      Context context,
+      Context errorProneContext,
       DescriptionListener.Factory descriptionListenerFactory) {
     this.transformer = checkNotNull(transformer);
     this.errorProneOptions = checkNotNull(errorProneOptions);
     this.descriptionListenerFactory = checkNotNull(descriptionListenerFactory);
-
-    Context errorProneContext = new SubContext(context);
-    errorProneContext.put(ErrorProneOptions.class, errorProneOptions);
     this.context = errorProneContext;
   }
 
   private int errorProneErrors = 0;
 
+  // True while the remaining classes of a compilation unit are being attributed eagerly, see
+  // completeRemainingDeclarations.
+  private boolean completingDeclarations = false;
+
   @Override
   public void finished(TaskEvent taskEvent) {
     if (taskEvent.getKind() != Kind.ANALYZE) {
       return;
     }
-    if (JavaCompiler.instance(context).errorCount() > errorProneErrors) {
+    JavaCompiler compiler = JavaCompiler.instance(context);
+    if (compiler.errorCount() > errorProneErrors) {
       return;
     }
     TreePath path = JavacTrees.instance(context).getPath(taskEvent.getTypeElement());
@@ -204,8 +248,20 @@ public final class ErrorProneAnalyzer implements TaskListener {
     }
     // Assert that the event is unique and scan the current tree.
     verify(seen.add(path.getLeaf()), "Duplicate FLOW event for: %s", taskEvent.getTypeElement());
-    Log log = Log.instance(context);
+    if (completingDeclarations) {
+      // The enclosing event will scan the compilation unit once all of its classes are done.
+      return;
+    }
     JCCompilationUnit compilation = (JCCompilationUnit) path.getCompilationUnit();
+    if (errorProneOptions.reducedMemory()
+        && !(path.getLeaf() instanceof CompilationUnitTree)
+        && !finishedCompilation(compilation)) {
+      completeRemainingDeclarations(compilation);
+      if (compiler.errorCount() > errorProneErrors) {
+        return;
+      }
+    }
+    Log log = Log.instance(context);
     DescriptionListener descriptionListener =
         descriptionListenerFactory.getDescriptionListener(log, compilation);
     DescriptionListener countingDescriptionListener =
@@ -250,6 +306,12 @@ public final class ErrorProneAnalyzer implements TaskListener {
       log.error("proc.cant.access", e.sym, e.getDetailValue(), getStackTraceAsString(e));
     } finally {
       log.useSource(originalSource);
+      if (errorProneOptions.reducedMemory() && finishedCompilation(compilation)) {
+        // Don't keep the unit's trees reachable after it has been analyzed, so they can be
+        // collected once javac has generated code for them.
+        seen.removeAll(compilation.getTypeDecls());
+        seen.remove(compilation);
+      }
     }
   }
 
@@ -260,6 +322,36 @@ public final class ErrorProneAnalyzer implements TaskListener {
         && excludedPattern.matcher(ASTHelpers.getFileName(tree)).matches();
   }
 
+  /**
+   * Attributes and flow-analyzes the top-level classes of the given compilation unit that haven't
+   * been visited yet.
+   *
+   * <p>With {@code -XDcompilePolicy=bytodo} javac may lower a class before the other classes in
+   * the same file have been attributed, so in reduced-memory mode we complete them here to allow
+   * the whole compilation unit to be scanned before any of it is lowered. javac records the
+   * compile state of each class, and won't attribute or flow them again later.
+   */
+  private void completeRemainingDeclarations(JCCompilationUnit compilation) {
+    JavaCompiler compiler = JavaCompiler.instance(context);
+    Enter enter = Enter.instance(context);
+    completingDeclarations = true;
+    try {
+      for (Tree decl : compilation.getTypeDecls()) {
+        if (!(decl instanceof JCClassDecl classDecl)
+            || classDecl.sym == null
+            || seen.contains(decl)) {
+          continue;
+        }
+        Env<AttrContext> env = enter.getEnv(classDecl.sym);
+        if (env != null) {
+          compiler.flow(compiler.attribute(env));
+        }
+      }
+    } finally {
+      completingDeclarations = false;
+    }
+  }
+
   /** Returns true if all declarations inside the given compilation unit have been visited. */
   private boolean finishedCompilation(CompilationUnitTree tree) {
     OUTER:
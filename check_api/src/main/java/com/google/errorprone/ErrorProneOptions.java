@@ -35,6 +35,7 @@ import java.io.ObjectInputStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -58,6 +59,10 @@ public final class ErrorProneOptions {
   private static final String PATCH_IMPORT_ORDER_PREFIX = "-XepPatchImportOrder:";
   private static final String EXCLUDED_PATHS_PREFIX = "-XepExcludedPaths:";
   private static final String IGNORE_LARGE_CODE_GENERATORS = "-XepIgnoreLargeCodeGenerators:";
+  private static final String FINDINGS_OUTPUT_PREFIX = "-XepFindingsOutput:";
+  private static final String LARGE_UNIT_THRESHOLD_PREFIX = "-XepLargeUnitThreshold:";
+  private static final String LARGE_UNIT_SAMPLE_PERCENT_PREFIX = "-XepLargeUnitSamplePercent:";
+  private static final String CHECK_TIME_BUDGET_PREFIX = "-XepCheckTimeBudget:";
   private static final String ERRORS_AS_WARNINGS_FLAG = "-XepAllErrorsAsWarnings";
   private static final String SUGGESTIONS_AS_WARNINGS_FLAG = "-XepAllSuggestionsAsWarnings";
   private static final String ENABLE_ALL_CHECKS = "-XepAllDisabledChecksAsWarnings";
@@ -69,6 +74,7 @@ public final class ErrorProneOptions {
       "-XepDisableWarningsInGeneratedCode";
   private static final String COMPILING_TEST_ONLY_CODE = "-XepCompilingTestOnlyCode";
   private static final String COMPILING_PUBLICLY_VISIBLE_CODE = "-XepCompilingPubliclyVisibleCode";
+  private static final String REDUCED_MEMORY_FLAG = "-XepReducedMemory";
   private static final String ARGUMENT_FILE_PREFIX = "@";
 
   /** see {@link javax.tools.OptionChecker#isSupportedOption(String)} */
@@ -79,6 +85,10 @@ public final class ErrorProneOptions {
             || option.startsWith(PATCH_OUTPUT_LOCATION)
             || option.startsWith(PATCH_CHECKS_PREFIX)
             || option.startsWith(EXCLUDED_PATHS_PREFIX)
+            || option.startsWith(FINDINGS_OUTPUT_PREFIX)
+            || option.startsWith(LARGE_UNIT_THRESHOLD_PREFIX)
+            || option.startsWith(LARGE_UNIT_SAMPLE_PERCENT_PREFIX)
+            || option.startsWith(CHECK_TIME_BUDGET_PREFIX)
             || option.equals(IGNORE_UNKNOWN_CHECKS_FLAG)
             || option.equals(DISABLE_WARNINGS_IN_GENERATED_CODE_FLAG)
             || option.equals(ERRORS_AS_WARNINGS_FLAG)
@@ -88,6 +98,7 @@ public final class ErrorProneOptions {
             || option.equals(IGNORE_SUPPRESSION_ANNOTATIONS)
             || option.equals(COMPILING_TEST_ONLY_CODE)
             || option.equals(COMPILING_PUBLICLY_VISIBLE_CODE)
+            || option.equals(REDUCED_MEMORY_FLAG)
             || option.equals(DISABLE_ALL_WARNINGS);
     return isSupported ? 0 : -1;
   }
@@ -161,6 +172,12 @@ public final class ErrorProneOptions {
   private final Pattern excludedPattern;
   private final boolean ignoreSuppressionAnnotations;
   private final boolean ignoreLargeCodeGenerators;
+  private final boolean reducedMemory;
+  private final Optional<Path> findingsOutput;
+  private final Optional<Integer> largeUnitThreshold;
+  private final int largeUnitSamplePercent;
+  private final Optional<Duration> checkTimeBudget;
+  private final ImmutableMap<String, Duration> checkTimeBudgets;
 
   private ErrorProneOptions(
       ImmutableMap<String, Severity> severityMap,
@@ -178,7 +195,13 @@ public final class ErrorProneOptions {
       PatchingOptions patchingOptions,
       Pattern excludedPattern,
       boolean ignoreSuppressionAnnotations,
-      boolean ignoreLargeCodeGenerators) {
+      boolean ignoreLargeCodeGenerators,
+      boolean reducedMemory,
+      Optional<Path> findingsOutput,
+      Optional<Integer> largeUnitThreshold,
+      int largeUnitSamplePercent,
+      Optional<Duration> checkTimeBudget,
+      ImmutableMap<String, Duration> checkTimeBudgets) {
     this.severityMap = severityMap;
     this.remainingArgs = remainingArgs;
     this.ignoreUnknownChecks = ignoreUnknownChecks;
@@ -195,6 +218,12 @@ public final class ErrorProneOptions {
     this.excludedPattern = excludedPattern;
     this.ignoreSuppressionAnnotations = ignoreSuppressionAnnotations;
     this.ignoreLargeCodeGenerators = ignoreLargeCodeGenerators;
+    this.reducedMemory = reducedMemory;
+    this.findingsOutput = findingsOutput;
+    this.largeUnitThreshold = largeUnitThreshold;
+    this.largeUnitSamplePercent = largeUnitSamplePercent;
+    this.checkTimeBudget = checkTimeBudget;
+    this.checkTimeBudgets = checkTimeBudgets;
   }
 
   public ImmutableList<String> getRemainingArgs() {
@@ -241,6 +270,56 @@ public final class ErrorProneOptions {
     return ignoreLargeCodeGenerators;
   }
 
+  /**
+   * Returns true if Error Prone should analyze each compilation unit as soon as it has been
+   * attributed, and avoid retaining trees after that, so that javac can lower and release them.
+   */
+  public boolean reducedMemory() {
+    return reducedMemory;
+  }
+
+  /**
+   * Returns the file that findings should be streamed to, as JSON lines or SARIF, instead of being
+   * reported as javac diagnostics.
+   */
+  public Optional<Path> findingsOutput() {
+    return findingsOutput;
+  }
+
+  /**
+   * Returns the number of lines above which a compilation unit is considered large. Checks that
+   * aren't {@link BugPattern.CostClass#CHEAP cheap} are only run on a sample of large compilation
+   * units; see {@link #largeUnitSamplePercent}.
+   */
+  public Optional<Integer> largeUnitThreshold() {
+    return largeUnitThreshold;
+  }
+
+  /**
+   * Returns the percentage of large compilation units that expensive checks are run on. Defaults
+   * to 0, which skips expensive checks on all large compilation units.
+   */
+  public int largeUnitSamplePercent() {
+    return largeUnitSamplePercent;
+  }
+
+  /**
+   * Returns the time the given check may spend on a compilation unit. A check that exceeds its
+   * budget is disabled for the rest of the compilation unit, or for the rest of the compilation if
+   * it keeps exceeding it. The budget of a check can be set with {@code
+   * -XepCheckTimeBudget:<CheckName>=<millis>}, and the budget of all other checks with {@code
+   * -XepCheckTimeBudget:<millis>}.
+   */
+  public Optional<Duration> checkTimeBudget(String checkName) {
+    Duration budget = checkTimeBudgets.get(checkName);
+    return budget != null ? Optional.of(budget) : checkTimeBudget;
+  }
+
+  /** Returns true if any check has a time budget; see {@link #checkTimeBudget}. */
+  public boolean hasCheckTimeBudgets() {
+    return checkTimeBudget.isPresent() || !checkTimeBudgets.isEmpty();
+  }
+
   public ErrorProneFlags getFlags() {
     return flags;
   }
@@ -265,10 +344,16 @@ public final class ErrorProneOptions {
     private boolean isPubliclyVisibleTarget = false;
     private boolean ignoreSuppressionAnnotations = false;
     private boolean ignoreLargeCodeGenerators = true;
+    private boolean reducedMemory = false;
     private final Map<String, Severity> severityMap = new LinkedHashMap<>();
     private final ErrorProneFlags.Builder flagsBuilder = ErrorProneFlags.builder();
     private final PatchingOptions.Builder patchingOptionsBuilder = PatchingOptions.builder();
     private Pattern excludedPattern;
+    private Optional<Path> findingsOutput = Optional.absent();
+    private Optional<Integer> largeUnitThreshold = Optional.absent();
+    private int largeUnitSamplePercent = 0;
+    private Optional<Duration> checkTimeBudget = Optional.absent();
+    private final Map<String, Duration> checkTimeBudgets = new LinkedHashMap<>();
 
     private void parseSeverity(String arg) {
       // Strip prefix
@@ -339,6 +424,10 @@ public final class ErrorProneOptions {
       this.ignoreLargeCodeGenerators = ignoreLargeCodeGenerators;
     }
 
+    void setReducedMemory(boolean reducedMemory) {
+      this.reducedMemory = reducedMemory;
+    }
+
     void setDisableAllChecks(boolean disableAllChecks) {
       // Discard previously set severities so that the DisableAllChecks flag is position sensitive.
       severityMap.clear();
@@ -374,12 +463,38 @@ public final class ErrorProneOptions {
           patchingOptionsBuilder.build(),
           excludedPattern,
           ignoreSuppressionAnnotations,
-          ignoreLargeCodeGenerators);
+          ignoreLargeCodeGenerators,
+          reducedMemory,
+          findingsOutput,
+          largeUnitThreshold,
+          largeUnitSamplePercent,
+          checkTimeBudget,
+          ImmutableMap.copyOf(checkTimeBudgets));
     }
 
     void setExcludedPattern(Pattern excludedPattern) {
       this.excludedPattern = excludedPattern;
     }
+
+    void setFindingsOutput(Path findingsOutput) {
+      this.findingsOutput = Optional.of(findingsOutput);
+    }
+
+    void setLargeUnitThreshold(int largeUnitThreshold) {
+      this.largeUnitThreshold = Optional.of(largeUnitThreshold);
+    }
+
+    void setLargeUnitSamplePercent(int largeUnitSamplePercent) {
+      this.largeUnitSamplePercent = largeUnitSamplePercent;
+    }
+
+    void setCheckTimeBudget(Duration checkTimeBudget) {
+      this.checkTimeBudget = Optional.of(checkTimeBudget);
+    }
+
+    void setCheckTimeBudget(String checkName, Duration checkTimeBudget) {
+      checkTimeBudgets.put(checkName, checkTimeBudget);
+    }
   }
 
   private static final ErrorProneOptions EMPTY = new Builder().build(ImmutableList.of());
@@ -478,6 +593,7 @@ public final class ErrorProneOptions {
         case COMPILING_TEST_ONLY_CODE -> builder.setTestOnlyTarget(true);
         case COMPILING_PUBLICLY_VISIBLE_CODE -> builder.setPubliclyVisibleTarget(true);
         case DISABLE_ALL_WARNINGS -> builder.setDisableAllWarnings(true);
+        case REDUCED_MEMORY_FLAG -> builder.setReducedMemory(true);
         default -> {
           if (arg.startsWith(SEVERITY_PREFIX)) {
             builder.parseSeverity(arg);
@@ -524,6 +640,35 @@ public final class ErrorProneOptions {
           } else if (arg.startsWith(EXCLUDED_PATHS_PREFIX)) {
             String pathRegex = arg.substring(EXCLUDED_PATHS_PREFIX.length());
             builder.setExcludedPattern(Pattern.compile(pathRegex));
+          } else if (arg.startsWith(FINDINGS_OUTPUT_PREFIX)) {
+            String remaining = arg.substring(FINDINGS_OUTPUT_PREFIX.length());
+            if (remaining.isEmpty()) {
+              throw new InvalidCommandLineOptionException("invalid flag: " + arg);
+            }
+            builder.setFindingsOutput(Path.of(remaining));
+          } else if (arg.startsWith(LARGE_UNIT_THRESHOLD_PREFIX)) {
+            builder.setLargeUnitThreshold(
+                parseInt(arg, LARGE_UNIT_THRESHOLD_PREFIX, 0, Integer.MAX_VALUE));
+          } else if (arg.startsWith(LARGE_UNIT_SAMPLE_PERCENT_PREFIX)) {
+            builder.setLargeUnitSamplePercent(
+                parseInt(arg, LARGE_UNIT_SAMPLE_PERCENT_PREFIX, 0, 100));
+          } else if (arg.startsWith(CHECK_TIME_BUDGET_PREFIX)) {
+            String remaining = arg.substring(CHECK_TIME_BUDGET_PREFIX.length());
+            int equals = remaining.indexOf('=');
+            if (equals < 0) {
+              builder.setCheckTimeBudget(
+                  Duration.ofMillis(parseInt(arg, CHECK_TIME_BUDGET_PREFIX, 1, Integer.MAX_VALUE)));
+            } else {
+              String checkName = remaining.substring(0, equals);
+              if (checkName.isEmpty()) {
+                throw new InvalidCommandLineOptionException("invalid flag: " + arg);
+              }
+              builder.setCheckTimeBudget(
+                  checkName,
+                  Duration.ofMillis(
+                      parseInt(
+                          arg, CHECK_TIME_BUDGET_PREFIX + checkName + "=", 1, Integer.MAX_VALUE)));
+            }
 
           } else {
             if (arg.startsWith(PREFIX)) {
@@ -539,10 +684,29 @@ public final class ErrorProneOptions {
       throw new InvalidCommandLineOptionException(
           "-XepPatchLocation must be specified when -XepPatchChecks is");
     }
+    if (patchLocationSet && builder.findingsOutput.isPresent()) {
+      throw new InvalidCommandLineOptionException(
+          "-XepFindingsOutput can't be used with -XepPatchLocation");
+    }
 
     return builder.build(remainingArgs.build());
   }
 
+  /** Parses the value of an integer-valued option, which must be within the given bounds. */
+  private static int parseInt(String arg, String prefix, int min, int max) {
+    int value;
+    try {
+      value = Integer.parseInt(arg.substring(prefix.length()));
+    } catch (NumberFormatException e) {
+      throw new InvalidCommandLineOptionException("invalid flag: " + arg);
+    }
+    if (value < min || value > max) {
+      throw new InvalidCommandLineOptionException(
+          String.format("invalid flag: %s (must be between %d and %d)", arg, min, max));
+    }
+    return value;
+  }
+
   /**
    * Given a list of command-line arguments, produce the corresponding {@link ErrorProneOptions}
    * instance.
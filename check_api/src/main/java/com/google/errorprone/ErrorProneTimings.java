@@ -22,9 +22,11 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.matchers.Suppressible;
 import com.sun.tools.javac.util.Context;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.jspecify.annotations.Nullable;
 
 /** A collection of timing data for the runtime of individual checks. */
 public final class ErrorProneTimings {
@@ -45,13 +47,41 @@ public final class ErrorProneTimings {
 
   private final Map<String, Stopwatch> timers = new HashMap<>();
 
+  private final Map<String, Long> allocations = new HashMap<>();
+
+  private com.sun.management.@Nullable ThreadMXBean allocationCounter;
+
   private final Stopwatch initializationTime = Stopwatch.createUnstarted();
 
   /** Creates a timing span for the given {@link Suppressible}. */
   public AutoCloseable span(Suppressible suppressible) {
     String key = suppressible.canonicalName();
     Stopwatch sw = timers.computeIfAbsent(key, k -> Stopwatch.createUnstarted()).start();
-    return () -> sw.stop();
+    com.sun.management.ThreadMXBean counter = allocationCounter;
+    if (counter == null) {
+      return () -> sw.stop();
+    }
+    long allocatedBefore = counter.getCurrentThreadAllocatedBytes();
+    return () -> {
+      sw.stop();
+      allocations.merge(
+          key, counter.getCurrentThreadAllocatedBytes() - allocatedBefore, Long::sum);
+    };
+  }
+
+  /**
+   * Starts recording the number of bytes allocated by each check, as reported by the JVM's {@link
+   * com.sun.management.ThreadMXBean}. Only spans created after this call are measured.
+   *
+   * @throws UnsupportedOperationException if the JVM does not support measuring allocations
+   */
+  public void trackAllocations() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean counter)
+        || !counter.isThreadAllocatedMemorySupported()) {
+      throw new UnsupportedOperationException("thread allocation measurement is not supported");
+    }
+    counter.setThreadAllocatedMemoryEnabled(true);
+    allocationCounter = counter;
   }
 
   /** Creates a timing span for initialization. */
@@ -66,6 +96,13 @@ public final class ErrorProneTimings {
         .collect(toImmutableMap(e -> e.getKey(), e -> e.getValue().elapsed()));
   }
 
+  /**
+   * Returns the number of bytes allocated by each check since {@link #trackAllocations} was called.
+   */
+  public ImmutableMap<String, Long> allocatedBytes() {
+    return ImmutableMap.copyOf(allocations);
+  }
+
   /** Returns the elapsed initialization time. */
   public Duration initializationTime() {
     return initializationTime.elapsed();
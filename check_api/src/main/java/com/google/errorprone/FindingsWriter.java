@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.errorprone.fixes.ErrorProneEndPosTable;
+import com.google.errorprone.fixes.Fix;
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.LineMap;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
+import com.sun.tools.javac.util.Position;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the findings of a compilation to a file as they are reported, in addition to reporting
+ * them to javac. Unlike javac's diagnostics, the file isn't subject to javac's limits on the number
+ * of diagnostics, and includes the fixes in a machine-readable form.
+ *
+ * <p>Findings are written as JSON lines, one object per finding, or as a SARIF 2.1.0 log if the
+ * file name ends in {@code .sarif}. Fixes are written as the source ranges they replace. Each
+ * record is written as soon as the finding is reported, so memory use doesn't grow with the number
+ * of findings. Findings without a source position are written without a line, column or range.
+ *
+ * <p>This can't be combined with patching, which reports findings through a {@link
+ * RefactoringCollection} instead; {@link ErrorProneOptions} rejects the combination.
+ */
+final class FindingsWriter implements TaskListener {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Writer out;
+  private final boolean sarif;
+  private final StringBuilder record = new StringBuilder();
+  private boolean first = true;
+  private boolean closed = false;
+
+  private FindingsWriter(Writer out, boolean sarif) {
+    this.out = out;
+    this.sarif = sarif;
+  }
+
+  /** Creates a writer for the given file, replacing any existing contents. */
+  static FindingsWriter open(Path path) {
+    boolean sarif = path.getFileName().toString().endsWith(".sarif");
+    try {
+      Writer out =
+          new BufferedWriter(
+              new OutputStreamWriter(Files.newOutputStream(path), UTF_8), BUFFER_SIZE);
+      FindingsWriter writer = new FindingsWriter(out, sarif);
+      if (sarif) {
+        out.write(
+            "{\"version\":\"2.1.0\","
+                + "\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+                + "\"runs\":[{\"tool\":{\"driver\":{\"name\":\"Error Prone\","
+                + "\"informationUri\":\"https://errorprone.info\"}},\"results\":[");
+      }
+      return writer;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Can't write findings to " + path, e);
+    }
+  }
+
+  /**
+   * Returns a factory for listeners that write findings to this file, and also report them to the
+   * listeners created by {@code javacListeners}.
+   */
+  DescriptionListener.Factory descriptionListenerFactory(
+      DescriptionListener.Factory javacListeners) {
+    return (log, compilation) -> {
+      DescriptionListener javacListener = javacListeners.getDescriptionListener(log, compilation);
+      ErrorProneEndPosTable endPositions = ErrorProneEndPosTable.create(compilation);
+      return description -> {
+        write(description, compilation, endPositions);
+        javacListener.onDescribed(description);
+      };
+    };
+  }
+
+  @Override
+  public void finished(TaskEvent event) {
+    if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+      close();
+    }
+  }
+
+  void write(
+      Description description, JCCompilationUnit compilation, ErrorProneEndPosTable endPositions) {
+    record.setLength(0);
+    String uri = compilation.getSourceFile().toUri().toString();
+    int start = description.position.getStartPosition();
+    int end =
+        start == Position.NOPOS
+            ? Position.NOPOS
+            : Math.max(start, description.position.getEndPosition(endPositions));
+    try {
+      if (sarif) {
+        appendSarifResult(description, compilation, endPositions, uri, start, end);
+      } else {
+        appendJsonLine(description, compilation, endPositions, uri, start, end);
+      }
+    } catch (SourcePositionException e) {
+      throw e.toErrorProneError(description.checkName, compilation.getSourceFile());
+    }
+    try {
+      out.append(record);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void appendJsonLine(
+      Description description,
+      JCCompilationUnit compilation,
+      ErrorProneEndPosTable endPositions,
+      String uri,
+      int start,
+      int end) {
+    record.append("{\"check\":");
+    appendString(description.checkName);
+    record.append(",\"severity\":");
+    appendString(description.severity().name());
+    record.append(",\"file\":");
+    appendString(uri);
+    if (start != Position.NOPOS) {
+      LineMap lineMap = compilation.getLineMap();
+      long line = lineMap.getLineNumber(start);
+      record.append(",\"line\":").append(line);
+      record.append(",\"column\":").append(start - lineMap.getStartPosition(line) + 1);
+      record.append(",\"startPosition\":").append(start);
+      record.append(",\"endPosition\":").append(end);
+    }
+    record.append(",\"message\":");
+    appendString(description.getRawMessage());
+    if (description.getLink() != null) {
+      record.append(",\"link\":");
+      appendString(description.getLink());
+    }
+    record.append(",\"fixes\":[");
+    boolean firstFix = true;
+    for (Fix fix : description.fixes) {
+      if (!firstFix) {
+        record.append(',');
+      }
+      firstFix = false;
+      record.append("{\"description\":");
+      appendString(fix.getShortDescription());
+      record.append(",\"replacements\":[");
+      boolean firstReplacement = true;
+      for (Replacement replacement : fix.getReplacements(endPositions)) {
+        if (!firstReplacement) {
+          record.append(',');
+        }
+        firstReplacement = false;
+        record.append("{\"startPosition\":").append(replacement.startPosition());
+        record.append(",\"endPosition\":").append(replacement.endPosition());
+        record.append(",\"replaceWith\":");
+        appendString(replacement.replaceWith());
+        record.append('}');
+      }
+      record.append("],\"importsToAdd\":[");
+      appendStrings(fix.getImportsToAdd());
+      record.append("],\"importsToRemove\":[");
+      appendStrings(fix.getImportsToRemove());
+      record.append("]}");
+    }
+    record.append("]}\n");
+  }
+
+  private void appendSarifResult(
+      Description description,
+      JCCompilationUnit compilation,
+      ErrorProneEndPosTable endPositions,
+      String uri,
+      int start,
+      int end) {
+    if (!first) {
+      record.append(',');
+    }
+    first = false;
+    record.append("{\"ruleId\":");
+    appendString(description.checkName);
+    record.append(",\"level\":");
+    appendString(
+        switch (description.severity()) {
+          case ERROR -> "error";
+          case WARNING -> "warning";
+          case SUGGESTION -> "note";
+        });
+    record.append(",\"message\":{\"text\":");
+    appendString(description.getRawMessage());
+    record.append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+    appendString(uri);
+    record.append('}');
+    if (start != Position.NOPOS) {
+      LineMap lineMap = compilation.getLineMap();
+      long startLine = lineMap.getLineNumber(start);
+      long endLine = lineMap.getLineNumber(end);
+      record.append(",\"region\":{\"startLine\":").append(startLine);
+      record.append(",\"startColumn\":").append(start - lineMap.getStartPosition(startLine) + 1);
+      record.append(",\"endLine\":").append(endLine);
+      record.append(",\"endColumn\":").append(end - lineMap.getStartPosition(endLine) + 1);
+      record.append(",\"charOffset\":").append(start);
+      record.append(",\"charLength\":").append(end - start);
+      record.append('}');
+    }
+    record.append("}}]");
+    if (!description.fixes.isEmpty()) {
+      // SARIF has no representation for import changes, so only the replacements are recorded.
+      record.append(",\"fixes\":[");
+      boolean firstFix = true;
+      for (Fix fix : description.fixes) {
+        if (!firstFix) {
+          record.append(',');
+        }
+        firstFix = false;
+        record.append("{\"description\":{\"text\":");
+        appendString(fix.getShortDescription());
+        record.append("},\"artifactChanges\":[{\"artifactLocation\":{\"uri\":");
+        appendString(uri);
+        record.append("},\"replacements\":[");
+        boolean firstReplacement = true;
+        for (Replacement replacement : fix.getReplacements(endPositions)) {
+          if (!firstReplacement) {
+            record.append(',');
+          }
+          firstReplacement = false;
+          record.append("{\"deletedRegion\":{\"charOffset\":").append(replacement.startPosition());
+          record.append(",\"charLength\":").append(replacement.length());
+          record.append("},\"insertedContent\":{\"text\":");
+          appendString(replacement.replaceWith());
+          record.append("}}");
+        }
+        record.append("]}]}");
+      }
+      record.append(']');
+    }
+    if (description.getLink() != null) {
+      record.append(",\"properties\":{\"helpUri\":");
+      appendString(description.getLink());
+      record.append('}');
+    }
+    record.append('}');
+  }
+
+  private void appendStrings(Iterable<String> strings) {
+    boolean firstString = true;
+    for (String s : strings) {
+      if (!firstString) {
+        record.append(',');
+      }
+      firstString = false;
+      appendString(s);
+    }
+  }
+
+  /** Appends the given string as a JSON string literal. */
+  private void appendString(String s) {
+    record.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"' -> record.append("\\\"");
+        case '\\' -> record.append("\\\\");
+        case '\n' -> record.append("\\n");
+        case '\r' -> record.append("\\r");
+        case '\t' -> record.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            record.append(String.format("\\u%04x", (int) c));
+          } else {
+            record.append(c);
+          }
+        }
+      }
+    }
+    record.append('"');
+  }
+
+  /** Completes the file and closes it. */
+  void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (sarif) {
+        out.write("]}]}\n");
+      }
+      out.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -32,6 +32,9 @@ import com.google.errorprone.apply.FsFileSource;
 import com.google.errorprone.apply.ImportOrganizer;
 import com.google.errorprone.apply.PatchFileDestination;
 import com.google.errorprone.apply.SourceFile;
+import com.google.errorprone.fixes.ErrorProneEndPosTable;
+import com.google.errorprone.fixes.Fix;
+import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.util.Context;
@@ -47,14 +50,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.jspecify.annotations.Nullable;
 
 /** A container of fixes that have been collected during a single compilation phase. */
 public final class RefactoringCollection implements DescriptionListener.Factory {
 
   private static final Logger logger = Logger.getLogger(RefactoringCollection.class.getName());
 
-  private final SetMultimap<URI, DelegatingDescriptionListener> foundSources =
-      HashMultimap.create();
+  // Only the diffs are kept until the changes are applied, not the listeners or compilation units
+  // they were created from.
+  private final SetMultimap<URI, DescriptionBasedDiff> foundSources = HashMultimap.create();
   private final Path rootPath;
   private final FileDestination fileDestination;
   private final Function<URI, RefactoringResult> postProcess;
@@ -116,6 +121,21 @@ public final class RefactoringCollection implements DescriptionListener.Factory
         rootPath, fileDestination, postProcess, importOrganizer, context);
   }
 
+  /**
+   * Returns a collection that writes the refactored files to {@code fileDestination} rather than
+   * to the file system, for a caller that decides how to write them once the compilation is
+   * complete.
+   */
+  static RefactoringCollection collect(
+      PatchingOptions patchingOptions, FileDestination fileDestination, Context context) {
+    return new RefactoringCollection(
+        buildRootPath(),
+        fileDestination,
+        uri -> new RefactoringResult("Collected changes to " + uri, RefactoringResultType.CHANGED),
+        patchingOptions.importOrganizer(),
+        context);
+  }
+
   private RefactoringCollection(
       Path rootPath,
       FileDestination fileDestination,
@@ -129,7 +149,7 @@ public final class RefactoringCollection implements DescriptionListener.Factory
     this.importOrganizer = importOrganizer;
   }
 
-  private static Path buildRootPath() {
+  static Path buildRootPath() {
     Path root = Iterables.getFirst(FileSystems.getDefault().getRootDirectories(), null);
     if (root == null) {
       throw new RuntimeException("Can't find a root filesystem!");
@@ -139,19 +159,13 @@ public final class RefactoringCollection implements DescriptionListener.Factory
 
   @Override
   public DescriptionListener getDescriptionListener(Log log, JCCompilationUnit compilation) {
-    URI sourceFile = compilation.getSourceFile().toUri();
-
-    DelegatingDescriptionListener delegate =
-        new DelegatingDescriptionListener(
-            descriptionsFactory.getDescriptionListener(log, compilation),
-            DescriptionBasedDiff.createIgnoringOverlaps(compilation, importOrganizer));
-    foundSources.put(sourceFile, delegate);
-    return delegate;
+    return new DelegatingDescriptionListener(
+        descriptionsFactory.getDescriptionListener(log, compilation), compilation);
   }
 
   RefactoringResult applyChanges(URI uri) throws Exception {
-    Collection<DelegatingDescriptionListener> listeners = foundSources.removeAll(uri);
-    if (doApplyProcess(fileDestination, new FsFileSource(rootPath), listeners)) {
+    Collection<DescriptionBasedDiff> diffs = foundSources.removeAll(uri);
+    if (doApplyProcess(fileDestination, new FsFileSource(rootPath), diffs)) {
       return postProcess.apply(uri);
     }
 
@@ -178,36 +192,62 @@ public final class RefactoringCollection implements DescriptionListener.Factory
   private static boolean doApplyProcess(
       FileDestination fileDestination,
       FileSource fileSource,
-      Collection<DelegatingDescriptionListener> listeners) {
+      Collection<DescriptionBasedDiff> diffs) {
     boolean appliedDiff = false;
-    for (DelegatingDescriptionListener listener : listeners) {
-      if (listener.base.isEmpty()) {
+    for (DescriptionBasedDiff diff : diffs) {
+      if (diff.isEmpty()) {
         continue;
       }
 
       try {
-        SourceFile file = fileSource.readFile(listener.base.getRelevantFileName());
-        listener.base.applyDifferences(file);
+        SourceFile file = fileSource.readFile(diff.getRelevantFileName());
+        diff.applyDifferences(file);
         fileDestination.writeFile(file);
         appliedDiff = true;
       } catch (IOException e) {
-        logger.log(
-            Level.WARNING,
-            "Failed to apply diff to file " + listener.base.getRelevantFileName(),
-            e);
+        logger.log(Level.WARNING, "Failed to apply diff to file " + diff.getRelevantFileName(), e);
       }
     }
 
     return appliedDiff;
   }
 
-  private record DelegatingDescriptionListener(
-      DescriptionListener listener, DescriptionBasedDiff base) implements DescriptionListener {
+  /**
+   * Reports descriptions to {@code listener}, and collects their fixes in a diff that's created
+   * when the first fix is reported.
+   */
+  private final class DelegatingDescriptionListener implements DescriptionListener {
+    private final DescriptionListener listener;
+    private final JCCompilationUnit compilation;
+    private @Nullable DescriptionBasedDiff base;
+    private @Nullable ErrorProneEndPosTable endPositions;
+
+    DelegatingDescriptionListener(DescriptionListener listener, JCCompilationUnit compilation) {
+      this.listener = listener;
+      this.compilation = compilation;
+    }
 
     @Override
     public void onDescribed(Description description) {
       listener.onDescribed(description);
-      base.onDescribed(description);
+      if (description.fixes.isEmpty()) {
+        return;
+      }
+      if (base == null) {
+        base =
+            DescriptionBasedDiff.createIgnoringOverlapsForResolvedFixes(
+                compilation, importOrganizer);
+        foundSources.put(compilation.getSourceFile().toUri(), base);
+        endPositions = ErrorProneEndPosTable.create(compilation);
+      }
+      // The diff is kept until the unit's changes are applied, so resolve the fix it uses (only the
+      // first, most likely one) now rather than keeping the unit's trees alive.
+      Fix fix = description.fixes.getFirst();
+      try {
+        base.handleFix(description, fix instanceof SuggestedFix f ? f.resolve(endPositions) : fix);
+      } catch (SourcePositionException e) {
+        throw e.toErrorProneError(description.checkName, compilation.getSourceFile());
+      }
     }
   }
 }
@@ -16,9 +16,15 @@
 
 package com.google.errorprone;
 
-import com.google.common.collect.HashMultiset;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableMultiset;
 import com.google.common.collect.Multiset;
+import com.google.common.primitives.Ints;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
 
 /** A collector of counters keyed by strings. */
 public interface StatisticsCollector {
@@ -31,22 +37,87 @@ public interface StatisticsCollector {
   /** Adds {@code count} to the counter for {@code key}. */
   void incrementCounter(String key, int count);
 
+  /** Adds 1 to the given counter. */
+  default void incrementCounter(Counter counter) {
+    incrementCounter(counter, 1);
+  }
+
+  /** Adds {@code count} to the given counter. */
+  default void incrementCounter(Counter counter, int count) {
+    incrementCounter(counter.name(), count);
+  }
+
   /** Returns a copy of the counters in this statistics collector. */
   ImmutableMultiset<String> counters();
 
-  /** Returns a new statistics collector that will successfully count keys added to it. */
+  /**
+   * A handle for a counter, created once and then incremented many times. Incrementing a handle
+   * doesn't build or hash its name, which is only computed when the counters are read.
+   *
+   * <p>Handles are compared by identity, so a handle should be created once, typically when a check
+   * is constructed, rather than each time it is incremented.
+   */
+  final class Counter {
+    private final Supplier<String> name;
+    private final @Nullable Counter suppressed;
+
+    private Counter(Supplier<String> name, @Nullable Counter suppressed) {
+      this.name = name;
+      this.suppressed = suppressed;
+    }
+
+    /** Creates a counter whose name will be computed by {@code name} when it is first needed. */
+    public static Counter create(Supplier<String> name) {
+      Supplier<String> memoized = Suppliers.memoize(name::get);
+      return new Counter(memoized, new Counter(() -> memoized.get() + "-suppressed", null));
+    }
+
+    /** Returns the name of the counter. */
+    public String name() {
+      return name.get();
+    }
+
+    /** Returns the counter for occurrences in code where the counting check is suppressed. */
+    public Counter suppressed() {
+      return suppressed != null ? suppressed : this;
+    }
+
+    @Override
+    public String toString() {
+      return name();
+    }
+  }
+
+  /**
+   * Returns a new statistics collector that will successfully count keys added to it. It may be
+   * incremented from multiple threads.
+   */
   static StatisticsCollector createCollector() {
     return new StatisticsCollector() {
-      private final Multiset<String> strings = HashMultiset.create();
+      private final Multiset<String> strings = ConcurrentHashMultiset.create();
+      private final ConcurrentHashMap<Counter, LongAdder> handles = new ConcurrentHashMap<>();
 
       @Override
       public void incrementCounter(String key, int count) {
         strings.add(key, count);
       }
 
+      @Override
+      public void incrementCounter(Counter counter, int count) {
+        LongAdder adder = handles.get(counter);
+        if (adder == null) {
+          adder = handles.computeIfAbsent(counter, unused -> new LongAdder());
+        }
+        adder.add(count);
+      }
+
       @Override
       public ImmutableMultiset<String> counters() {
-        return ImmutableMultiset.copyOf(strings);
+        ImmutableMultiset.Builder<String> result = ImmutableMultiset.builder();
+        result.addAll(strings);
+        handles.forEach(
+            (counter, adder) -> result.addCopies(counter.name(), Ints.saturatedCast(adder.sum())));
+        return result.build();
       }
     };
   }
@@ -60,6 +131,9 @@ public interface StatisticsCollector {
       @Override
       public void incrementCounter(String key, int count) {}
 
+      @Override
+      public void incrementCounter(Counter counter, int count) {}
+
       @Override
       public ImmutableMultiset<String> counters() {
         return ImmutableMultiset.of();
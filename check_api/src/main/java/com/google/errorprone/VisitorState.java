@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultiset;
 import com.google.errorprone.BugPattern.SeverityLevel;
+import com.google.errorprone.StatisticsCollector.Counter;
 import com.google.errorprone.SuppressionInfo.SuppressedState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.dataflow.nullnesspropagation.NullnessAnalysis;
@@ -36,6 +37,7 @@ import com.google.errorprone.matchers.Suppressible;
 import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ErrorProneToken;
 import com.google.errorprone.util.ErrorProneTokens;
+import com.google.errorprone.util.SourceText;
 import com.sun.source.tree.Tree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Kinds.Kind;
@@ -64,6 +66,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.lang.model.util.Elements;
 import javax.tools.JavaFileObject;
 import org.jspecify.annotations.Nullable;
@@ -239,7 +242,7 @@ public final class VisitorState {
     if (override != null) {
       description = description.applySeverityOverride(override);
     }
-    sharedState.statisticsCollector.incrementCounter(statsKey(description.checkName + "-findings"));
+    incrementCounter(findingsCounter(description.checkName));
 
     // TODO(glorioso): I believe it is correct to still emit regular findings since the
     // Scanner configured the visitor state to explicitly scan suppressed nodes, but perhaps
@@ -248,6 +251,14 @@ public final class VisitorState {
     sharedState.descriptionListener.onDescribed(description);
   }
 
+  private static final ConcurrentHashMap<String, Counter> FINDINGS_COUNTERS =
+      new ConcurrentHashMap<>();
+
+  private static Counter findingsCounter(String checkName) {
+    return FINDINGS_COUNTERS.computeIfAbsent(
+        checkName, unused -> Counter.create(() -> checkName + "-findings"));
+  }
+
   private String statsKey(String key) {
     return suppressedState == SuppressedState.SUPPRESSED ? key + "-suppressed" : key;
   }
@@ -273,6 +284,21 @@ public final class VisitorState {
         statsKey(bugChecker.canonicalName() + "-" + key), count);
   }
 
+  /**
+   * Increment the given counter by 1. Prefer this to {@link #incrementCounter(BugChecker, String)}
+   * for counters incremented on hot paths, with a handle obtained once from {@link
+   * BugChecker#counter}.
+   */
+  public void incrementCounter(Counter counter) {
+    incrementCounter(counter, 1);
+  }
+
+  /** Increment the given counter by {@code count}. */
+  public void incrementCounter(Counter counter, int count) {
+    sharedState.statisticsCollector.incrementCounter(
+        suppressedState == SuppressedState.SUPPRESSED ? counter.suppressed() : counter, count);
+  }
+
   /**
    * Returns a copy of all of the counters previously added to this VisitorState with {@link
    * #incrementCounter}.
@@ -493,13 +519,27 @@ public final class VisitorState {
    * @return the source file as a sequence of characters, or null if it is not available
    */
   public CharSequence getSourceCode() {
-    try {
-      JavaFileObject javaFileObject = getPath().getCompilationUnit().getSourceFile();
-      return requireNonNull(javaFileObject.getCharContent(/* ignoreEncodingErrors= */ false));
-    } catch (IOException e) {
-      // this should be impossible if ignoreEncodingErrors is false
-      throw new UncheckedIOException(e);
+    return getSourceText();
+  }
+
+  /**
+   * Returns the text of the current source file. The text is read once per compilation unit, and
+   * its {@link SourceText#subSequence} views don't copy it.
+   */
+  public SourceText getSourceText() {
+    JavaFileObject javaFileObject = getPath().getCompilationUnit().getSourceFile();
+    if (sharedState.sourceFile != javaFileObject) {
+      try {
+        sharedState.sourceText =
+            SourceText.of(
+                requireNonNull(javaFileObject.getCharContent(/* ignoreEncodingErrors= */ false)));
+      } catch (IOException e) {
+        // this should be impossible if ignoreEncodingErrors is false
+        throw new UncheckedIOException(e);
+      }
+      sharedState.sourceFile = javaFileObject;
     }
+    return requireNonNull(sharedState.sourceText);
   }
 
   /**
@@ -513,16 +553,29 @@ public final class VisitorState {
    *     unavailable (e.g. for generated or desugared AST nodes)
    */
   public @Nullable String getSourceForNode(Tree tree) {
+    CharSequence source = getSourceViewForNode(tree);
+    return source == null ? null : source.toString();
+  }
+
+  /**
+   * Like {@link #getSourceForNode}, but returns a view of the source file rather than a copy of the
+   * node's source. Prefer this for checks that only compare or search the source, since it doesn't
+   * allocate a new string.
+   *
+   * @return the source code that represents the node, or {@code null} if the source code is
+   *     unavailable (e.g. for generated or desugared AST nodes)
+   */
+  public @Nullable CharSequence getSourceViewForNode(Tree tree) {
     int start = getStartPosition(tree);
     int end = getEndPosition(tree);
-    CharSequence source = getSourceCode();
+    SourceText source = getSourceText();
     if (!hasExplicitSource(tree, this)) {
       return null;
     }
     checkArgument(start >= 0, "invalid start position (%s) for: %s", start, tree);
     checkArgument(start < end, "invalid source positions (%s, %s) for: %s", start, end, tree);
     checkArgument(end <= source.length(), "invalid end position (%s) for: %s", end, tree);
-    return source.subSequence(start, end).toString();
+    return source.subSequence(start, end);
   }
 
   /**
@@ -689,6 +742,11 @@ public final class VisitorState {
     // based on number of files?
     private final Map<String, Optional<Type>> typeCache = new HashMap<>();
 
+    // The text of the most recently read source file; a VisitorState is normally used to scan a
+    // single compilation unit.
+    private @Nullable JavaFileObject sourceFile;
+    private @Nullable SourceText sourceText;
+
     SharedState(
         Context context,
         DescriptionListener descriptionListener,
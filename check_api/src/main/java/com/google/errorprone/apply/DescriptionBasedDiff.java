@@ -31,6 +31,8 @@ import java.nio.file.Paths;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import javax.tools.JavaFileObject;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Implementation of a {@link Diff} that performs the modifications that are passed to its {@link
@@ -42,31 +44,45 @@ import java.util.Set;
  */
 public final class DescriptionBasedDiff implements DescriptionListener, Diff {
 
+  private final JavaFileObject sourceFileObject;
   private final String sourcePath;
   private final boolean ignoreOverlappingFixes;
-  private final JCCompilationUnit compilationUnit;
   private final Set<String> importsToAdd;
   private final Set<String> importsToRemove;
-  private final ErrorProneEndPosTable endPositions;
+  private final @Nullable ErrorProneEndPosTable endPositions;
   private final Replacements replacements = new Replacements();
-  private final ImportOrganizer importOrganizer;
+  private final ImportStatements importStatements;
 
   public static DescriptionBasedDiff create(
       JCCompilationUnit compilationUnit, ImportOrganizer importOrganizer) {
-    return new DescriptionBasedDiff(compilationUnit, false, importOrganizer);
+    return new DescriptionBasedDiff(
+        compilationUnit, false, ErrorProneEndPosTable.create(compilationUnit), importOrganizer);
   }
 
   public static DescriptionBasedDiff createIgnoringOverlaps(
       JCCompilationUnit compilationUnit, ImportOrganizer importOrganizer) {
-    return new DescriptionBasedDiff(compilationUnit, true, importOrganizer);
+    return new DescriptionBasedDiff(
+        compilationUnit, true, ErrorProneEndPosTable.create(compilationUnit), importOrganizer);
+  }
+
+  /**
+   * Like {@link #createIgnoringOverlaps}, but only for fixes that have already been resolved to
+   * source positions (see {@link com.google.errorprone.fixes.SuggestedFix#resolve}). The diff keeps
+   * no reference to the trees of {@code compilationUnit}, so it can be kept until after the
+   * compilation unit has been discarded.
+   */
+  public static DescriptionBasedDiff createIgnoringOverlapsForResolvedFixes(
+      JCCompilationUnit compilationUnit, ImportOrganizer importOrganizer) {
+    return new DescriptionBasedDiff(compilationUnit, true, null, importOrganizer);
   }
 
   private DescriptionBasedDiff(
       JCCompilationUnit compilationUnit,
       boolean ignoreOverlappingFixes,
+      @Nullable ErrorProneEndPosTable endPositions,
       ImportOrganizer importOrganizer) {
-    this.compilationUnit = checkNotNull(compilationUnit);
-    URI sourceFileUri = compilationUnit.getSourceFile().toUri();
+    this.sourceFileObject = checkNotNull(compilationUnit).getSourceFile();
+    URI sourceFileUri = sourceFileObject.toUri();
     this.sourcePath =
         (sourceFileUri.isAbsolute() && Objects.equals(sourceFileUri.getScheme(), "file"))
             ? Paths.get(sourceFileUri).toAbsolutePath().toString()
@@ -74,8 +90,8 @@ public final class DescriptionBasedDiff implements DescriptionListener, Diff {
     this.ignoreOverlappingFixes = ignoreOverlappingFixes;
     this.importsToAdd = new LinkedHashSet<>();
     this.importsToRemove = new LinkedHashSet<>();
-    this.endPositions = ErrorProneEndPosTable.create(compilationUnit);
-    this.importOrganizer = importOrganizer;
+    this.endPositions = endPositions;
+    this.importStatements = ImportStatements.create(compilationUnit, importOrganizer);
   }
 
   @Override
@@ -99,7 +115,7 @@ public final class DescriptionBasedDiff implements DescriptionListener, Diff {
     try {
       handleFix(fix);
     } catch (SourcePositionException e) {
-      throw e.toErrorProneError(description.checkName, compilationUnit.getSourceFile());
+      throw e.toErrorProneError(description.checkName, sourceFileObject);
     }
   }
 
@@ -120,7 +136,6 @@ public final class DescriptionBasedDiff implements DescriptionListener, Diff {
   @Override
   public void applyDifferences(SourceFile sourceFile) {
     if (!importsToAdd.isEmpty() || !importsToRemove.isEmpty()) {
-      ImportStatements importStatements = ImportStatements.create(compilationUnit, importOrganizer);
       importStatements.addAll(importsToAdd);
       importStatements.removeAll(importsToRemove);
       if (importStatements.importsHaveChanged()) {
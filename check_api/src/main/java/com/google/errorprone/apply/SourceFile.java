@@ -16,26 +16,31 @@
 
 package com.google.errorprone.apply;
 
-import static com.google.common.base.Preconditions.checkArgument;
-
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.io.CharSource;
 import com.google.errorprone.fixes.Replacement;
 import com.google.errorprone.fixes.Replacements;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.StringReader;
-import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import javax.tools.JavaFileObject;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Representation of a mutable Java source file.
  *
+ * <p>The content is kept as a piece table: a list of ranges of immutable strings, which are either
+ * the original text or the text of replacements. Making replacements only splits and splices
+ * pieces, without copying any of the text, so applying several rounds of replacements to a large
+ * file doesn't copy the whole file for each round. The pieces are only joined into a single string
+ * when the content is read, for example when the file is written out through a {@link
+ * FileDestination}.
+ *
  * <p>This class is not thread-safe.
  *
  * @author sjnickerson@google.com (Simon Nickerson)
@@ -44,7 +49,14 @@ import javax.tools.JavaFileObject;
 public class SourceFile {
 
   private final String path;
-  private final StringBuilder sourceBuilder;
+
+  /** The pieces of the content, in order. None of them are empty. */
+  private List<Piece> pieces;
+
+  private int length;
+
+  /** The content as a single string, if it has been joined since it was last changed. */
+  private @Nullable String text;
 
   public static SourceFile create(JavaFileObject fileObject) throws IOException {
     return new SourceFile(fileObject.toUri().getPath(), fileObject.getCharContent(false));
@@ -52,7 +64,7 @@ public class SourceFile {
 
   public SourceFile(String path, CharSequence source) {
     this.path = path;
-    sourceBuilder = new StringBuilder(source);
+    reset(source.toString());
   }
 
   /** Returns the path for this source file */
@@ -63,25 +75,66 @@ public class SourceFile {
   /** Returns a copy of code as a list of lines. */
   public List<String> getLines() {
     try {
-      return CharSource.wrap(sourceBuilder).readLines();
+      return CharSource.wrap(text()).readLines();
     } catch (IOException e) {
       throw new AssertionError("IOException not possible, as the string is in-memory", e);
     }
   }
 
-  /** Returns a copy of the code as a string. */
+  /** Returns the code as a string. */
   public String getSourceText() {
-    return sourceBuilder.toString();
+    return text();
   }
 
+  /** Returns a read-only view of the code, which reflects any later changes to it. */
   public CharSequence getAsSequence() {
-    return CharBuffer.wrap(sourceBuilder).asReadOnlyBuffer();
+    return new CharSequence() {
+      @Override
+      public int length() {
+        return length;
+      }
+
+      @Override
+      public char charAt(int index) {
+        return text().charAt(index);
+      }
+
+      @Override
+      public CharSequence subSequence(int start, int end) {
+        return text().subSequence(start, end);
+      }
+
+      @Override
+      public String toString() {
+        return text();
+      }
+    };
   }
 
   /** Clears the current source test for this SourceFile and resets it to the passed-in value. */
   public void setSourceText(CharSequence source) {
-    sourceBuilder.setLength(0); // clear StringBuilder
-    sourceBuilder.append(source);
+    reset(source.toString());
+  }
+
+  private void reset(String source) {
+    pieces = new ArrayList<>();
+    if (!source.isEmpty()) {
+      pieces.add(new Piece(source, 0, source.length()));
+    }
+    length = source.length();
+    text = source;
+  }
+
+  /** Returns the content as a single string, joining the pieces if it has changed. */
+  private String text() {
+    if (text == null) {
+      StringBuilder joined = new StringBuilder(length);
+      for (Piece piece : pieces) {
+        joined.append(piece.text(), piece.start(), piece.end());
+      }
+      reset(joined.toString());
+    }
+    return text;
   }
 
   /**
@@ -91,7 +144,7 @@ public class SourceFile {
    * and end parameters.
    */
   public String getFragmentByChars(int startPosition, int endPosition) {
-    return sourceBuilder.substring(startPosition, endPosition);
+    return text().substring(startPosition, endPosition);
   }
 
   /**
@@ -106,7 +159,7 @@ public class SourceFile {
   }
 
   private List<String> getLines(int startLine, int endLine) {
-    LineNumberReader reader = new LineNumberReader(new StringReader(sourceBuilder.toString()));
+    LineNumberReader reader = new LineNumberReader(new StringReader(text()));
     List<String> lines = new ArrayList<>(endLine - startLine + 1);
     String line;
     try {
@@ -126,7 +179,7 @@ public class SourceFile {
 
   /** Replace the source code with the new lines of code. */
   public void replaceLines(List<String> lines) {
-    sourceBuilder.replace(0, sourceBuilder.length(), Joiner.on("\n").join(lines) + "\n");
+    reset(Joiner.on("\n").join(lines) + "\n");
   }
 
   /** Replace the source code between the start and end lines with some new lines of code. */
@@ -154,60 +207,84 @@ public class SourceFile {
    * and end parameters.
    */
   public void replaceChars(int startPosition, int endPosition, String replacement) {
-    try {
-      sourceBuilder.replace(startPosition, endPosition, replacement);
-    } catch (StringIndexOutOfBoundsException e) {
+    // Like StringBuilder#replace, an end position past the end of the file is truncated.
+    int end = Math.min(endPosition, length);
+    if (startPosition < 0 || startPosition > end) {
       throw new IndexOutOfBoundsException(
           String.format(
               "Replacement cannot be made. Source file %s has length %d, requested start "
                   + "position %d, requested end position %d, replacement %s",
-              path, sourceBuilder.length(), startPosition, endPosition, replacement));
+              path, length, startPosition, endPosition, replacement));
     }
+    splice(ImmutableList.of(Replacement.create(startPosition, end, replacement)));
   }
 
   void makeReplacements(Replacements changes) {
     ImmutableSet<Replacement> replacements = changes.ascending();
-    switch (replacements.size()) {
-      case 0 -> {
-        return;
+    if (replacements.isEmpty()) {
+      return;
+    }
+    Replacement last = replacements.asList().getLast();
+    Preconditions.checkArgument(
+        last.endPosition() <= length,
+        "End [%s] should not exceed source length [%s]",
+        last.endPosition(),
+        length);
+    splice(replacements);
+  }
+
+  /**
+   * Makes non-overlapping replacements, which must be in ascending order, in a single pass over the
+   * pieces. The text of the file isn't copied: pieces that are partly replaced are split into
+   * ranges of the same strings, and the replacement text is added as new pieces.
+   */
+  private void splice(Iterable<Replacement> replacements) {
+    List<Piece> spliced = new ArrayList<>();
+    int index = 0; // the first piece that hasn't been passed
+    int pieceStart = 0; // the position of that piece in the file before the replacements
+    int position = 0; // the position up to which the file has been spliced
+    int newLength = length;
+    for (Replacement replacement : replacements) {
+      for (int end = replacement.startPosition(); position < end; ) {
+        Piece piece = pieces.get(index);
+        int pieceEnd = pieceStart + piece.length();
+        if (pieceEnd <= position) {
+          index++;
+          pieceStart = pieceEnd;
+          continue;
+        }
+        Piece slice = piece.slice(position - pieceStart, Math.min(pieceEnd, end) - pieceStart);
+        spliced.add(slice);
+        position += slice.length();
       }
-      case 1 -> {
-        Replacement onlyReplacement = Iterables.getOnlyElement(replacements);
-        replaceChars(
-            onlyReplacement.startPosition(),
-            onlyReplacement.endPosition(),
-            onlyReplacement.replaceWith());
-        return;
+      if (!replacement.replaceWith().isEmpty()) {
+        spliced.add(new Piece(replacement.replaceWith(), 0, replacement.replaceWith().length()));
+      }
+      position = replacement.endPosition();
+      newLength += replacement.replaceWith().length() - replacement.length();
+    }
+    // Keep the rest of the file
+    for (; index < pieces.size(); index++) {
+      Piece piece = pieces.get(index);
+      int pieceEnd = pieceStart + piece.length();
+      if (pieceEnd > position) {
+        spliced.add(piece.slice(Math.max(position - pieceStart, 0), piece.length()));
       }
-      default -> {}
+      pieceStart = pieceEnd;
+    }
+    pieces = spliced;
+    length = newLength;
+    text = null;
+  }
+
+  /** The characters of {@code text} between {@code start} (inclusive) and {@code end}. */
+  private record Piece(String text, int start, int end) {
+    int length() {
+      return end - start;
     }
 
-    // Since we have many replacements to make all at once, it's better to start off with a clean
-    // slate, rather than make multiple separate replacements which each require shifting around
-    // the tail of our sourceBuilder. If we do them all at once, we can work forward from the
-    // beginning of the tile, so that each new replacement does not affect any previous
-    // replacements.
-    StringBuilder newContent = new StringBuilder();
-    int positionInOriginal = 0;
-    for (Replacement repl : replacements) {
-      checkArgument(
-          repl.endPosition() <= sourceBuilder.length(),
-          "End [%s] should not exceed source length [%s]",
-          repl.endPosition(),
-          sourceBuilder.length());
-
-      // Write the unmodified content leading up to this change
-      newContent.append(sourceBuilder, positionInOriginal, repl.startPosition());
-      // And the modified content for this change
-      newContent.append(repl.replaceWith());
-      // Then skip everything from source between start and end
-      positionInOriginal = repl.endPosition();
+    Piece slice(int from, int to) {
+      return from == 0 && to == length() ? this : new Piece(text, start + from, start + to);
     }
-    // Flush out any remaining content after the final change
-    newContent.append(sourceBuilder, positionInOriginal, sourceBuilder.length());
-    // Overwrite the contents of our old buffer. Note we mutate the existing StringBuilder rather
-    // than replacing it, because other clients may have a view of the content via getAsSequence,
-    // and we want that view to reflect the new content.
-    setSourceText(newContent);
   }
 }
@@ -22,12 +22,15 @@ import static com.google.errorprone.util.ASTHelpers.getModifiers;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
 
 import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Range;
 import com.google.common.collect.TreeRangeSet;
 import com.google.errorprone.BugCheckerInfo;
+import com.google.errorprone.BugPattern.CostClass;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.ErrorProneOptions;
+import com.google.errorprone.StatisticsCollector.Counter;
 import com.google.errorprone.SuppressionInfo;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.annotations.CheckReturnValue;
@@ -273,6 +276,25 @@ public abstract class BugChecker implements Suppressible, Serializable {
     return info.disableable();
   }
 
+  public CostClass cost() {
+    return info.cost();
+  }
+
+  public ImmutableSet<String> requiredReferences() {
+    return info.requiredReferences();
+  }
+
+  /**
+   * Returns a handle for the counter named by this checker's canonical name and {@code key}, to be
+   * incremented with {@link VisitorState#incrementCounter(Counter)}. Handles should be created
+   * once, e.g. in a field initializer, rather than each time the counter is incremented.
+   *
+   * <p>e.g.: a key of {@code foo} becomes {@code FooChecker-foo}.
+   */
+  protected final Counter counter(String key) {
+    return Counter.create(() -> canonicalName() + "-" + key);
+  }
+
   @Override
   public Set<Class<? extends Annotation>> customSuppressionAnnotations() {
     return info.customSuppressionAnnotations();
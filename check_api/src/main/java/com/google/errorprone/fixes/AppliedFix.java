@@ -16,13 +16,6 @@
 
 package com.google.errorprone.fixes;
 
-import static com.google.common.base.Preconditions.checkArgument;
-
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Range;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
@@ -42,7 +35,7 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
     // We apply the replacements in ascending order here. Descending is simpler, since applying a
     // replacement can't change the index for future replacements, but it leads to quadratic
     // copying behavior as we constantly shift the tail of the file around in our StringBuilder.
-    ImmutableSet<Replacement> replacements = ascending(suggestedFix.getReplacements(endPositions));
+    Replacements replacements = ascending(suggestedFix.getReplacements(endPositions));
     if (replacements.isEmpty()) {
       return null;
     }
@@ -60,69 +53,38 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
    */
   public static final int MAX_LINE_LENGTH = 100;
 
-  private static String snippet(
-      CharSequence sourceSequence, ImmutableSet<Replacement> replacements) {
-    Replacement firstEdit = replacements.iterator().next();
+  private static String snippet(CharSequence sourceSequence, Replacements replacements) {
+    Replacement firstEdit = replacements.get(0);
     // Find a subrange of the source that should contain the entire first line that fixes are
     // applied to, and then only edit source and apply fixes in that range. This is a performance
     // optimization to avoid applying all of the fixes in very large files just to produce a
     // snippet.
     int startOffset = Math.max(0, firstEdit.startPosition() - MAX_LINE_LENGTH);
-    int endOffset = Math.min(firstEdit.endPosition() + MAX_LINE_LENGTH, sourceSequence.length());
-    Range<Integer> trimmed = Range.closedOpen(startOffset, endOffset);
-    List<Replacement> shiftedReplacements = new ArrayList<>();
-    for (Replacement replacement : replacements) {
-      if (!replacement.range().isConnected(trimmed)) {
-        continue;
-      }
-      if (replacement.endPosition() > endOffset) {
-        endOffset = replacement.endPosition();
-      }
-      shiftedReplacements.add(
-          Replacement.create(
-              replacement.startPosition() - startOffset,
-              replacement.endPosition() - startOffset,
-              replacement.replaceWith()));
+    int trimmedEnd = Math.min(firstEdit.endPosition() + MAX_LINE_LENGTH, sourceSequence.length());
+    int endOffset = trimmedEnd;
+    // The replacements are in ascending order, so the ones that touch the subrange are a prefix.
+    int count = 0;
+    while (count < replacements.size()
+        && replacements.get(count).startPosition() <= trimmedEnd) {
+      endOffset = Math.max(endOffset, replacements.get(count).endPosition());
+      count++;
     }
-    String replaced =
-        applyReplacements(sourceSequence.subSequence(startOffset, endOffset), shiftedReplacements);
+    CharSequence trimmed = sourceSequence.subSequence(startOffset, endOffset);
+    String replaced = replacements.applyTo(trimmed, startOffset, count);
     // Find the changed line containing the first edit
-    return firstEditedLine(replaced, shiftedReplacements.getFirst());
+    return firstEditedLine(replaced, firstEdit.startPosition() - startOffset);
   }
 
   public static String applyReplacements(
       CharSequence source, ErrorProneEndPosTable endPositions, Fix fix) {
-    return applyReplacements(source, fix.getReplacements(endPositions));
-  }
-
-  private static String applyReplacements(
-      CharSequence source, Collection<Replacement> replacements) {
-    StringBuilder replaced = new StringBuilder();
-    int positionInOriginal = 0;
-    for (Replacement repl : replacements) {
-      checkArgument(
-          repl.endPosition() <= source.length(),
-          "End [%s] should not exceed source length [%s]",
-          repl.endPosition(),
-          source.length());
-
-      // Write the unmodified content leading up to this change
-      replaced.append(source, positionInOriginal, repl.startPosition());
-      // And the modified content for this change
-      replaced.append(repl.replaceWith());
-      // Then skip everything from source between start and end
-      positionInOriginal = repl.endPosition();
-    }
-    // Flush out any remaining content after the final change
-    replaced.append(source, positionInOriginal, source.length());
-    return replaced.toString();
+    return ascending(fix.getReplacements(endPositions)).applyTo(source);
   }
 
   /** Get the replacements in an appropriate order to apply correctly. */
-  private static ImmutableSet<Replacement> ascending(Set<Replacement> set) {
+  private static Replacements ascending(Set<Replacement> set) {
     Replacements replacements = new Replacements();
     set.forEach(replacements::add);
-    return replacements.ascending();
+    return replacements;
   }
 
   /**
@@ -131,11 +93,11 @@ public record AppliedFix(String snippet, boolean isRemoveLine) {
    * Error Prone have already been transformed from platform line endings to newlines (and even if
    * it didn't, the dangling \r characters would be handled by a trim() call).
    */
-  private static String firstEditedLine(String content, Replacement firstEdit) {
+  private static String firstEditedLine(String content, int firstEditPosition) {
     // We subtract 1 here because we want to find the first newline *before* the edit, not one
     // at its beginning.
-    int startOfFirstEditedLine = content.lastIndexOf("\n", firstEdit.startPosition() - 1);
-    int endOfFirstEditedLine = content.indexOf("\n", firstEdit.startPosition());
+    int startOfFirstEditedLine = content.lastIndexOf("\n", firstEditPosition - 1);
+    int endOfFirstEditedLine = content.indexOf("\n", firstEditPosition);
     if (startOfFirstEditedLine == -1) {
       startOfFirstEditedLine = 0; // Change to start of file with no preceding newline
     }
@@ -18,34 +18,32 @@ package com.google.errorprone.fixes;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Range;
-import com.google.common.collect.RangeMap;
-import com.google.common.collect.TreeRangeMap;
+import com.google.common.primitives.Ints;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.Collection;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-/** A collection of {@link Replacement}s to be made to a source file. */
+/**
+ * A collection of {@link Replacement}s to be made to a source file.
+ *
+ * <p>The replacements are kept in ascending order of their ranges, in a sorted array of packed
+ * {@code (start, end)} pairs. Since the stored replacements never overlap, a new replacement can
+ * only overlap with its immediate neighbours in that order, so finding where it goes and checking
+ * it for overlaps is a binary search. Replacements that are added in ascending order, as fixes
+ * usually produce them, are appended in constant time.
+ */
 public class Replacements {
 
-  /**
-   * We apply replacements in reverse order of start position, so that replacements that change the
-   * length of the input don't affect the position of earlier replacements.
-   */
-  private static final Comparator<Range<Integer>> DESCENDING =
-      Comparator.<Range<Integer>, Integer>comparing(Range::lowerEndpoint)
-          .thenComparing(Range::upperEndpoint)
-          .reversed();
+  private static final long[] NO_RANGES = {};
+  private static final Replacement[] NO_REPLACEMENTS = {};
 
-  private final TreeMap<Range<Integer>, Replacement> replacements = new TreeMap<>(DESCENDING);
-  private final RangeMap<Integer, Replacement> overlaps = TreeRangeMap.create();
-  private final TreeSet<Integer> zeroLengthRanges = new TreeSet<>();
+  /** The ranges of the replacements, packed by {@link #key}, in ascending order. */
+  private long[] ranges = NO_RANGES;
+
+  private Replacement[] replacements = NO_REPLACEMENTS;
+  private int size;
 
   /** A policy for handling overlapping insertions. */
   public enum CoalescePolicy {
@@ -138,8 +136,10 @@ public class Replacements {
 
   @CanIgnoreReturnValue
   public Replacements add(Replacement replacement, CoalescePolicy coalescePolicy) {
-    if (replacements.containsKey(replacement.range())) {
-      Replacement existing = replacements.get(replacement.range());
+    long key = key(replacement);
+    int index = Arrays.binarySearch(ranges, 0, size, key);
+    if (index >= 0) {
+      Replacement existing = replacements[index];
       if (replacement.range().isEmpty()) {
         // The replacement is an insertion, and there's an existing insertion at the same point.
         // First check whether it's a duplicate insert.
@@ -157,37 +157,55 @@ public class Replacements {
         throw new IllegalArgumentException(
             String.format("%s conflicts with existing replacement %s", replacement, existing));
       }
-    } else {
-      checkOverlaps(replacement);
+      replacements[index] = replacement;
+      return this;
+    }
+    index = -index - 1;
+    if (index > 0) {
+      checkOverlap(replacement, replacements[index - 1]);
     }
-    replacements.put(replacement.range(), replacement);
+    if (index < size) {
+      checkOverlap(replacement, replacements[index]);
+    }
+    insert(index, key, replacement);
     return this;
   }
 
-  private void checkOverlaps(Replacement replacement) {
-    Range<Integer> replacementRange = replacement.range();
-    Collection<Replacement> overlap =
-        overlaps.subRangeMap(replacementRange).asMapOfRanges().values();
-    checkArgument(
-        overlap.isEmpty(),
-        "%s overlaps with existing replacements: %s",
-        replacement,
-        Joiner.on(", ").join(overlap));
-    Set<Integer> containedZeroLengthRangeStarts =
-        zeroLengthRanges.subSet(
-            replacementRange.lowerEndpoint(),
-            /* fromInclusive= */ false,
-            replacementRange.upperEndpoint(),
-            /* toInclusive= */ false);
-    checkArgument(
-        containedZeroLengthRangeStarts.isEmpty(),
-        "%s overlaps with existing zero-length replacements: %s",
-        replacement,
-        Joiner.on(", ").join(containedZeroLengthRangeStarts));
-    overlaps.put(replacementRange, replacement);
-    if (replacementRange.isEmpty()) {
-      zeroLengthRanges.add(replacementRange.lowerEndpoint());
+  /**
+   * Checks that {@code replacement} doesn't overlap with a neighbouring replacement: neither may
+   * start or end strictly inside the other, and that includes insertions.
+   */
+  private static void checkOverlap(Replacement replacement, Replacement existing) {
+    if (replacement.startPosition() >= existing.endPosition()
+        || existing.startPosition() >= replacement.endPosition()) {
+      return;
+    }
+    if (existing.range().isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "%s overlaps with existing zero-length replacements: %s",
+              replacement, existing.startPosition()));
+    }
+    throw new IllegalArgumentException(
+        String.format("%s overlaps with existing replacements: %s", replacement, existing));
+  }
+
+  private void insert(int index, long key, Replacement replacement) {
+    if (size == ranges.length) {
+      int capacity = Math.max(16, size * 2);
+      ranges = Arrays.copyOf(ranges, capacity);
+      replacements = Arrays.copyOf(replacements, capacity);
     }
+    System.arraycopy(ranges, index, ranges, index + 1, size - index);
+    System.arraycopy(replacements, index, replacements, index + 1, size - index);
+    ranges[index] = key;
+    replacements[index] = replacement;
+    size++;
+  }
+
+  /** Orders ranges by their start position, and then by their end position. */
+  private static long key(Replacement replacement) {
+    return ((long) replacement.startPosition() << 32) | replacement.endPosition();
   }
 
   /**
@@ -198,15 +216,72 @@ public class Replacements {
   @Deprecated
   public Set<Replacement> descending() {
     // TODO(cushon): refactor SuggestedFix#getReplacements and just return a Collection,
-    return new LinkedHashSet<>(replacements.values());
+    Set<Replacement> result = new LinkedHashSet<>();
+    for (int i = size - 1; i >= 0; i--) {
+      result.add(replacements[i]);
+    }
+    return result;
   }
 
   /** Non-overlapping replacements, sorted in ascending order by position. */
   public ImmutableSet<Replacement> ascending() {
-    return ImmutableSet.copyOf(replacements.descendingMap().values());
+    return ImmutableSet.copyOf(Arrays.asList(replacements).subList(0, size));
+  }
+
+  /**
+   * Applies the replacements to {@code source}, and returns the result.
+   *
+   * <p>The result is built in a single pass from the start of the source, so each replacement is
+   * copied once, and the text between them is copied once.
+   */
+  public String applyTo(CharSequence source) {
+    return applyTo(source, 0, size);
+  }
+
+  /**
+   * Applies the first {@code count} replacements to {@code source}, which is the text of the file
+   * starting at {@code offset}, and returns the result.
+   */
+  String applyTo(CharSequence source, int offset, int count) {
+    long length = source.length();
+    for (int i = 0; i < count; i++) {
+      length += replacements[i].replaceWith().length() - replacements[i].length();
+    }
+    StringBuilder replaced = new StringBuilder(Ints.saturatedCast(length));
+    int positionInOriginal = 0;
+    for (int i = 0; i < count; i++) {
+      Replacement repl = replacements[i];
+      int start = repl.startPosition() - offset;
+      int end = repl.endPosition() - offset;
+      checkArgument(
+          end <= source.length(),
+          "End [%s] should not exceed source length [%s]",
+          end,
+          source.length());
+
+      // Write the unmodified content leading up to this change
+      replaced.append(source, positionInOriginal, start);
+      // And the modified content for this change
+      replaced.append(repl.replaceWith());
+      // Then skip everything from source between start and end
+      positionInOriginal = end;
+    }
+    // Flush out any remaining content after the final change
+    replaced.append(source, positionInOriginal, source.length());
+    return replaced.toString();
+  }
+
+  /** Returns the replacement at {@code index} in ascending order. */
+  Replacement get(int index) {
+    checkArgument(index >= 0 && index < size, "invalid index: %s", index);
+    return replacements[index];
+  }
+
+  public int size() {
+    return size;
   }
 
   public boolean isEmpty() {
-    return replacements.isEmpty();
+    return size == 0;
   }
 }
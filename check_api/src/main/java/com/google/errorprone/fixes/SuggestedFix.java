@@ -45,6 +45,9 @@ public abstract class SuggestedFix implements Fix {
 
   abstract ImmutableList<FixOperation> fixes();
 
+  /** The replacements of a fix returned by {@link #resolve}, which are computed only once. */
+  private @Nullable ImmutableSet<Replacement> resolvedReplacements;
+
   private static SuggestedFix create(SuggestedFix.Builder builder) {
     return new AutoValue_SuggestedFix(
         builder.coalescePolicy,
@@ -86,6 +89,9 @@ public abstract class SuggestedFix implements Fix {
 
   @Override
   public ImmutableSet<Replacement> getReplacements(ErrorProneEndPosTable endPositions) {
+    if (resolvedReplacements != null) {
+      return resolvedReplacements;
+    }
     if (endPositions == null) {
       throw new IllegalArgumentException(
           "Cannot produce correct replacements without endPositions.");
@@ -97,6 +103,35 @@ public abstract class SuggestedFix implements Fix {
     return replacements.ascending();
   }
 
+  /**
+   * Returns a fix with the same edits as this one, whose replacements are at fixed source positions
+   * and no longer refer to the trees of the compilation unit. The replacements of the returned fix
+   * don't need to be computed again, and don't depend on the {@code endPositions} they're read
+   * with.
+   */
+  public SuggestedFix resolve(ErrorProneEndPosTable endPositions) {
+    if (resolvedReplacements != null) {
+      return this;
+    }
+    ImmutableSet<Replacement> replacements = getReplacements(endPositions);
+    ImmutableList.Builder<FixOperation> resolved =
+        ImmutableList.builderWithExpectedSize(replacements.size());
+    for (Replacement replacement : replacements) {
+      resolved.add(
+          new ResolvedReplacement(
+              replacement.startPosition(), replacement.endPosition(), replacement.replaceWith()));
+    }
+    SuggestedFix fix =
+        new AutoValue_SuggestedFix(
+            getCoalescePolicy(),
+            resolved.build(),
+            getImportsToAdd(),
+            getImportsToRemove(),
+            getShortDescription());
+    fix.resolvedReplacements = replacements;
+    return fix;
+  }
+
   /** {@link Builder#replace(Tree, String)} */
   public static SuggestedFix replace(Tree tree, String replaceWith) {
     return builder().replace(tree, replaceWith).build();
@@ -478,4 +513,13 @@ public abstract class SuggestedFix implements Fix {
           original().getStartPosition(), original().getEndPosition(endPositions), replacement());
     }
   }
+
+  /** A replacement whose source positions have already been computed. */
+  private record ResolvedReplacement(int startPosition, int endPosition, String replaceWith)
+      implements FixOperation {
+    @Override
+    public Replacement getReplacement(ErrorProneEndPosTable endPositions) {
+      return Replacement.create(startPosition, endPosition, replaceWith);
+    }
+  }
 }
@@ -32,6 +32,7 @@ import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.hasExplicitSource;
 import static com.google.errorprone.util.ASTHelpers.hasImplicitType;
 import static com.google.errorprone.util.ASTHelpers.isRecord;
+import static com.sun.tools.javac.code.Scope.LookupKind.NON_RECURSIVE;
 import static com.sun.tools.javac.code.TypeTag.CLASS;
 import static com.sun.tools.javac.util.Position.NOPOS;
 import static java.lang.Math.max;
@@ -90,6 +91,7 @@ import com.sun.source.util.JavacTask;
 import com.sun.source.util.TreePath;
 import com.sun.source.util.TreeScanner;
 import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.api.JavacTaskImpl;
 import com.sun.tools.javac.api.JavacTool;
 import com.sun.tools.javac.api.JavacTrees;
 import com.sun.tools.javac.code.BoundKind;
@@ -98,6 +100,8 @@ import com.sun.tools.javac.code.Kinds.KindSelector;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.ClassSymbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symbol.TypeVariableSymbol;
+import com.sun.tools.javac.code.Symbol.VarSymbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Types.DefaultTypeVisitor;
 import com.sun.tools.javac.main.Arguments;
@@ -106,6 +110,7 @@ import com.sun.tools.javac.parser.Tokens.TokenKind;
 import com.sun.tools.javac.tree.DCTree;
 import com.sun.tools.javac.tree.DCTree.DCDocComment;
 import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCClassDecl;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.JCDiagnostic;
@@ -1345,18 +1350,61 @@ public final class SuggestedFixes {
 
   /**
    * Returns true if the current compilation would succeed with the given fix applied. Note that
-   * calling this method is very expensive as it requires rerunning the entire compile, so it should
-   * be used with restraint.
+   * calling this method is very expensive as it requires recompiling the modified compilation unit,
+   * and the entire compile if the fix changes any signatures, so it should be used with restraint.
    */
   public static boolean compilesWithFix(Fix fix, VisitorState state) {
     return compilesWithFix(fix, state, ImmutableList.of(), false);
   }
 
+  /**
+   * Returns the fixes for which {@link #compilesWithFix(Fix, VisitorState)} would return true.
+   *
+   * <p>The fixes must all apply to the current compilation unit and be independent of each other:
+   * they are first checked together in a single speculative compilation, and only checked in
+   * smaller groups if that fails.
+   */
+  public static ImmutableList<SuggestedFix> compilingFixes(
+      List<SuggestedFix> fixes, VisitorState state) {
+    ImmutableList.Builder<SuggestedFix> compiling = ImmutableList.builder();
+    addCompilingFixes(fixes, state, compiling);
+    return compiling.build();
+  }
+
+  private static void addCompilingFixes(
+      List<SuggestedFix> fixes, VisitorState state, ImmutableList.Builder<SuggestedFix> compiling) {
+    if (fixes.isEmpty()) {
+      return;
+    }
+    if (fixes.size() == 1) {
+      if (compilesWithFix(getOnlyElement(fixes), state)) {
+        compiling.add(getOnlyElement(fixes));
+      }
+      return;
+    }
+    boolean compiles;
+    try {
+      compiles = compilesWithFix(fixes.stream().collect(SuggestedFix.mergeFixes()), state);
+    } catch (IllegalArgumentException e) {
+      // the fixes overlap, and can only be checked separately
+      compiles = false;
+    }
+    if (compiles) {
+      compiling.addAll(fixes);
+      return;
+    }
+    int mid = fixes.size() / 2;
+    addCompilingFixes(fixes.subList(0, mid), state, compiling);
+    addCompilingFixes(fixes.subList(mid, fixes.size()), state, compiling);
+  }
+
   /**
    * Returns true if the current compilation would succeed with the given fix applied, using the
    * given additional compiler options, optionally limiting the checking of compilation failures to
    * the compilation unit in which the fix is applied. Note that calling this method is very
-   * expensive as it requires rerunning the entire compile, so it should be used with restraint.
+   * expensive as it requires recompiling the modified compilation unit, or rerunning the entire
+   * compile if that is needed to observe the effects of the fix or options on other compilation
+   * units, so it should be used with restraint.
    */
   public static boolean compilesWithFix(
       Fix fix,
@@ -1367,8 +1415,17 @@ public final class SuggestedFixes {
         ImmutableList.<String>builder().addAll(extraOptions);
     int maxErrors = findOptionOrAppend(extraOptionsBuilder, extraOptions, "-Xmaxerrs", 100);
     int maxWarnings = findOptionOrAppend(extraOptionsBuilder, extraOptions, "-Xmaxwarns", 100);
+    // Extra options may cause new diagnostics in compilation units the fix doesn't touch, which
+    // are only observed by recompiling all of them.
+    boolean speculative = onlyInSameCompilationUnit || extraOptions.isEmpty();
     return compilesWithFix(
-        fix, state, extraOptionsBuilder.build(), onlyInSameCompilationUnit, maxErrors, maxWarnings);
+        fix,
+        state,
+        extraOptionsBuilder.build(),
+        onlyInSameCompilationUnit,
+        speculative,
+        maxErrors,
+        maxWarnings);
   }
 
   private static int findOptionOrAppend(
@@ -1394,6 +1451,7 @@ public final class SuggestedFixes {
       VisitorState state,
       ImmutableList<String> extraOptions,
       boolean onlyInSameCompilationUnit,
+      boolean speculative,
       int maxErrors,
       int maxWarnings) {
     if (fix.isEmpty() && extraOptions.isEmpty()) {
@@ -1407,7 +1465,10 @@ public final class SuggestedFixes {
       return false;
     }
 
-    Result compilationResult = fixCompiler.compile(extraOptions);
+    Result compilationResult =
+        speculative
+            ? fixCompiler.compileModifiedUnit(extraOptions)
+            : fixCompiler.compile(extraOptions);
     URI modifiedFileUri = FixCompiler.getModifiedFileUri(state);
 
     // If we reached the maximum number of diagnostics of a given kind without finding one in the
@@ -1470,8 +1531,116 @@ public final class SuggestedFixes {
       this.speculativeFiles = ImmutableMap.copyOf(speculativeFiles);
     }
 
+    /** Recompiles all files in the compilation, with the fix applied. */
     public Result compile(ImmutableList<String> extraOptions) {
       DiagnosticCollector<JavaFileObject> diagnosticListener = new DiagnosticCollector<>();
+      JavacTaskImpl newTask = createTask(extraOptions, diagnosticListener);
+      newTask.analyze();
+      return new Result(diagnosticListener.getDiagnostics());
+    }
+
+    /**
+     * Recompiles the compilation with the fix applied, but only attributes and flow-analyzes the
+     * modified compilation unit. The other compilation units are parsed and entered to provide
+     * their symbols, which is much cheaper than analyzing them.
+     *
+     * <p>If the fix changes the signature of anything that is visible outside the modified
+     * compilation unit, the other compilation units may be affected, and all of them are analyzed
+     * as in {@link #compile}.
+     */
+    public Result compileModifiedUnit(ImmutableList<String> extraOptions) {
+      DiagnosticCollector<JavaFileObject> diagnosticListener = new DiagnosticCollector<>();
+      JavacTaskImpl newTask = createTask(extraOptions, diagnosticListener);
+      URI modifiedFileUri = sourceURI(getModifiedFileUri(state));
+      CompilationUnitTree modifiedUnit = null;
+      for (CompilationUnitTree unit : newTask.parse()) {
+        if (unit.getSourceFile().toUri().equals(modifiedFileUri)) {
+          modifiedUnit = unit;
+        }
+      }
+      newTask.enter();
+      ImmutableList<ClassSymbol> modifiedClasses =
+          modifiedUnit != null ? classes(modifiedUnit) : ImmutableList.of();
+      if (modifiedClasses.isEmpty()
+          || !signatures(modifiedClasses)
+              .equals(signatures(classes(state.getPath().getCompilationUnit())))) {
+        newTask.analyze();
+      } else {
+        newTask.analyze(modifiedClasses);
+      }
+      return new Result(diagnosticListener.getDiagnostics());
+    }
+
+    /** Returns the symbols of the top-level classes of an entered compilation unit. */
+    private static ImmutableList<ClassSymbol> classes(CompilationUnitTree unit) {
+      ImmutableList.Builder<ClassSymbol> classes = ImmutableList.builder();
+      for (Tree typeDecl : unit.getTypeDecls()) {
+        if (typeDecl instanceof JCClassDecl classDecl && classDecl.sym != null) {
+          classes.add(classDecl.sym);
+        }
+      }
+      return classes.build();
+    }
+
+    /**
+     * Describes everything about the given classes, and their non-private members, that could
+     * affect the compilation of other compilation units.
+     */
+    private static ImmutableSet<String> signatures(List<ClassSymbol> classes) {
+      ImmutableSet.Builder<String> signatures = ImmutableSet.builder();
+      for (ClassSymbol sym : classes) {
+        addSignatures(sym, signatures);
+      }
+      return signatures.build();
+    }
+
+    private static void addSignatures(Symbol sym, ImmutableSet.Builder<String> signatures) {
+      if ((sym.flags() & (Flags.PRIVATE | Flags.SYNTHETIC)) != 0) {
+        return;
+      }
+      StringBuilder signature =
+          new StringBuilder()
+              .append(sym.getKind())
+              .append(' ')
+              .append(sym.owner.flatName())
+              .append('.')
+              .append(sym.flatName())
+              .append(' ')
+              .append(sym.getModifiers())
+              .append(sym.getAnnotationMirrors())
+              .append(' ')
+              .append(sym.type);
+      for (TypeVariableSymbol typeParameter : sym.getTypeParameters()) {
+        signature.append(' ').append(typeParameter.getBounds());
+      }
+      switch (sym) {
+        case ClassSymbol classSymbol -> {
+          signature
+              .append(" extends ")
+              .append(classSymbol.getSuperclass())
+              .append(" implements ")
+              .append(classSymbol.getInterfaces())
+              .append(" permits ")
+              .append(classSymbol.getPermittedSubclasses());
+          for (Symbol member : classSymbol.members().getSymbols(NON_RECURSIVE)) {
+            addSignatures(member, signatures);
+          }
+        }
+        case MethodSymbol methodSymbol ->
+            signature
+                .append(" throws ")
+                .append(methodSymbol.getThrownTypes())
+                .append(" default ")
+                .append(methodSymbol.getDefaultValue());
+        case VarSymbol varSymbol -> signature.append(" = ").append(varSymbol.getConstValue());
+        default -> {}
+      }
+      signatures.add(signature.toString());
+    }
+
+    private JavacTaskImpl createTask(
+        ImmutableList<String> extraOptions,
+        DiagnosticCollector<JavaFileObject> diagnosticListener) {
       Context context = createContext();
       Arguments arguments = Arguments.instance(javacTask.getContext());
       JavaFileManager originalFileManager = state.context.get(JavaFileManager.class);
@@ -1492,7 +1661,7 @@ public final class SuggestedFixes {
               }
             };
       }
-      JavacTask newTask =
+      return (JavacTaskImpl)
           JavacTool.create()
               .getTask(
                   CharStreams.nullWriter(),
@@ -1502,12 +1671,6 @@ public final class SuggestedFixes {
                   arguments.getClassNames(),
                   fileObjects,
                   context);
-      try {
-        newTask.analyze();
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
-      return new Result(diagnosticListener.getDiagnostics());
     }
 
     private Context createContext() {
@@ -49,6 +49,7 @@ public final class Description {
           null,
           "<no match>",
           "<no match>",
+          null,
           "<no match>",
           ImmutableList.<Fix>of(),
           Optional.of(SUGGESTION));
@@ -59,8 +60,20 @@ public final class Description {
   /** The name of the check that produced the match. */
   public final String checkName;
 
-  /** The raw message, not including the check name or the link. */
-  private final String rawMessage;
+  /**
+   * The raw message, not including the check name or the link, or its format string if {@link
+   * #messageArgs} is non-null.
+   */
+  private final String messageFormat;
+
+  /**
+   * The arguments of {@link #messageFormat}, or null if the message doesn't need formatting. The
+   * message is only formatted when it's first needed, since many findings are never printed.
+   */
+  private final @Nullable Object @Nullable [] messageArgs;
+
+  /** The formatted raw message, once it's been computed. */
+  private @Nullable String rawMessage;
 
   /** The raw link URL for the check. May be null if there is no link. */
   private final @Nullable String linkUrl;
@@ -93,26 +106,34 @@ public final class Description {
 
   /** Returns the raw message, not including a link or check name. */
   public String getRawMessage() {
-    return rawMessage;
+    String result = rawMessage;
+    if (result == null) {
+      result = String.format(messageFormat, messageArgs);
+      rawMessage = result;
+    }
+    return result;
   }
 
   /** Returns the message, not including the check name but including the link. */
   public String getMessageWithoutCheckName() {
     return linkUrl != null
-        ? String.format("%s\n%s", rawMessage, linkTextForDiagnostic(linkUrl))
-        : String.format("%s", rawMessage);
+        ? String.format("%s\n%s", getRawMessage(), linkTextForDiagnostic(linkUrl))
+        : getRawMessage();
   }
 
   private Description(
       ErrorPronePosition position,
       String checkName,
-      String rawMessage,
+      String messageFormat,
+      @Nullable Object @Nullable [] messageArgs,
       @Nullable String linkUrl,
       List<Fix> fixes,
       Optional<SeverityLevel> severity) {
     this.position = position;
     this.checkName = checkName;
-    this.rawMessage = rawMessage;
+    this.messageFormat = messageFormat;
+    this.messageArgs = messageArgs;
+    this.rawMessage = messageArgs == null ? messageFormat : null;
     this.linkUrl = linkUrl;
     this.fixes = ImmutableList.copyOf(fixes);
     this.severity = severity;
@@ -124,7 +145,8 @@ public final class Description {
     return new Description(
         position,
         checkName,
-        rawMessage,
+        messageFormat,
+        messageArgs,
         linkUrl,
         fixes,
         Optional.of(this.severity.orElse(severity)));
@@ -157,14 +179,15 @@ public final class Description {
     private String linkUrl;
     private Optional<SeverityLevel> severity = Optional.empty();
     private final ImmutableList.Builder<Fix> fixListBuilder = ImmutableList.builder();
-    private String rawMessage;
+    private String messageFormat;
+    private @Nullable Object @Nullable [] messageArgs;
 
     private Builder(
         ErrorPronePosition position, String name, @Nullable String linkUrl, String rawMessage) {
       this.position = Preconditions.checkNotNull(position);
       this.name = Preconditions.checkNotNull(name);
       this.linkUrl = linkUrl;
-      this.rawMessage = Preconditions.checkNotNull(rawMessage);
+      this.messageFormat = Preconditions.checkNotNull(rawMessage);
     }
 
     /**
@@ -223,13 +246,15 @@ public final class Description {
     @CanIgnoreReturnValue
     public Builder setMessage(String message) {
       checkNotNull(message, "message must not be null");
-      this.rawMessage = message;
+      this.messageFormat = message;
+      this.messageArgs = null;
       return this;
     }
 
     /**
      * Set a custom error message for this {@code Description}. The custom message will be used
-     * instead of the summary field as the text for the diagnostic message.
+     * instead of the summary field as the text for the diagnostic message. The message is only
+     * formatted when it's first needed.
      *
      * @param format A custom error message format string without the check name ("[checkname]") or
      *     link
@@ -237,8 +262,11 @@ public final class Description {
      */
     @CanIgnoreReturnValue
     @FormatMethod
-    public Builder setMessage(@FormatString String format, Object... args) {
-      return setMessage(String.format(format, args));
+    public Builder setMessage(@FormatString String format, @Nullable Object... args) {
+      checkNotNull(format, "format must not be null");
+      this.messageFormat = format;
+      this.messageArgs = args.clone();
+      return this;
     }
 
     /**
@@ -272,7 +300,8 @@ public final class Description {
     }
 
     public Description build() {
-      return new Description(position, name, rawMessage, linkUrl, fixListBuilder.build(), severity);
+      return new Description(
+          position, name, messageFormat, messageArgs, linkUrl, fixListBuilder.build(), severity);
     }
   }
 }
@@ -48,7 +48,8 @@ public final class LevenshteinEditDistance {
 
   /**
    * Returns the edit distance between two strings. The algorithm used to calculate this distance
-   * has space requirements of len(source)*len(target).
+   * takes time proportional to len(source)*len(target), and only keeps two rows of the distance
+   * matrix in a reusable per-thread buffer.
    *
    * @param source The source string.
    * @param target The target string
@@ -57,6 +58,23 @@ public final class LevenshteinEditDistance {
    * @see #getEditDistance(String, String)
    */
   public static int getEditDistance(String source, String target, boolean caseSensitive) {
+    return getEditDistance(source, target, caseSensitive, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the edit distance between two strings, or {@code maxDistance + 1} if the edit distance
+   * is larger than {@code maxDistance}. The computation stops as soon as the distance is known to
+   * exceed {@code maxDistance}, which makes rejecting dissimilar strings cheap.
+   *
+   * @param source The source string.
+   * @param target The target string
+   * @param caseSensitive If true, case is used in comparisons and 'a' != 'A'.
+   * @param maxDistance The largest edit distance of interest.
+   * @return The edit distance between the source and target strings, if it is at most {@code
+   *     maxDistance}, and {@code maxDistance + 1} otherwise.
+   */
+  public static int getEditDistance(
+      String source, String target, boolean caseSensitive, int maxDistance) {
 
     // Levenshtein distance algorithm
 
@@ -64,46 +82,57 @@ public final class LevenshteinEditDistance {
     int targetLength = isEmptyOrWhitespace(target) ? 0 : target.length();
 
     if (sourceLength == 0) {
-      return targetLength;
+      return Math.min(targetLength, saturatedIncrement(maxDistance));
     }
 
     if (targetLength == 0) {
-      return sourceLength;
+      return Math.min(sourceLength, saturatedIncrement(maxDistance));
     }
 
-    if (!caseSensitive) {
-      source = Ascii.toLowerCase(source);
-      target = Ascii.toLowerCase(target);
+    // The distance is at least the difference in lengths.
+    if (Math.abs(sourceLength - targetLength) > maxDistance) {
+      return maxDistance + 1;
     }
 
-    int[][] levMatrix = new int[sourceLength + 1][targetLength + 1];
-
-    for (int i = 0; i <= sourceLength; i++) {
-      levMatrix[i][0] = i;
-    }
+    // Only the previous and the current row of the matrix are needed, at offsets previous and
+    // current in the buffer.
+    int[] rows = rowBuffer(2 * (targetLength + 1));
+    int previous = 0;
+    int current = targetLength + 1;
 
-    for (int i = 0; i <= targetLength; i++) {
-      levMatrix[0][i] = i;
+    for (int j = 0; j <= targetLength; j++) {
+      rows[previous + j] = j;
     }
 
     for (int i = 1; i <= sourceLength; i++) {
-
-      char sourceI = source.charAt(i - 1);
+      char sourceI = normalize(source.charAt(i - 1), caseSensitive);
+      rows[current] = i;
+      int rowMinimum = i;
       for (int j = 1; j <= targetLength; j++) {
-        char targetJ = target.charAt(j - 1);
+        char targetJ = normalize(target.charAt(j - 1), caseSensitive);
 
         int cost = 0;
         if (sourceI != targetJ) {
           cost = 1;
         }
 
-        levMatrix[i][j] =
+        int distance =
             Ints.min(
-                cost + levMatrix[i - 1][j - 1], levMatrix[i - 1][j] + 1, levMatrix[i][j - 1] + 1);
+                cost + rows[previous + j - 1], rows[previous + j] + 1, rows[current + j - 1] + 1);
+        rows[current + j] = distance;
+        rowMinimum = Math.min(rowMinimum, distance);
       }
+      // Every edit script passes through this row, and costs never decrease along the way.
+      if (rowMinimum > maxDistance) {
+        return maxDistance + 1;
+      }
+      int swap = previous;
+      previous = current;
+      current = swap;
     }
 
-    return levMatrix[sourceLength][targetLength];
+    int distance = rows[previous + targetLength];
+    return distance > maxDistance ? maxDistance + 1 : distance;
   }
 
   /** Calculate the worst case distance between two strings with the given lengths */
@@ -118,6 +147,47 @@ public final class LevenshteinEditDistance {
    * @return True if the string is empty or contains only whitespace, false otherwise
    */
   private static boolean isEmptyOrWhitespace(String source) {
-    return source == null || source.matches("\\s*");
+    if (source == null) {
+      return true;
+    }
+    for (int i = 0; i < source.length(); i++) {
+      switch (source.charAt(i)) {
+        // The characters matched by the regular expression \s
+        case ' ', '\t', '\n', '\u000B', '\f', '\r' -> {}
+        default -> {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static char normalize(char c, boolean caseSensitive) {
+    return caseSensitive ? c : Ascii.toLowerCase(c);
+  }
+
+  private static int saturatedIncrement(int value) {
+    return value == Integer.MAX_VALUE ? value : value + 1;
+  }
+
+  /**
+   * The largest buffer kept for reuse, which is enough for strings of up to 255 characters. Longer
+   * strings get a buffer of their own, so one long string doesn't pin a large buffer to the thread.
+   */
+  private static final int MAX_BUFFER_SIZE = 2 * 256;
+
+  private static final ThreadLocal<int[]> ROW_BUFFER = ThreadLocal.withInitial(() -> new int[64]);
+
+  /** Returns a buffer with room for at least {@code size} elements. */
+  private static int[] rowBuffer(int size) {
+    if (size > MAX_BUFFER_SIZE) {
+      return new int[size];
+    }
+    int[] buffer = ROW_BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new int[Math.min(Math.max(size, 2 * buffer.length), MAX_BUFFER_SIZE)];
+      ROW_BUFFER.set(buffer);
+    }
+    return buffer;
   }
 }
@@ -41,9 +41,9 @@ public final class NeedlemanWunschEditDistance {
    * insertion or deletion. This algorithm is slightly more general in that it charges a sequence of
    * adjacent insertions/deletions an up-front cost plus an incremental cost per insert/delete
    * operation. The idea is that Christopher -&gt; Chris should be less than 6 times as expensive as
-   * Christopher -&gt; Christophe. The algorithm used to calculate this distance takes time and
-   * space proportional to the product of {@code source.length()} and {@code target.length()} to
-   * build the 3 arrays.
+   * Christopher -&gt; Christophe. The algorithm used to calculate this distance takes time
+   * proportional to the product of {@code source.length()} and {@code target.length()}, and only
+   * keeps two rows of each of the 3 matrices in a reusable per-thread buffer.
    *
    * @param source source string.
    * @param target target string
@@ -61,11 +61,6 @@ public final class NeedlemanWunschEditDistance {
       int openGapCost,
       int continueGapCost) {
 
-    if (!caseSensitive) {
-      source = Ascii.toLowerCase(source);
-      target = Ascii.toLowerCase(target);
-    }
-
     int sourceLength = source.length();
     int targetLength = target.length();
 
@@ -77,80 +72,100 @@ public final class NeedlemanWunschEditDistance {
       return scriptCost(openGapCost, continueGapCost, sourceLength);
     }
 
-    // mMatrix[i][j] = Cost of aligning source.substring(0,i) with
+    // Only the previous and the current row of each matrix are kept. The buffer holds six rows of
+    // targetLength + 1 entries: the m, d and i rows for the previous source character, followed by
+    // the m, d and i rows for the current one.
+    int width = targetLength + 1;
+    int[] rows = rowBuffer(6 * width);
+
+    // m[i][j] = Cost of aligning source.substring(0,i) with
     // target.substring(0,j), using an edit script ending with
     // matched characters.
-    int[][] mMatrix = new int[sourceLength + 1][targetLength + 1];
-
+    int mPrevious = 0;
     // Cost of an alignment that ends with a bunch of deletions.
-    // dMatrix[i][j] = best found cost of changing the first i chars
+    // d[i][j] = best found cost of changing the first i chars
     // of source into the first j chars of target, ending with one
     // or more deletes of source characters.
-    int[][] dMatrix = new int[sourceLength + 1][targetLength + 1];
-
+    int dPrevious = width;
     // Cost of an alignment that ends with one or more insertions.
-    int[][] iMatrix = new int[sourceLength + 1][targetLength + 1];
-
-    mMatrix[0][0] = dMatrix[0][0] = iMatrix[0][0] = 0;
+    int iPrevious = 2 * width;
+    int mCurrent = 3 * width;
+    int dCurrent = 4 * width;
+    int iCurrent = 5 * width;
 
-    // Any edit script that changes i chars of source into zero
-    // chars of target will only involve deletions.  So only the
-    // d&m Matrix entries are relevant, because dMatrix[i][0] gives
-    // the cost of changing an i-length string into a 0-length string,
-    // using an edit script ending in deletions.
-    for (int i = 1; i <= sourceLength; i++) {
-      mMatrix[i][0] = dMatrix[i][0] = scriptCost(openGapCost, continueGapCost, i);
-
-      // Make the iMatrix entries impossibly expensive, so they'll be
-      // ignored as inputs to min().  Use a big cost but not
-      // max int because that will overflow if anything's added to it.
-      iMatrix[i][0] = Integer.MAX_VALUE / 2;
-    }
+    rows[mPrevious] = rows[dPrevious] = rows[iPrevious] = 0;
 
     for (int j = 1; j <= targetLength; j++) {
 
-      // Only the i&m Matrix entries are relevant here, because they represent
+      // Only the i&m entries are relevant here, because they represent
       // the cost of changing a 0-length string into a j-length string, using
       // an edit script ending in insertions.
-      mMatrix[0][j] = iMatrix[0][j] = scriptCost(openGapCost, continueGapCost, j);
+      rows[mPrevious + j] = rows[iPrevious + j] = scriptCost(openGapCost, continueGapCost, j);
 
-      // Make the dMatrix entries impossibly expensive, so they'll be
+      // Make the d entries impossibly expensive, so they'll be
       // ignored as inputs to min().  Use a big cost but not
       // max int because that will overflow if anything's added to it.
-      dMatrix[0][j] = Integer.MAX_VALUE / 2;
+      rows[dPrevious + j] = Integer.MAX_VALUE / 2;
     }
 
     for (int i = 1; i <= sourceLength; i++) {
 
-      char sourceI = source.charAt(i - 1);
+      // Any edit script that changes i chars of source into zero
+      // chars of target will only involve deletions.  So only the
+      // d&m entries are relevant, because d[i][0] gives
+      // the cost of changing an i-length string into a 0-length string,
+      // using an edit script ending in deletions.
+      rows[mCurrent] = rows[dCurrent] = scriptCost(openGapCost, continueGapCost, i);
+
+      // Make the i entries impossibly expensive, so they'll be
+      // ignored as inputs to min().
+      rows[iCurrent] = Integer.MAX_VALUE / 2;
+
+      char sourceI = normalize(source.charAt(i - 1), caseSensitive);
       for (int j = 1; j <= targetLength; j++) {
-        char targetJ = target.charAt(j - 1);
+        char targetJ = normalize(target.charAt(j - 1), caseSensitive);
 
         int cost = (sourceI == targetJ) ? 0 : changeCost;
 
         // Cost of changing i chars of source into j chars of target,
         // using an edit script ending in matched characters.
-        mMatrix[i][j] =
-            cost + Ints.min(mMatrix[i - 1][j - 1], iMatrix[i - 1][j - 1], dMatrix[i - 1][j - 1]);
+        int m =
+            cost
+                + Ints.min(
+                    rows[mPrevious + j - 1], rows[iPrevious + j - 1], rows[dPrevious + j - 1]);
 
         // Cost of an edit script ending in a deletion.
-        dMatrix[i][j] =
+        int d =
             Math.min(
-                mMatrix[i - 1][j] + openGapCost + continueGapCost,
-                dMatrix[i - 1][j] + continueGapCost);
+                rows[mPrevious + j] + openGapCost + continueGapCost,
+                rows[dPrevious + j] + continueGapCost);
 
         // Cost of an edit script ending in an insertion.
-        iMatrix[i][j] =
+        int insertion =
             Math.min(
-                mMatrix[i][j - 1] + openGapCost + continueGapCost,
-                iMatrix[i][j - 1] + continueGapCost);
+                rows[mCurrent + j - 1] + openGapCost + continueGapCost,
+                rows[iCurrent + j - 1] + continueGapCost);
+
+        rows[mCurrent + j] = m;
+        rows[dCurrent + j] = d;
+        rows[iCurrent + j] = insertion;
       }
+
+      int swap = mPrevious;
+      mPrevious = mCurrent;
+      mCurrent = swap;
+      swap = dPrevious;
+      dPrevious = dCurrent;
+      dCurrent = swap;
+      swap = iPrevious;
+      iPrevious = iCurrent;
+      iCurrent = swap;
     }
 
     // Return the minimum cost.
-    int costOfEditScriptEndingWithMatch = mMatrix[sourceLength][targetLength];
-    int costOfEditScriptEndingWithDelete = dMatrix[sourceLength][targetLength];
-    int costOfEditScriptEndingWithInsert = iMatrix[sourceLength][targetLength];
+    int costOfEditScriptEndingWithMatch = rows[mPrevious + targetLength];
+    int costOfEditScriptEndingWithDelete = rows[dPrevious + targetLength];
+    int costOfEditScriptEndingWithInsert = rows[iPrevious + targetLength];
     return Ints.min(
         costOfEditScriptEndingWithMatch,
         costOfEditScriptEndingWithDelete,
@@ -208,4 +223,30 @@ public final class NeedlemanWunschEditDistance {
   private static int scriptCost(int openGapCost, int continueGapCost, int scriptLength) {
     return (scriptLength == 0) ? 0 : openGapCost + scriptLength * continueGapCost;
   }
+
+  private static char normalize(char c, boolean caseSensitive) {
+    return caseSensitive ? c : Ascii.toLowerCase(c);
+  }
+
+  /**
+   * The largest buffer kept for reuse, which is enough for identifiers of up to 255 characters.
+   * Longer strings get a buffer of their own, so one long string doesn't pin a large buffer to the
+   * thread.
+   */
+  private static final int MAX_BUFFER_SIZE = 6 * 256;
+
+  private static final ThreadLocal<int[]> ROW_BUFFER = ThreadLocal.withInitial(() -> new int[192]);
+
+  /** Returns a buffer with room for at least {@code size} elements. */
+  private static int[] rowBuffer(int size) {
+    if (size > MAX_BUFFER_SIZE) {
+      return new int[size];
+    }
+    int[] buffer = ROW_BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new int[Math.min(Math.max(size, 2 * buffer.length), MAX_BUFFER_SIZE)];
+      ROW_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
 }
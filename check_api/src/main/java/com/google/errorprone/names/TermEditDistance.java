@@ -18,7 +18,6 @@ package com.google.errorprone.names;
 import blogspot.software_and_algorithms.stern_library.optimization.HungarianAlgorithm;
 import com.google.common.collect.ImmutableList;
 import java.util.function.BiFunction;
-import java.util.stream.DoubleStream;
 
 /**
  * A utility class for finding the distance between two identifiers. Each identifier is split into
@@ -55,29 +54,30 @@ public class TermEditDistance {
     ImmutableList<String> sourceTerms = NamingConventions.splitToLowercaseTerms(source);
     ImmutableList<String> targetTerms = NamingConventions.splitToLowercaseTerms(target);
 
+    int sourceCount = sourceTerms.size();
+    int targetCount = targetTerms.size();
+
     // costMatrix[s][t] is the edit distance between source term s and target term t
-    double[][] costMatrix =
-        sourceTerms.stream()
-            .map(s -> targetTerms.stream().mapToDouble(t -> editDistanceFn.apply(s, t)).toArray())
-            .toArray(double[][]::new);
+    double[][] costMatrix = new double[sourceCount][targetCount];
 
     // worstCaseMatrix[s][t] is the worst case distance between source term s and target term t
-    double[][] worstCaseMatrix =
-        sourceTerms.stream()
-            .map(s -> s.length())
-            .map(
-                s ->
-                    targetTerms.stream()
-                        .map(t -> t.length())
-                        .mapToDouble(t -> maxDistanceFn.apply(s, t))
-                        .toArray())
-            .toArray(double[][]::new);
-
-    double[] sourceTermDeletionCosts =
-        sourceTerms.stream().mapToDouble(s -> maxDistanceFn.apply(s.length(), 0)).toArray();
-
-    double[] targetTermAdditionCosts =
-        targetTerms.stream().mapToDouble(s -> maxDistanceFn.apply(0, s.length())).toArray();
+    double[][] worstCaseMatrix = new double[sourceCount][targetCount];
+
+    double[] sourceTermDeletionCosts = new double[sourceCount];
+    double[] targetTermAdditionCosts = new double[targetCount];
+
+    for (int t = 0; t < targetCount; t++) {
+      targetTermAdditionCosts[t] = maxDistanceFn.apply(0, targetTerms.get(t).length());
+    }
+    for (int s = 0; s < sourceCount; s++) {
+      String sourceTerm = sourceTerms.get(s);
+      sourceTermDeletionCosts[s] = maxDistanceFn.apply(sourceTerm.length(), 0);
+      for (int t = 0; t < targetCount; t++) {
+        String targetTerm = targetTerms.get(t);
+        costMatrix[s][t] = editDistanceFn.apply(sourceTerm, targetTerm);
+        worstCaseMatrix[s][t] = maxDistanceFn.apply(sourceTerm.length(), targetTerm.length());
+      }
+    }
 
     // this is an array of assignments of source terms to target terms. If assignments[i] contains
     // the value j this means that source term i has been assigned to target term j
@@ -110,7 +110,10 @@ public class TermEditDistance {
 
     // Start with the total cost of _not_ using all the target terms, then when we use one we'll
     // remove it from this total.
-    double totalCost = DoubleStream.of(targetTermDeletionCosts).sum();
+    double totalCost = 0;
+    for (double targetTermDeletionCost : targetTermDeletionCosts) {
+      totalCost += targetTermDeletionCost;
+    }
     for (int sourceTermIndex = 0; sourceTermIndex < assignments.length; sourceTermIndex++) {
       int targetTermIndex = assignments[sourceTermIndex];
       if (targetTermIndex == -1) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.scanner;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Sets;
+import com.google.errorprone.ErrorProneOptions;
+import com.google.errorprone.matchers.Suppressible;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The time each check has spent on the compilation unit being scanned, compared to its budget in
+ * {@link ErrorProneOptions#checkTimeBudget}.
+ *
+ * <p>A check can't be interrupted while it's matching a node, so the time is only compared to the
+ * budget after each match: a check that exceeds its budget is disabled for the rest of the
+ * compilation unit. A check that exceeds its budget on {@link #UNITS_BEFORE_DISABLING} compilation
+ * units is disabled for the rest of the compilation.
+ */
+final class CheckTimeBudgets {
+
+  /**
+   * The number of compilation units a check may exceed its budget on before it's disabled for the
+   * rest of the compilation.
+   */
+  static final int UNITS_BEFORE_DISABLING = 3;
+
+  /** A check that has exceeded its budget on the current compilation unit. */
+  record Exceeded(Duration budget, Duration elapsed, boolean disabledForCompilation) {}
+
+  private static final class Budget {
+    final long budgetNanos;
+    long elapsedNanos;
+    int unitsExceeded;
+
+    Budget(long budgetNanos) {
+      this.budgetNanos = budgetNanos;
+    }
+  }
+
+  private final ErrorProneOptions options;
+  private final Map<Suppressible, Budget> budgets = new IdentityHashMap<>();
+  private final Set<Suppressible> disabled = Sets.newIdentityHashSet();
+
+  CheckTimeBudgets(ErrorProneOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Starts timing a new compilation unit, and returns the checks that have been disabled for the
+   * rest of the compilation.
+   */
+  Set<Suppressible> startUnit() {
+    for (Budget budget : budgets.values()) {
+      budget.elapsedNanos = 0;
+    }
+    return Collections.unmodifiableSet(disabled);
+  }
+
+  /**
+   * Records that {@code check} spent {@code nanos} matching a node, and returns whether that took
+   * it over its budget for the compilation unit.
+   */
+  @Nullable Exceeded charge(Suppressible check, long nanos) {
+    Budget budget = budgets.computeIfAbsent(check, this::budget);
+    budget.elapsedNanos += nanos;
+    if (budget.elapsedNanos <= budget.budgetNanos) {
+      return null;
+    }
+    boolean disabledForCompilation = ++budget.unitsExceeded >= UNITS_BEFORE_DISABLING;
+    if (disabledForCompilation) {
+      disabled.add(check);
+    }
+    return new Exceeded(
+        Duration.ofNanos(budget.budgetNanos),
+        Duration.ofNanos(budget.elapsedNanos),
+        disabledForCompilation);
+  }
+
+  private Budget budget(Suppressible check) {
+    Optional<Duration> budget = options.checkTimeBudget(check.canonicalName());
+    return new Budget(budget.isPresent() ? budget.get().toNanos() : Long.MAX_VALUE);
+  }
+}
@@ -16,9 +16,14 @@
 
 package com.google.errorprone.scanner;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.CostClass;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.ErrorProneError;
 import com.google.errorprone.ErrorProneOptions;
@@ -162,7 +167,9 @@ import com.sun.source.tree.WildcardTree;
 import com.sun.source.tree.YieldTree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Symbol.CompletionFailure;
+import com.sun.tools.javac.util.JCDiagnostic;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
+import com.sun.tools.javac.util.Log;
 import com.sun.tools.javac.util.Name;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -171,6 +178,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.tools.JavaFileObject;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Scans the parsed AST, looking for violations of any of the enabled checks.
@@ -185,6 +193,18 @@ public class ErrorProneScanner extends Scanner {
   private final Map<String, SeverityLevel> severities;
   private final ImmutableSet<BugChecker> bugCheckers;
 
+  /** The checks that aren't cheap, which may be skipped on large compilation units. */
+  private final ImmutableList<BugChecker> expensiveCheckers;
+
+  /** The checks that only run on compilation units that refer to particular types or packages. */
+  private final ImmutableList<BugChecker> prefilteredCheckers;
+
+  /** The checks that are skipped in the compilation unit being scanned. */
+  private Set<Suppressible> skippedCheckers = ImmutableSet.of();
+
+  /** The time spent by checks with a time budget, if any check has one. */
+  private @Nullable CheckTimeBudgets timeBudgets;
+
   /**
    * Create an error-prone scanner for the given checkers.
    *
@@ -212,6 +232,12 @@ public class ErrorProneScanner extends Scanner {
   public ErrorProneScanner(Iterable<BugChecker> checkers, Map<String, SeverityLevel> severities) {
     this.bugCheckers = ImmutableSet.copyOf(checkers);
     this.severities = severities;
+    this.expensiveCheckers =
+        bugCheckers.stream().filter(c -> c.cost() != CostClass.CHEAP).collect(toImmutableList());
+    this.prefilteredCheckers =
+        bugCheckers.stream()
+            .filter(c -> !c.requiredReferences().isEmpty())
+            .collect(toImmutableList());
     ImmutableSet.Builder<Class<? extends Annotation>> annotationClassesBuilder =
         ImmutableSet.builder();
     for (BugChecker checker : this.bugCheckers) {
@@ -529,11 +555,16 @@ public class ErrorProneScanner extends Scanner {
     ErrorProneOptions errorProneOptions = oldState.errorProneOptions();
     // A VisitorState with our new path, but without mentioning the suppression of any matcher.
     VisitorState newState = oldState.withPath(getCurrentPath());
+    CheckTimeBudgets timeBudgets = this.timeBudgets;
     for (M matcher : matchers) {
+      if (skippedCheckers.contains(matcher)) {
+        continue;
+      }
       SuppressedState suppressed = isSuppressed(matcher, errorProneOptions, newState);
       // If the ErrorProneOptions say to visit suppressed code, we still visit it
       if (suppressed == SuppressedState.UNSUPPRESSED
           || errorProneOptions.isIgnoreSuppressionAnnotations()) {
+        long start = timeBudgets != null ? System.nanoTime() : 0;
         try (AutoCloseable unused = oldState.timingSpan(matcher)) {
           // We create a new VisitorState with the suppression info specific to this matcher.
           VisitorState stateWithSuppressionInformation = newState.withSuppression(suppressed);
@@ -543,11 +574,54 @@ public class ErrorProneScanner extends Scanner {
         } catch (Exception | AssertionError t) {
           handleError(matcher, t);
         }
+        if (timeBudgets != null) {
+          chargeTime(timeBudgets, matcher, System.nanoTime() - start, tree, newState);
+        }
       }
     }
     return newState;
   }
 
+  /**
+   * Records the time a check spent matching a node, and disables the check if it has exceeded its
+   * time budget for the compilation unit. Whether a check exceeds its budget depends on the load on
+   * the machine, so a note is reported at the node that took it over its budget, rather than a
+   * warning that could fail builds using {@code -Werror}.
+   */
+  private void chargeTime(
+      CheckTimeBudgets timeBudgets,
+      Suppressible matcher,
+      long nanos,
+      Tree tree,
+      VisitorState state) {
+    CheckTimeBudgets.Exceeded exceeded = timeBudgets.charge(matcher, nanos);
+    if (exceeded == null) {
+      return;
+    }
+    skippedCheckers.add(matcher);
+    countTimeBudgetSkip(matcher, state);
+    String message =
+        String.format(
+            "%s exceeded its time budget of %dms in %s, taking %dms; it has been disabled for the"
+                + " rest of %s",
+            matcher.canonicalName(),
+            exceeded.budget().toMillis(),
+            state.getPath().getCompilationUnit().getSourceFile().getName(),
+            exceeded.elapsed().toMillis(),
+            exceeded.disabledForCompilation() ? "the compilation" : "this file");
+    Log log = Log.instance(state.context);
+    JavaFileObject originalSource =
+        log.useSource(state.getPath().getCompilationUnit().getSourceFile());
+    try {
+      log.note(
+          (DiagnosticPosition) tree, new JCDiagnostic.Note("compiler", "error.prone", message));
+    } finally {
+      if (originalSource != null) {
+        log.useSource(originalSource);
+      }
+    }
+  }
+
   @Override
   public Void visitAnnotation(AnnotationTree tree, VisitorState visitorState) {
     VisitorState state =
@@ -653,7 +727,10 @@ public class ErrorProneScanner extends Scanner {
 
   @Override
   public Void visitCompilationUnit(CompilationUnitTree tree, VisitorState visitorState) {
-
+    if (timeBudgets == null && visitorState.errorProneOptions().hasCheckTimeBudgets()) {
+      timeBudgets = new CheckTimeBudgets(visitorState.errorProneOptions());
+    }
+    skippedCheckers = checkersToSkip(tree, visitorState);
     VisitorState state =
         processMatchers(
             compilationUnitMatchers,
@@ -1116,6 +1193,86 @@ public class ErrorProneScanner extends Scanner {
     return super.visitYield(tree, state);
   }
 
+  /**
+   * Returns the checks to skip in the given compilation unit. Skipped checks are recorded in the
+   * statistics for the compilation. Checks may also be skipped for the rest of the compilation unit
+   * once they exceed their time budget.
+   */
+  private Set<Suppressible> checkersToSkip(CompilationUnitTree tree, VisitorState state) {
+    Set<Suppressible> skipped = Sets.newIdentityHashSet();
+    skipTimedOutCheckers(state, skipped);
+    skipExpensiveCheckers(tree, state, skipped);
+    skipUnreferencedCheckers(state, skipped);
+    // Checks are only added to the set while scanning if they have a time budget.
+    return skipped.isEmpty() && timeBudgets == null ? ImmutableSet.of() : skipped;
+  }
+
+  /**
+   * Skips the checks that have exceeded their time budget on too many compilation units; see
+   * {@link CheckTimeBudgets}.
+   */
+  private void skipTimedOutCheckers(VisitorState state, Set<Suppressible> skipped) {
+    if (timeBudgets == null) {
+      return;
+    }
+    for (Suppressible checker : timeBudgets.startUnit()) {
+      skipped.add(checker);
+      countTimeBudgetSkip(checker, state);
+    }
+  }
+
+  private static void countTimeBudgetSkip(Suppressible checker, VisitorState state) {
+    if (checker instanceof BugChecker bugChecker) {
+      state.incrementCounter(bugChecker, "skipped-time-budget");
+    }
+  }
+
+  /**
+   * Skips the expensive checks if the compilation unit is larger than {@link
+   * ErrorProneOptions#largeUnitThreshold}. Each check still runs on a deterministic sample of large
+   * compilation units, chosen by the file name and the check name so that different checks sample
+   * different files.
+   */
+  private void skipExpensiveCheckers(
+      CompilationUnitTree tree, VisitorState state, Set<Suppressible> skipped) {
+    ErrorProneOptions options = state.errorProneOptions();
+    if (expensiveCheckers.isEmpty() || !options.largeUnitThreshold().isPresent()) {
+      return;
+    }
+    long lines = tree.getLineMap().getLineNumber(state.getSourceCode().length());
+    if (lines <= options.largeUnitThreshold().get()) {
+      return;
+    }
+    String file = tree.getSourceFile().toUri().toString();
+    for (BugChecker checker : expensiveCheckers) {
+      int sample = Math.floorMod((file + checker.canonicalName()).hashCode(), 100);
+      if (sample >= options.largeUnitSamplePercent()) {
+        skipped.add(checker);
+        state.incrementCounter(checker, "skipped-large-unit");
+        state.incrementCounter(checker, "skipped-large-unit-lines", (int) lines);
+      }
+    }
+  }
+
+  /**
+   * Skips the checks that declare {@link BugPattern#requiredReferences} if the compilation unit
+   * can't refer to any of them, which is decided from javac's symbol table rather than by scanning
+   * the unit.
+   */
+  private void skipUnreferencedCheckers(VisitorState state, Set<Suppressible> skipped) {
+    if (prefilteredCheckers.isEmpty()) {
+      return;
+    }
+    ReferencedTypes references = ReferencedTypes.create(state);
+    for (BugChecker checker : prefilteredCheckers) {
+      if (!skipped.contains(checker)
+          && checker.requiredReferences().stream().noneMatch(references::references)) {
+        skipped.add(checker);
+        state.incrementCounter(checker, "skipped-unreferenced");
+      }
+    }
+  }
+
   /**
    * Handles an exception thrown by an individual BugPattern. By default, wraps the exception in an
    * {@link ErrorProneError} and rethrows. May be overridden by subclasses, for example to log the
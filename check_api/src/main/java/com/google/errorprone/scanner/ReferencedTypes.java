@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.scanner;
+
+import com.google.errorprone.VisitorState;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import com.sun.tools.javac.code.Symbol.PackageSymbol;
+import com.sun.tools.javac.code.Symtab;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides whether a compilation unit can refer to the types and packages that checks declare in
+ * {@link com.google.errorprone.BugPattern#requiredReferences}, without scanning the unit.
+ *
+ * <p>javac enters a class into its symbol table when it's first named, in source or in a class
+ * file that's read, and completes a package once one of its classes is used. By the time a unit has
+ * been attributed, every class it uses, and every supertype and enclosing class of those, has been
+ * entered, so if nothing by a given name has been entered the unit can't refer to it. The symbol
+ * table is shared by the whole compilation, so this is coarser than looking at the unit's own
+ * trees: once any unit uses a package, checks that require it run on the units analyzed after it.
+ */
+final class ReferencedTypes {
+
+  private final VisitorState state;
+  private final Symtab symtab;
+  private final Map<String, Boolean> loaded = new HashMap<>();
+
+  private ReferencedTypes(VisitorState state) {
+    this.state = state;
+    this.symtab = state.getSymtab();
+  }
+
+  static ReferencedTypes create(VisitorState state) {
+    return new ReferencedTypes(state);
+  }
+
+  /**
+   * Returns true if the compilation unit may refer to the given type or package, or to a type
+   * nested in or derived from it.
+   */
+  boolean references(String typeOrPackage) {
+    return loaded.computeIfAbsent(typeOrPackage, this::isLoaded);
+  }
+
+  private boolean isLoaded(String typeOrPackage) {
+    // Module descriptors enter the packages they export, so only count packages that have been
+    // completed, which happens when one of their classes is used.
+    for (PackageSymbol pkg : symtab.getPackagesForName(state.getName(typeOrPackage))) {
+      if (pkg.exists() && hasEnteredClass(pkg)) {
+        return true;
+      }
+    }
+    return symtab
+        .getClassesForName(state.binaryNameFromClassname(typeOrPackage))
+        .iterator()
+        .hasNext();
+  }
+
+  /**
+   * Returns true if one of the package's classes is still in the symbol table. Resetting a context
+   * for reuse removes the classes that the previous compilation defined in source from the symbol
+   * table, but leaves them in their package's scope.
+   */
+  private boolean hasEnteredClass(PackageSymbol pkg) {
+    if (pkg.members_field == null) {
+      return false;
+    }
+    for (Symbol sym : pkg.members_field.getSymbols(s -> s instanceof ClassSymbol)) {
+      if (symtab.getClass(pkg.modle, ((ClassSymbol) sym).flatname) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
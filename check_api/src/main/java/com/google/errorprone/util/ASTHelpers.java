@@ -876,19 +876,33 @@ public final class ASTHelpers {
     if (sym == null) {
       return false;
     }
-    // TODO(amalloy): unify with hasAnnotation(Symbol, Name, VisitorState)
-    // normalize to non-binary names
-    annotationClass = annotationClass.replace('$', '.');
-    Name annotationName = state.getName(annotationClass);
-    if (hasAttribute(sym, annotationName)) {
+    return hasAnnotation(sym, AnnotationIndex.instance(state).name(annotationClass, state), state);
+  }
+
+  /**
+   * Determines whether a symbol has an annotation of the given type. This includes annotations
+   * inherited from superclasses due to {@code @Inherited}.
+   *
+   * @param annotationName the canonical name of the annotation (e.g. {@code
+   *     "some.package.OuterClassName.InnerClassName"})
+   * @return true if the symbol is annotated with given type.
+   */
+  public static boolean hasAnnotation(Symbol sym, Name annotationName, VisitorState state) {
+    if (sym == null) {
+      return false;
+    }
+    AnnotationIndex index = AnnotationIndex.instance(state);
+    if (index.hasDirectAnnotation(sym, annotationName)) {
       return true;
     }
-    if (sym instanceof ClassSymbol cs && isInherited(state, annotationClass)) {
+    if (sym instanceof ClassSymbol cs && index.hasSuperclassAnnotation(cs, annotationName)) {
       for (sym = cs.getSuperclass().tsym;
           sym instanceof ClassSymbol cs2;
           sym = cs2.getSuperclass().tsym) {
-        if (hasAttribute(sym, annotationName)) {
-          return true;
+        for (Compound a : sym.getRawAttributes()) {
+          if (a.type.tsym.getQualifiedName().equals(annotationName)) {
+            return isInherited(state, a.type.tsym.flatName());
+          }
         }
       }
     }
@@ -969,19 +983,6 @@ public final class ASTHelpers {
             });
   }
 
-  private static boolean isInherited(VisitorState state, String annotationName) {
-    return isInherited(state, state.binaryNameFromClassname(annotationName));
-  }
-
-  private static boolean hasAttribute(Symbol sym, Name annotationName) {
-    for (Compound a : sym.getRawAttributes()) {
-      if (a.type.tsym.getQualifiedName().equals(annotationName)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   /**
    * Determines which of a set of annotations are present on a symbol.
    *
@@ -1385,8 +1386,7 @@ public final class ASTHelpers {
     if (t == state.getSymtab().unknownType) {
       return false;
     }
-    Types types = state.getTypes();
-    return types.isSubtype(types.erasure(s), types.erasure(t));
+    return SupertypeClosures.instance(state).isSubtype(s, t, state);
   }
 
   /**
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
+import com.sun.tools.javac.code.Attribute.Compound;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.Name;
+import java.util.ArrayList;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of the annotations declared on symbols, which makes repeated {@link
+ * ASTHelpers#hasAnnotation} queries for the same symbol cheap.
+ *
+ * <p>The index records the qualified names of the annotations on each symbol, and for classes also
+ * the qualified names of all of the annotations on their superclasses, which are the only ones that
+ * could be inherited. Symbols are weakly referenced, and the index lives for a single compilation.
+ */
+final class AnnotationIndex {
+
+  private static final Name[] NO_NAMES = new Name[0];
+
+  private static final Supplier<AnnotationIndex> INSTANCE =
+      VisitorState.memoize(unusedState -> new AnnotationIndex());
+
+  static AnnotationIndex instance(VisitorState state) {
+    return INSTANCE.get(state);
+  }
+
+  /** Canonical annotation names, keyed by the binary or canonical class names callers pass. */
+  private final Cache<String, Name> names = Caffeine.newBuilder().maximumSize(1000).build();
+
+  private final Cache<Symbol, Name[]> directAnnotations = Caffeine.newBuilder().weakKeys().build();
+
+  private final Cache<ClassSymbol, Name[]> superclassAnnotations =
+      Caffeine.newBuilder().weakKeys().build();
+
+  private AnnotationIndex() {}
+
+  /**
+   * Returns the canonical name of an annotation, given its binary name (e.g. {@code
+   * "some.package.OuterClassName$InnerClassName"}) or canonical name.
+   */
+  Name name(String annotationClass, VisitorState state) {
+    return names.get(annotationClass, c -> state.getName(c.replace('$', '.')));
+  }
+
+  /** Returns true if the given annotation is declared directly on the symbol. */
+  boolean hasDirectAnnotation(Symbol sym, Name annotationName) {
+    return contains(directAnnotations(sym), annotationName);
+  }
+
+  /** Returns true if the given annotation is declared on any superclass of the class. */
+  boolean hasSuperclassAnnotation(ClassSymbol sym, Name annotationName) {
+    return contains(superclassAnnotations(sym), annotationName);
+  }
+
+  private Name[] directAnnotations(Symbol sym) {
+    Name[] annotations = directAnnotations.getIfPresent(sym);
+    if (annotations == null) {
+      List<Compound> attributes = sym.getRawAttributes();
+      if (attributes.isEmpty()) {
+        annotations = NO_NAMES;
+      } else {
+        annotations = new Name[attributes.size()];
+        int i = 0;
+        for (Compound a : attributes) {
+          annotations[i++] = a.type.tsym.getQualifiedName();
+        }
+      }
+      directAnnotations.put(sym, annotations);
+    }
+    return annotations;
+  }
+
+  private Name[] superclassAnnotations(ClassSymbol sym) {
+    Name[] cached = superclassAnnotations.getIfPresent(sym);
+    if (cached != null) {
+      return cached;
+    }
+    // Walk up to the closest superclass that has already been indexed, then index the chain from
+    // the top down so each class only adds its own annotations to its superclass's.
+    ArrayList<ClassSymbol> chain = new ArrayList<>();
+    Name[] inherited = NO_NAMES;
+    Name[] annotations = NO_NAMES;
+    for (ClassSymbol c = sym; c != null; c = superclass(c)) {
+      Name[] indexed = superclassAnnotations.getIfPresent(c);
+      if (indexed != null) {
+        inherited = indexed;
+        break;
+      }
+      chain.add(c);
+    }
+    for (int i = chain.size() - 1; i >= 0; i--) {
+      ClassSymbol c = chain.get(i);
+      superclassAnnotations.put(c, inherited);
+      annotations = inherited;
+      inherited = union(inherited, directAnnotations(c));
+    }
+    return annotations;
+  }
+
+  private static @Nullable ClassSymbol superclass(ClassSymbol sym) {
+    return sym.getSuperclass().tsym instanceof ClassSymbol superclass ? superclass : null;
+  }
+
+  private static Name[] union(Name[] a, Name[] b) {
+    if (b.length == 0) {
+      return a;
+    }
+    ArrayList<Name> result = new ArrayList<>(a.length + b.length);
+    for (Name name : a) {
+      result.add(name);
+    }
+    for (Name name : b) {
+      if (!result.contains(name)) {
+        result.add(name);
+      }
+    }
+    return result.size() == a.length ? a : result.toArray(new Name[0]);
+  }
+
+  private static boolean contains(Name[] names, Name name) {
+    for (Name n : names) {
+      if (n == name) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -22,10 +22,12 @@ import static com.google.errorprone.util.ASTHelpers.isConsideredFinal;
 import static com.google.errorprone.util.ASTHelpers.isStatic;
 import static com.google.errorprone.util.Reachability.canCompleteNormally;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
 import com.sun.source.tree.BinaryTree;
 import com.sun.source.tree.BlockTree;
 import com.sun.source.tree.CatchTree;
@@ -74,10 +76,14 @@ import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
 import com.sun.tools.javac.util.JCDiagnostic.DiagnosticPosition;
 import com.sun.tools.javac.util.Name;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -97,37 +103,119 @@ public final class FindIdentifiers {
   /** Finds a declaration with the given name and type that is in scope at the current location. */
   public static @Nullable Symbol findIdent(String name, VisitorState state, KindSelector kind) {
     ClassType enclosingClass = ASTHelpers.getType(getEnclosingClass(state.getPath()));
-    Env<AttrContext> env;
+    JCCompilationUnit compilationUnit = (JCCompilationUnit) state.getPath().getCompilationUnit();
+    Map<Object, ResolutionScope> scopes = SCOPES.get(state).forUnit(compilationUnit);
+    ResolutionScope scope;
     if (enclosingClass == null || enclosingClass.tsym == null) {
-      env =
-          Enter.instance(state.context)
-              .getTopLevelEnv((JCCompilationUnit) state.getPath().getCompilationUnit());
+      scope =
+          scopes.computeIfAbsent(
+              compilationUnit,
+              unused ->
+                  new ResolutionScope(
+                      Enter.instance(state.context).getTopLevelEnv(compilationUnit)));
     } else {
-      env = Enter.instance(state.context).getClassEnv(enclosingClass.tsym);
+      TypeSymbol classSymbol = enclosingClass.tsym;
       MethodTree enclosingMethod = state.findEnclosing(MethodTree.class);
-      if (enclosingMethod != null) {
-        env = MemberEnter.instance(state.context).getMethodEnv((JCMethodDecl) enclosingMethod, env);
+      // A method may enclose a local class rather than being one of its members, so the scope
+      // depends on both.
+      Object key =
+          enclosingMethod != null ? new MethodInClass(enclosingMethod, classSymbol) : classSymbol;
+      scope =
+          scopes.computeIfAbsent(
+              key, unused -> ResolutionScope.create(classSymbol, enclosingMethod, state));
+    }
+    Symbol result = scope.findIdent(state.getName(name), kind, state);
+    return result.exists() ? result : null;
+  }
+
+  /**
+   * The scopes that identifiers have been resolved in, for the compilation unit being analyzed.
+   * Fixes often qualify many names at the same location, and creating the environment for a method
+   * is relatively expensive.
+   */
+  private static final Supplier<UnitScopes> SCOPES =
+      VisitorState.memoize(unused -> new UnitScopes());
+
+  /**
+   * The scopes of a single compilation unit, keyed by the compilation unit, the enclosing class
+   * symbol, or the enclosing method and class. The environments of the scopes refer to the trees of
+   * the compilation unit, so the scopes are discarded as soon as another unit is analyzed.
+   */
+  private static final class UnitScopes {
+    private @Nullable CompilationUnitTree unit;
+    private final Map<Object, ResolutionScope> scopes = new HashMap<>();
+
+    Map<Object, ResolutionScope> forUnit(CompilationUnitTree unit) {
+      if (this.unit != unit) {
+        scopes.clear();
+        this.unit = unit;
       }
+      return scopes;
     }
+  }
+
+  private record MethodInClass(MethodTree method, TypeSymbol classSymbol) {}
+
+  private static final MethodHandle FIND_IDENT = findIdentHandle();
+
+  private static MethodHandle findIdentHandle() {
     try {
-      Symbol result = findIdent(name, state, kind, env);
-      return result.exists() ? result : null;
+      Method method =
+          Resolve.class.getDeclaredMethod(
+              "findIdent", DiagnosticPosition.class, Env.class, Name.class, KindSelector.class);
+      method.setAccessible(true);
+      return MethodHandles.lookup()
+          .unreflect(method)
+          .asType(
+              MethodType.methodType(
+                  Symbol.class,
+                  Resolve.class,
+                  DiagnosticPosition.class,
+                  Env.class,
+                  Name.class,
+                  KindSelector.class));
     } catch (ReflectiveOperationException e) {
       throw new LinkageError(e.getMessage(), e);
     }
   }
 
-  private static Symbol findIdent(
-      String name, VisitorState state, KindSelector kind, Env<AttrContext> env)
-      throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-    Method method =
-        Resolve.class.getDeclaredMethod(
-            "findIdent", DiagnosticPosition.class, Env.class, Name.class, KindSelector.class);
-    method.setAccessible(true);
-    return (Symbol)
-        method.invoke(Resolve.instance(state.context), null, env, state.getName(name), kind);
+  /** The environment for resolving identifiers at a location, and the identifiers it resolved. */
+  private record ResolutionScope(Env<AttrContext> env, Map<NameAndKind, Symbol> resolved) {
+
+    ResolutionScope(Env<AttrContext> env) {
+      this(env, new HashMap<>());
+    }
+
+    static ResolutionScope create(
+        TypeSymbol classSymbol, @Nullable MethodTree enclosingMethod, VisitorState state) {
+      Env<AttrContext> env = Enter.instance(state.context).getClassEnv(classSymbol);
+      if (enclosingMethod != null) {
+        env = MemberEnter.instance(state.context).getMethodEnv((JCMethodDecl) enclosingMethod, env);
+      }
+      return new ResolutionScope(env);
+    }
+
+    Symbol findIdent(Name name, KindSelector kind, VisitorState state) {
+      NameAndKind key = new NameAndKind(name, kind);
+      Symbol result = resolved.get(key);
+      if (result == null) {
+        try {
+          result =
+              (Symbol)
+                  FIND_IDENT.invokeExact(
+                      Resolve.instance(state.context), (DiagnosticPosition) null, env, name, kind);
+        } catch (Throwable e) {
+          Throwables.throwIfUnchecked(e);
+          throw new AssertionError(e);
+        }
+        resolved.put(key, result);
+      }
+      return result;
+    }
   }
 
+  private record NameAndKind(Name name, KindSelector kind) {}
+
   private static @Nullable ClassTree getEnclosingClass(TreePath treePath) {
     if (treePath.getLeaf() instanceof ClassTree) {
       return (ClassTree) treePath.getLeaf();
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The text of a source file, read once per compilation unit.
+ *
+ * <p>{@link #subSequence} returns views of the text rather than copies, so checks that only compare
+ * or search part of the source don't have to create a {@link String} for it; a view is only copied
+ * when its {@link Object#toString} is called.
+ *
+ * <p>Obtain instances with {@link com.google.errorprone.VisitorState#getSourceText}.
+ */
+public final class SourceText implements CharSequence {
+
+  private final String text;
+
+  private SourceText(String text) {
+    this.text = text;
+  }
+
+  /** Returns the text of {@code source}. */
+  public static SourceText of(CharSequence source) {
+    if (source instanceof SourceText sourceText) {
+      return sourceText;
+    }
+    return new SourceText(source.toString());
+  }
+
+  @Override
+  public int length() {
+    return text.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return text.charAt(index);
+  }
+
+  /** Returns a view of the text between {@code start} (inclusive) and {@code end} (exclusive). */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    checkPositionIndexes(start, end, text.length());
+    return start == 0 && end == text.length() ? this : new View(start, end);
+  }
+
+  /**
+   * Returns true if {@code a} and {@code b} have the same characters, and false if either is null,
+   * as {@link com.google.errorprone.VisitorState#getSourceViewForNode} is for nodes without source.
+   */
+  public static boolean contentEquals(@Nullable CharSequence a, @Nullable CharSequence b) {
+    return a != null && b != null && CharSequence.compare(a, b) == 0;
+  }
+
+  /** Returns the whole text; this doesn't copy it. */
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  /** A range of the text, which is copied only if it is converted to a string. */
+  private final class View implements CharSequence {
+    private final int start;
+    private final int end;
+
+    View(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      checkElementIndex(index, length());
+      return text.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      checkPositionIndexes(start, end, length());
+      return new View(this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+      return text.substring(start, end);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import com.google.errorprone.StatisticsCollector.Counter;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.suppliers.Supplier;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import com.sun.tools.javac.code.Symbol.TypeSymbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
+import com.sun.tools.javac.code.Types;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers erased subtype queries between class types using the set of all supertypes of each class,
+ * which is computed once per class and compilation.
+ */
+final class SupertypeClosures {
+
+  private static final Supplier<SupertypeClosures> INSTANCE =
+      VisitorState.memoize(state -> new SupertypeClosures(state));
+
+  /** Counts the calls to {@link ASTHelpers#isSubtype}. */
+  static final Counter SUBTYPE_CHECKS = Counter.create(() -> "ASTHelpers-isSubtype");
+
+  /**
+   * Counts the calls to {@link ASTHelpers#isSubtype} that were answered from a previously computed
+   * supertype set.
+   */
+  static final Counter SUBTYPE_CACHE_HITS =
+      Counter.create(() -> "ASTHelpers-isSubtype-cacheHits");
+
+  static SupertypeClosures instance(VisitorState state) {
+    return INSTANCE.get(state);
+  }
+
+  private final Types types;
+  private final Map<TypeSymbol, Set<TypeSymbol>> closures = new HashMap<>();
+
+  private SupertypeClosures(VisitorState state) {
+    this.types = state.getTypes();
+  }
+
+  /**
+   * Returns true if {@code erasure(s) <: erasure(t)}. The query is counted in {@code state}'s
+   * statistics.
+   */
+  boolean isSubtype(Type s, Type t, VisitorState state) {
+    state.incrementCounter(SUBTYPE_CHECKS);
+    Type erasedS = types.erasure(s);
+    Type erasedT = types.erasure(t);
+    if (!(erasedS.hasTag(TypeTag.CLASS) && erasedT.hasTag(TypeTag.CLASS))
+        || !(erasedS.tsym instanceof ClassSymbol)
+        || !(erasedT.tsym instanceof ClassSymbol)) {
+      return types.isSubtype(erasedS, erasedT);
+    }
+    Set<TypeSymbol> closure = closures.get(erasedS.tsym);
+    if (closure != null) {
+      state.incrementCounter(SUBTYPE_CACHE_HITS);
+    } else {
+      closure = new HashSet<>();
+      for (Type supertype : types.closure(erasedS)) {
+        closure.add(supertype.tsym);
+      }
+      closures.put(erasedS.tsym, closure);
+    }
+    return closure.contains(erasedT.tsym);
+  }
+}
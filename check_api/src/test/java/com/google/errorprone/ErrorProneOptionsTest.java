@@ -30,6 +30,8 @@ import com.google.errorprone.apply.ImportOrganizer;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -177,6 +179,12 @@ public class ErrorProneOptionsTest {
     assertThat(options.isTestOnlyTarget()).isTrue();
   }
 
+  @Test
+  public void recognizesReducedMemory() {
+    ErrorProneOptions options = ErrorProneOptions.processArgs(new String[] {"-XepReducedMemory"});
+    assertThat(options.reducedMemory()).isTrue();
+  }
+
   @Test
   public void recognizesCompilingPubliclyVisibleCode() {
     ErrorProneOptions options =
@@ -213,6 +221,62 @@ public class ErrorProneOptionsTest {
     assertThat(excludedPattern.matcher("foo/other_output/subdir/Gen.cpp").matches()).isFalse();
   }
 
+  @Test
+  public void recognizesFindingsOutput() {
+    assertThat(ErrorProneOptions.processArgs(new String[] {}).findingsOutput().isPresent())
+        .isFalse();
+    ErrorProneOptions options =
+        ErrorProneOptions.processArgs(new String[] {"-XepFindingsOutput:out/findings.sarif"});
+    assertThat(options.findingsOutput().get()).isEqualTo(Path.of("out/findings.sarif"));
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () -> ErrorProneOptions.processArgs(new String[] {"-XepFindingsOutput:"}));
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () ->
+            ErrorProneOptions.processArgs(
+                new String[] {"-XepFindingsOutput:findings.jsonl", "-XepPatchLocation:IN_PLACE"}));
+  }
+
+  @Test
+  public void recognizesLargeUnitOptions() {
+    ErrorProneOptions options = ErrorProneOptions.processArgs(new String[] {});
+    assertThat(options.largeUnitThreshold().isPresent()).isFalse();
+    assertThat(options.largeUnitSamplePercent()).isEqualTo(0);
+    options =
+        ErrorProneOptions.processArgs(
+            new String[] {"-XepLargeUnitThreshold:50000", "-XepLargeUnitSamplePercent:10"});
+    assertThat(options.largeUnitThreshold().get()).isEqualTo(50000);
+    assertThat(options.largeUnitSamplePercent()).isEqualTo(10);
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () -> ErrorProneOptions.processArgs(new String[] {"-XepLargeUnitThreshold:many"}));
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () -> ErrorProneOptions.processArgs(new String[] {"-XepLargeUnitSamplePercent:101"}));
+  }
+
+  @Test
+  public void recognizesCheckTimeBudgets() {
+    ErrorProneOptions options = ErrorProneOptions.processArgs(new String[] {});
+    assertThat(options.hasCheckTimeBudgets()).isFalse();
+    assertThat(options.checkTimeBudget("Foo").isPresent()).isFalse();
+    options =
+        ErrorProneOptions.processArgs(
+            new String[] {"-XepCheckTimeBudget:Foo=500", "-XepCheckTimeBudget:2000"});
+    assertThat(options.hasCheckTimeBudgets()).isTrue();
+    assertThat(options.checkTimeBudget("Foo").get()).isEqualTo(Duration.ofMillis(500));
+    assertThat(options.checkTimeBudget("Bar").get()).isEqualTo(Duration.ofSeconds(2));
+    options = ErrorProneOptions.processArgs(new String[] {"-XepCheckTimeBudget:Foo=500"});
+    assertThat(options.checkTimeBudget("Bar").isPresent()).isFalse();
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () -> ErrorProneOptions.processArgs(new String[] {"-XepCheckTimeBudget:Foo=0"}));
+    assertThrows(
+        InvalidCommandLineOptionException.class,
+        () -> ErrorProneOptions.processArgs(new String[] {"-XepCheckTimeBudget:=10"}));
+  }
+
   @Test
   public void recognizesPatch() {
     ErrorProneOptions options =
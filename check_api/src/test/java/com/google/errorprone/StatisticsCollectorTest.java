@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.google.errorprone.StatisticsCollector.Counter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link StatisticsCollector}. */
+@RunWith(JUnit4.class)
+public class StatisticsCollectorTest {
+
+  @Test
+  public void counterHandles_mergedWithStringKeys() {
+    StatisticsCollector collector = StatisticsCollector.createCollector();
+    Counter counter = Counter.create(() -> "Foo-bar");
+
+    collector.incrementCounter(counter);
+    collector.incrementCounter(counter, 2);
+    collector.incrementCounter("Foo-bar");
+    collector.incrementCounter(counter.suppressed());
+
+    assertThat(collector.counters())
+        .isEqualTo(
+            ImmutableMultiset.<String>builder()
+                .addCopies("Foo-bar", 4)
+                .add("Foo-bar-suppressed")
+                .build());
+  }
+
+  @Test
+  public void counterHandles_nameComputedOnceWhenRead() {
+    AtomicInteger calls = new AtomicInteger();
+    Counter counter =
+        Counter.create(
+            () -> {
+              calls.incrementAndGet();
+              return "Foo-bar";
+            });
+    StatisticsCollector collector = StatisticsCollector.createCollector();
+
+    for (int i = 0; i < 100; i++) {
+      collector.incrementCounter(counter);
+    }
+    assertThat(calls.get()).isEqualTo(0);
+
+    assertThat(collector.counters().count("Foo-bar")).isEqualTo(100);
+    assertThat(collector.counters().count("Foo-bar")).isEqualTo(100);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void concurrentIncrements() throws Exception {
+    StatisticsCollector collector = StatisticsCollector.createCollector();
+    Counter counter = Counter.create(() -> "Foo-bar");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10_000; j++) {
+                    collector.incrementCounter(counter);
+                    collector.incrementCounter("Foo-baz");
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(collector.counters().count("Foo-bar")).isEqualTo(40_000);
+    assertThat(collector.counters().count("Foo-baz")).isEqualTo(40_000);
+  }
+
+  @Test
+  public void noOpCollector() {
+    StatisticsCollector collector = StatisticsCollector.createNoOpCollector();
+    collector.incrementCounter(Counter.create(() -> "Foo-bar"));
+    assertThat(collector.counters()).isEmpty();
+  }
+}
@@ -18,6 +18,8 @@ package com.google.errorprone.apply;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import com.google.errorprone.fixes.Replacement;
+import com.google.errorprone.fixes.Replacements;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
@@ -113,4 +115,40 @@ public class SourceFileTest {
                 + "// enim ad minim veniam, quis nostrud exercitation ullamco\n");
     assertThat(sourceFile.getFragmentByLines(1, 8)).isEqualTo(SOURCE_TEXT);
   }
+
+  @Test
+  public void makeReplacements() {
+    sourceFile.makeReplacements(
+        new Replacements()
+            .add(Replacement.create(3, 8, "Sasquatch"))
+            .add(Replacement.create(9, 14, ""))
+            .add(Replacement.create(15, 15, "ipsum ")));
+    sourceFile.makeReplacements(
+        new Replacements()
+            .add(Replacement.create(0, 3, ""))
+            .add(Replacement.create(13, 13, "!"))
+            .add(Replacement.create(30, 34, "AMET")));
+    assertThat(sourceFile.getLines().get(0))
+        .isEqualTo("Sasquatch ! ipsum dolor sit AMET, consectetur adipisicing elit, sed do");
+    assertThat(sourceFile.getSourceText().substring(71))
+        .isEqualTo(SOURCE_TEXT.substring(SOURCE_TEXT.indexOf('\n') + 1));
+  }
+
+  @Test
+  public void makeReplacements_endOfFile() {
+    sourceFile.makeReplacements(
+        new Replacements()
+            .add(Replacement.create(0, 0, "// header\n"))
+            .add(Replacement.create(SOURCE_TEXT.length(), SOURCE_TEXT.length(), "// footer\n")));
+    assertThat(sourceFile.getSourceText())
+        .isEqualTo("// header\n" + SOURCE_TEXT + "// footer\n");
+  }
+
+  @Test
+  public void getAsSequence_reflectsChanges() {
+    CharSequence sequence = sourceFile.getAsSequence();
+    sourceFile.replaceChars(3, 8, "Sasquatch");
+    assertThat(sequence.length()).isEqualTo(SOURCE_TEXT.length() + 4);
+    assertThat(sequence.subSequence(3, 12).toString()).isEqualTo("Sasquatch");
+  }
 }
@@ -180,4 +180,55 @@ public class ReplacementsTest {
     Replacement around = Replacement.create(0, 2, "Around");
     assertThrows(IllegalArgumentException.class, () -> replacements.add(around));
   }
+
+  @Test
+  public void insertionInsideReplacementOverlaps() {
+    Replacements replacements = new Replacements();
+    replacements.add(Replacement.create(0, 2, "Around"));
+    Replacement inside = Replacement.create(1, 1, "Something");
+    assertThrows(IllegalArgumentException.class, () -> replacements.add(inside));
+  }
+
+  @Test
+  public void adjacentReplacements() {
+    Replacements replacements =
+        new Replacements()
+            .add(Replacement.create(2, 4, "b"))
+            .add(Replacement.create(4, 4, "c"))
+            .add(Replacement.create(0, 2, "a"))
+            .add(Replacement.create(2, 2, "_"))
+            .add(Replacement.create(4, 6, "d"));
+    assertThat(Iterables.transform(replacements.ascending(), AS_RANGES))
+        .containsExactly(
+            Range.closedOpen(0, 2),
+            Range.closedOpen(2, 2),
+            Range.closedOpen(2, 4),
+            Range.closedOpen(4, 4),
+            Range.closedOpen(4, 6))
+        .inOrder();
+    assertThat(replacements.applyTo("001122")).isEqualTo("a_bcd");
+  }
+
+  @Test
+  public void manyReplacements() {
+    Replacements replacements = new Replacements();
+    StringBuilder source = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      source.append("x;");
+      expected.append("y").append(i).append(';');
+    }
+    // Add them out of order, to exercise inserting in the middle.
+    for (int i = 0; i < 1000; i += 2) {
+      replacements.add(Replacement.create(2 * i, 2 * i + 1, "y" + i));
+    }
+    for (int i = 999; i > 0; i -= 2) {
+      replacements.add(Replacement.create(2 * i, 2 * i + 1, "y" + i));
+    }
+    assertThat(replacements.size()).isEqualTo(1000);
+    assertThat(replacements.applyTo(source)).isEqualTo(expected.toString());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> replacements.add(Replacement.create(1001, 1003, "overlapping")));
+  }
 }
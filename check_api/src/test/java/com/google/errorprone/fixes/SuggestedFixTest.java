@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.fixes;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link SuggestedFix}. */
+@RunWith(JUnit4.class)
+public class SuggestedFixTest {
+
+  private static final ErrorProneEndPosTable NO_END_POSITIONS =
+      pos -> {
+        throw new AssertionError();
+      };
+
+  @Test
+  public void resolve() {
+    SuggestedFix fix =
+        SuggestedFix.builder()
+            .replace(2, 4, "x")
+            .prefixWith(new FixedPosition(null, 7), "y")
+            .addImport("java.util.List")
+            .setShortDescription("fix it")
+            .build();
+
+    SuggestedFix resolved = fix.resolve(NO_END_POSITIONS);
+    assertThat(resolved).isNotEqualTo(fix);
+    assertThat(resolved.getReplacements(NO_END_POSITIONS))
+        .containsExactly(Replacement.create(2, 4, "x"), Replacement.create(7, 7, "y"))
+        .inOrder();
+    // The replacements were computed when the fix was resolved, and aren't computed again.
+    assertThat(resolved.getReplacements(null))
+        .isSameInstanceAs(resolved.getReplacements(NO_END_POSITIONS));
+    assertThat(resolved.getImportsToAdd()).containsExactly("import java.util.List");
+    assertThat(resolved.getShortDescription()).isEqualTo("fix it");
+    assertThat(resolved.resolve(NO_END_POSITIONS)).isSameInstanceAs(resolved);
+  }
+}
@@ -98,4 +98,33 @@ public class DescriptionTest {
             .build();
     assertThat(description.getMessage()).contains("https://foo");
   }
+
+  /** A message argument that counts how many times it's been formatted. */
+  private static final class CountingArgument {
+    int formatted;
+
+    @Override
+    public String toString() {
+      formatted++;
+      return "argument";
+    }
+  }
+
+  @Test
+  public void formattedMessage_formattedLazily() {
+    CountingArgument argument = new CountingArgument();
+    Description description =
+        new MyChecker().buildDescription(POSITION).setMessage("found %s", argument).build();
+    assertThat(argument.formatted).isEqualTo(0);
+    assertThat(description.getRawMessage()).isEqualTo("found argument");
+    assertThat(description.getMessage()).isEqualTo("[DeadException] found argument\n" + URL);
+    assertThat(argument.formatted).isEqualTo(1);
+  }
+
+  @Test
+  public void formattedMessage_escapedPercent() {
+    Description description =
+        new MyChecker().buildDescription(POSITION).setMessage("%d%% custom", 100).build();
+    assertThat(description.getRawMessage()).isEqualTo("100% custom");
+  }
 }
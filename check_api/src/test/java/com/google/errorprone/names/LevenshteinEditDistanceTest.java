@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.names;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for LevenshteinEditDistance */
+@RunWith(JUnit4.class)
+public class LevenshteinEditDistanceTest {
+
+  @Test
+  public void levenshteinEditDistance_returnsZero_withIdenticalNames() {
+    assertThat(LevenshteinEditDistance.getEditDistance("foo", "foo")).isEqualTo(0);
+  }
+
+  @Test
+  public void levenshteinEditDistance_countsEdits() {
+    assertThat(LevenshteinEditDistance.getEditDistance("kitten", "sitting")).isEqualTo(3);
+    assertThat(LevenshteinEditDistance.getEditDistance("", "abc")).isEqualTo(3);
+    assertThat(LevenshteinEditDistance.getEditDistance("  ", "abc")).isEqualTo(3);
+  }
+
+  @Test
+  public void levenshteinEditDistance_caseInsensitive() {
+    assertThat(LevenshteinEditDistance.getEditDistance("fooBar", "FOOBAR")).isEqualTo(5);
+    assertThat(
+            LevenshteinEditDistance.getEditDistance(
+                "fooBar", "FOOBAR", /* caseSensitive= */ false))
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void levenshteinEditDistance_stopsAtMaxDistance() {
+    assertThat(
+            LevenshteinEditDistance.getEditDistance(
+                "kitten", "sitting", /* caseSensitive= */ true, /* maxDistance= */ 3))
+        .isEqualTo(3);
+    assertThat(
+            LevenshteinEditDistance.getEditDistance(
+                "kitten", "sitting", /* caseSensitive= */ true, /* maxDistance= */ 2))
+        .isEqualTo(3);
+    assertThat(
+            LevenshteinEditDistance.getEditDistance(
+                "abcdefgh", "stuvwxyz", /* caseSensitive= */ true, /* maxDistance= */ 1))
+        .isEqualTo(2);
+  }
+}
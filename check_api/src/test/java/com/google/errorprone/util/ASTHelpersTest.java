@@ -87,8 +87,10 @@ import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.PackageSymbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Type.TypeVar;
+import com.sun.tools.javac.code.Types;
 import com.sun.tools.javac.main.Main.Result;
 import com.sun.tools.javac.tree.JCTree.JCLiteral;
+import com.sun.tools.javac.util.Name;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -326,6 +328,49 @@ public class ASTHelpersTest extends CompilerBasedAbstractTest {
     assertCompiles(scanner);
   }
 
+  @Test
+  public void annotationHelpers_name() {
+    writeFile(
+        "com/google/errorprone/util/InheritedAnnotation.java",
+        """
+        package com.google.errorprone.util;
+        import java.lang.annotation.Inherited;
+        @Inherited
+        public @interface InheritedAnnotation {}
+        """);
+    writeFile(
+        "A.java",
+        """
+        import com.google.errorprone.util.InheritedAnnotation;
+        @InheritedAnnotation
+        @Deprecated
+        public class A {}
+        """);
+    writeFile("B.java", "public class B extends A {}");
+    writeFile("C.java", "public class C extends B {}");
+
+    TestScanner scanner =
+        new TestScanner() {
+          @Override
+          public Void visitClass(ClassTree tree, VisitorState state) {
+            if (tree.getSimpleName().contentEquals("C")) {
+              Symbol sym = ASTHelpers.getSymbol(tree);
+              Name inherited = state.getName("com.google.errorprone.util.InheritedAnnotation");
+              assertThat(hasAnnotation(sym, inherited, state)).isTrue();
+              // @Deprecated is not @Inherited
+              assertThat(hasAnnotation(sym, state.getName("java.lang.Deprecated"), state))
+                  .isFalse();
+              assertThat(hasAnnotation(sym, state.getName("java.lang.FunctionalInterface"), state))
+                  .isFalse();
+              setAssertionsComplete();
+            }
+            return super.visitClass(tree, state);
+          }
+        };
+    tests.add(scanner);
+    assertCompiles(scanner);
+  }
+
   @Test
   public void annotationHelpersWrongValueCached() {
     writeFile("D.java", "public class D{}");
@@ -1706,6 +1751,58 @@ class Test {
     assertCompiles(scanner);
   }
 
+  @Test
+  public void isSubtype_classTypes_matchesJavac() {
+    writeFile(
+        "A.java",
+        """
+        import java.util.List;
+        interface I<T> {}
+        interface J extends I<String> {}
+        class A<T> implements J {}
+        class B extends A<Integer> implements Comparable<B> {
+          public int compareTo(B other) { return 0; }
+        }
+        abstract class C implements List<String> {}
+        """);
+    TestScanner scanner =
+        new TestScanner() {
+          @Override
+          public Void visitClass(ClassTree tree, VisitorState state) {
+            if (!tree.getSimpleName().contentEquals("A")) {
+              return super.visitClass(tree, state);
+            }
+            setAssertionsComplete();
+            Types types = state.getTypes();
+            List<Type> classTypes = new ArrayList<>();
+            for (Tree decl : getCurrentPath().getCompilationUnit().getTypeDecls()) {
+              classTypes.add(ASTHelpers.getType(decl));
+            }
+            classTypes.add(state.getSymtab().objectType);
+            classTypes.add(state.getSymtab().comparableType);
+            classTypes.add(state.getTypeFromString("java.util.Collection"));
+            int checks = state.counters().count(SupertypeClosures.SUBTYPE_CHECKS.name());
+            for (int i = 0; i < 2; i++) {
+              for (Type s : classTypes) {
+                for (Type t : classTypes) {
+                  assertWithMessage("%s <: %s", s, t)
+                      .that(ASTHelpers.isSubtype(s, t, state))
+                      .isEqualTo(types.isSubtype(types.erasure(s), types.erasure(t)));
+                }
+              }
+            }
+            int pairs = classTypes.size() * classTypes.size();
+            assertThat(state.counters().count(SupertypeClosures.SUBTYPE_CHECKS.name()) - checks)
+                .isEqualTo(2 * pairs);
+            assertThat(state.counters().count(SupertypeClosures.SUBTYPE_CACHE_HITS.name()))
+                .isAtLeast(pairs);
+            return super.visitClass(tree, state);
+          }
+        };
+    tests.add(scanner);
+    assertCompiles(scanner);
+  }
+
   /** Comments on method invocations with their receiver chain. */
   @BugPattern(
       summary = "Comments on method invocations with their receiver chain.",
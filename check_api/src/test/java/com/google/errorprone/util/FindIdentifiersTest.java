@@ -26,13 +26,19 @@ import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MemberSelectTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.ReturnTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.method.MethodMatchers;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
 import com.sun.tools.javac.code.Kinds.KindSelector;
+import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.VarSymbol;
 import com.sun.tools.javac.code.Type;
@@ -1374,4 +1380,92 @@ public class FindIdentifiersTest {
             """)
         .doTest();
   }
+
+  /** A {@link BugChecker} that prints where {@code x} is declared, at returns and at {@code y}. */
+  @BugPattern(severity = SeverityLevel.ERROR, summary = "Prints the declaration of x")
+  public static class PrintX extends BugChecker implements ReturnTreeMatcher, VariableTreeMatcher {
+    @Override
+    public Description matchReturn(ReturnTree tree, VisitorState state) {
+      return describe(tree, state);
+    }
+
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      return tree.getName().contentEquals("y") ? describe(tree, state) : Description.NO_MATCH;
+    }
+
+    private Description describe(Tree tree, VisitorState state) {
+      Symbol x = FindIdentifiers.findIdent("x", state);
+      return buildDescription(tree)
+          .setMessage(x == null ? "no x" : "x in " + x.owner.getSimpleName())
+          .build();
+    }
+  }
+
+  @Test
+  public void findIdentRepeatedInSameScope() {
+    CompilationTestHelper.newInstance(PrintX.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              int x;
+
+              int f(int x) {
+                if (x > 0) {
+                  // BUG: Diagnostic contains: x in f
+                  return x;
+                }
+                // BUG: Diagnostic contains: x in f
+                return 0;
+              }
+
+              int g() {
+                class Local {
+                  long x;
+                  // BUG: Diagnostic contains: x in Local
+                  long y = x;
+
+                  long h() {
+                    // BUG: Diagnostic contains: x in Local
+                    return x;
+                  }
+                }
+                // BUG: Diagnostic contains: x in Test
+                return 0;
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void findIdentInSeveralCompilationUnits() {
+    CompilationTestHelper.newInstance(PrintX.class, getClass())
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              int x;
+
+              int f() {
+                // BUG: Diagnostic contains: x in A
+                return x;
+              }
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              int x;
+
+              int f() {
+                // BUG: Diagnostic contains: x in B
+                return x;
+              }
+            }
+            """)
+        .doTest();
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.util;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.CharBuffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link SourceText}. */
+@RunWith(JUnit4.class)
+public class SourceTextTest {
+
+  private static final String SOURCE = "class Test {\n  int x;\r\n  int y;\r}";
+
+  @Test
+  public void views() {
+    SourceText text = SourceText.of(CharBuffer.wrap(SOURCE));
+
+    CharSequence view = text.subSequence(15, 21);
+    assertThat(view.length()).isEqualTo(6);
+    assertThat(view.charAt(4)).isEqualTo('x');
+    assertThat(view.toString()).isEqualTo("int x;");
+    assertThat(view.subSequence(4, 5).toString()).isEqualTo("x");
+    assertThat(CharSequence.compare(view, "int x;")).isEqualTo(0);
+    assertThat(text.subSequence(0, SOURCE.length())).isSameInstanceAs(text);
+    assertThat(text.toString()).isSameInstanceAs(text.toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> view.charAt(6));
+    assertThrows(IndexOutOfBoundsException.class, () -> text.subSequence(3, 2));
+  }
+
+  @Test
+  public void contentEquals() {
+    SourceText text = SourceText.of(SOURCE);
+
+    assertThat(SourceText.contentEquals(text.subSequence(15, 21), "int x;")).isTrue();
+    assertThat(SourceText.contentEquals(text.subSequence(15, 21), "int y;")).isFalse();
+    assertThat(SourceText.contentEquals(null, "int x;")).isFalse();
+    assertThat(SourceText.contentEquals("int x;", null)).isFalse();
+    assertThat(SourceText.contentEquals(null, null)).isFalse();
+  }
+}
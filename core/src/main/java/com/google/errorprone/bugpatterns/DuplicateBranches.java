@@ -58,8 +58,8 @@ public class DuplicateBranches extends BugChecker
 
   @SuppressWarnings("TreeToString")
   private Description match(Tree tree, Tree thenTree, Tree elseTree, VisitorState state) {
-    if (state.getSourceForNode(thenTree).length() > MAX_LENGTH_TO_COMPARE
-        || state.getSourceForNode(elseTree).length() > MAX_LENGTH_TO_COMPARE) {
+    if (state.getSourceViewForNode(thenTree).length() > MAX_LENGTH_TO_COMPARE
+        || state.getSourceViewForNode(elseTree).length() > MAX_LENGTH_TO_COMPARE) {
       return NO_MATCH;
     }
     // This could do something similar to com.sun.tools.javac.comp.TreeDiffer. That doesn't
@@ -25,6 +25,7 @@ import com.google.common.collect.Sets;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.fixes.SuggestedFixes;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.matchers.InjectMatchers;
@@ -48,6 +49,7 @@ import com.sun.tools.javac.code.Flags;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.VarSymbol;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
@@ -222,6 +224,8 @@ public class FieldCanBeFinal extends BugChecker implements CompilationUnitTreeMa
   public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
     VariableAssignmentRecords writes = new VariableAssignmentRecords();
     new FinalScanner(writes, state).scan(state.getPath(), InitializationContext.NONE);
+    // Fixes are checked for compilation together, since each check requires a recompile.
+    Map<SuggestedFix, VariableTree> fixes = new LinkedHashMap<>();
     for (VariableAssignments var : writes.getAssignments()) {
       if (!var.isEffectivelyFinal()) {
         continue;
@@ -238,20 +242,28 @@ public class FieldCanBeFinal extends BugChecker implements CompilationUnitTreeMa
       for (Attribute.Compound anno : var.sym.getAnnotationMirrors()) {
         TypeElement annoElement = (TypeElement) anno.getAnnotationType().asElement();
         if (IMPLICIT_VAR_ANNOTATION_SIMPLE_NAMES.contains(annoElement.getSimpleName().toString())) {
+          reportCompilingFixes(fixes, state);
           return Description.NO_MATCH;
         }
         if (annoElement.getQualifiedName().toString().startsWith(OBJECTIFY_PREFIX)) {
+          reportCompilingFixes(fixes, state);
           return Description.NO_MATCH;
         }
       }
       VariableTree varDecl = var.declaration();
       SuggestedFixes.addModifiers(varDecl, state, Modifier.FINAL)
-          .filter(f -> SuggestedFixes.compilesWithFix(f, state))
-          .ifPresent(f -> state.reportMatch(describeMatch(varDecl, f)));
+          .ifPresent(f -> fixes.put(f, varDecl));
     }
+    reportCompilingFixes(fixes, state);
     return Description.NO_MATCH;
   }
 
+  private void reportCompilingFixes(Map<SuggestedFix, VariableTree> fixes, VisitorState state) {
+    for (SuggestedFix fix : SuggestedFixes.compilingFixes(new ArrayList<>(fixes.keySet()), state)) {
+      state.reportMatch(describeMatch(fixes.get(fix), fix));
+    }
+  }
+
   /** Record assignments to possibly-final variables in a compilation unit. */
   private final class FinalScanner extends TreePathScanner<Void, InitializationContext> {
 
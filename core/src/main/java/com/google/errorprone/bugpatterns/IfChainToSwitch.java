@@ -34,6 +34,7 @@ import static com.google.errorprone.util.ASTHelpers.isSubtype;
 import static com.google.errorprone.util.ASTHelpers.sameVariable;
 import static com.google.errorprone.util.ASTHelpers.stripParentheses;
 import static com.google.errorprone.util.ASTHelpers.unboxedType;
+import static com.google.errorprone.util.SourceText.contentEquals;
 import static com.sun.source.tree.Tree.Kind.EXPRESSION_STATEMENT;
 import static com.sun.source.tree.Tree.Kind.THROW;
 import static java.lang.Math.max;
@@ -1585,7 +1586,8 @@ public final class IfChainToSwitch extends BugChecker implements IfTreeMatcher {
   private static boolean expressionSourceMatches(
       ExpressionTree subject, ExpressionTree expression, VisitorState state) {
 
-    return state.getSourceForNode(subject).equals(state.getSourceForNode(expression));
+    return contentEquals(
+        state.getSourceViewForNode(subject), state.getSourceViewForNode(expression));
   }
 
   /** Retrieves a list of all statements (if any) following the current path, if any. */
@@ -22,6 +22,7 @@ import static com.google.errorprone.matchers.Description.NO_MATCH;
 import static com.google.errorprone.matchers.method.MethodMatchers.instanceMethod;
 import static com.google.errorprone.util.ASTHelpers.getReceiver;
 import static com.google.errorprone.util.ASTHelpers.getStartPosition;
+import static com.google.errorprone.util.SourceText.contentEquals;
 
 import com.google.common.collect.Iterables;
 import com.google.errorprone.BugPattern;
@@ -191,7 +192,7 @@ public final class LockNotBeforeTry extends BugChecker implements MethodInvocati
     ExpressionTree receiver = getReceiver(node);
     return receiver != null
         && UNLOCK.matches(node, state)
-        && state.getSourceForNode(receiver).equals(state.getSourceForNode(lockee));
+        && contentEquals(state.getSourceViewForNode(receiver), state.getSourceViewForNode(lockee));
   }
 
   private static boolean acquires(ExpressionTree node, ExpressionTree lockee, VisitorState state) {
@@ -201,6 +202,6 @@ public final class LockNotBeforeTry extends BugChecker implements MethodInvocati
     ExpressionTree receiver = getReceiver(node);
     return receiver != null
         && LOCK.matches(node, state)
-        && state.getSourceForNode(receiver).equals(state.getSourceForNode(lockee));
+        && contentEquals(state.getSourceViewForNode(receiver), state.getSourceViewForNode(lockee));
   }
 }
@@ -19,6 +19,7 @@ package com.google.errorprone.bugpatterns;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.errorprone.BugPattern.CostClass.SPECULATIVE_COMPILE;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.bugpatterns.Switches.isDefaultCaseForSkew;
 import static com.google.errorprone.fixes.SuggestedFixes.compilesWithFix;
@@ -54,7 +55,8 @@ import javax.lang.model.element.ElementKind;
     summary =
         "Switch handles all enum values: an explicit default case is unnecessary and defeats error"
             + " checking for non-exhaustive switches.",
-    severity = WARNING)
+    severity = WARNING,
+    cost = SPECULATIVE_COMPILE)
 public class UnnecessaryDefaultInEnumSwitch extends BugChecker
     implements SwitchTreeMatcher, SwitchExpressionTreeMatcher {
 
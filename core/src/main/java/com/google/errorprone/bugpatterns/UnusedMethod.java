@@ -22,6 +22,7 @@ import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.size;
 import static com.google.common.collect.Multimaps.asMap;
+import static com.google.errorprone.BugPattern.CostClass.WHOLE_UNIT;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.fixes.SuggestedFix.emptyFix;
 import static com.google.errorprone.fixes.SuggestedFixes.replaceIncludingComments;
@@ -89,7 +90,8 @@ import javax.lang.model.element.Name;
     altNames = {"Unused", "unused", "UnusedParameters"},
     summary = "Unused.",
     severity = WARNING,
-    documentSuppression = false)
+    documentSuppression = false,
+    cost = WHOLE_UNIT)
 public final class UnusedMethod extends BugChecker implements CompilationUnitTreeMatcher {
   private static final Supplier<Type> GWT_JAVASCRIPT_OBJECT =
       Suppliers.typeFromString("com.google.gwt.core.client.JavaScriptObject");
@@ -20,8 +20,10 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.nullToEmpty;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.errorprone.BugPattern.CostClass.WHOLE_UNIT;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.matchers.Matchers.SERIALIZATION_METHODS;
 import static com.google.errorprone.suppliers.Suppliers.typeFromString;
@@ -109,12 +111,14 @@ import com.sun.tools.javac.util.Position;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
@@ -128,7 +132,8 @@ import org.jspecify.annotations.Nullable;
     altNames = {"unused", "UnusedParameters"},
     summary = "Unused.",
     severity = WARNING,
-    documentSuppression = false)
+    documentSuppression = false,
+    cost = WHOLE_UNIT)
 public final class UnusedVariable extends BugChecker implements CompilationUnitTreeMatcher {
   private final ImmutableSet<String> exemptPrefixes;
 
@@ -200,19 +205,20 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
   public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
     // We will skip reporting on the whole compilation if there are any native methods found.
     // Use a TreeScanner to find all local variables and fields.
-    if (hasNativeMethods(tree)) {
+    MethodDeclarations methodDeclarations = scanMethodDeclarations(tree, state);
+    if (methodDeclarations.hasNativeMethods()) {
       return Description.NO_MATCH;
     }
 
     ImmutableMultimap<MethodSymbol, MethodSymbol> superMethodsToOverrides =
-        getSuperMethodsToOverrides(tree, state);
+        methodDeclarations.superMethodsToOverrides();
 
     VariableFinder variableFinder = new VariableFinder(state, superMethodsToOverrides);
     variableFinder.scan(state.getPath(), null);
 
     // Map of symbols to variable declarations. Initially this is a map of all of the local variable
     // and fields. As we go we remove those variables which are used.
-    Map<Symbol, TreePath> unusedElements = variableFinder.unusedElements;
+    Map<Symbol, Site> unusedElements = variableFinder.unusedElements;
 
     // Whether a symbol should only be checked for reassignments (e.g. public methods' parameters).
     Set<Symbol> onlyCheckForReassignments = variableFinder.onlyCheckForReassignments;
@@ -223,9 +229,11 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     //
     // We populate this map when analyzing the unused variables and then use it to generate
     // appropriate fixes for them.
-    ListMultimap<Symbol, TreePath> usageSites = variableFinder.usageSites;
+    ListMultimap<Symbol, Site> usageSites = variableFinder.usageSites;
 
-    FilterUsedVariables filterUsedVariables = new FilterUsedVariables(unusedElements, usageSites);
+    FilterUsedVariables filterUsedVariables =
+        new FilterUsedVariables(
+            unusedElements, usageSites, variableFinder.declarationScopeDepths, state);
     filterUsedVariables.scan(state.getPath(), null);
 
     // Keeps track of whether a symbol was _ever_ used (between reassignments).
@@ -233,7 +241,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     List<UnusedSpec> unusedSpecs = filterUsedVariables.unusedSpecs;
 
     // Add the left-over unused variables...
-    for (Map.Entry<Symbol, TreePath> entry : unusedElements.entrySet()) {
+    for (Map.Entry<Symbol, Site> entry : unusedElements.entrySet()) {
       unusedSpecs.add(
           UnusedSpec.of(entry.getKey(), entry.getValue(), usageSites.get(entry.getKey()), null));
     }
@@ -241,32 +249,66 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     ImmutableListMultimap<Symbol, UnusedSpec> unusedSpecsBySymbol =
         Multimaps.index(unusedSpecs, UnusedSpec::symbol);
 
+    // Only the sites of variables that are reported are needed as paths, to build the findings and
+    // their fixes.
+    ImmutableMap<Site, TreePath> paths =
+        resolveSites(
+            unusedSpecsBySymbol.asMap().entrySet().stream()
+                .filter(
+                    e ->
+                        !onlyCheckForReassignments.contains(e.getKey())
+                            || e.getValue().size() > 1)
+                .flatMap(e -> e.getValue().stream())
+                .flatMap(u -> Stream.concat(Stream.of(u.assignmentSite()), u.usageSites().stream()))
+                .collect(toImmutableSet()),
+            state);
+
+    // The declarations and call sites of methods with unused parameters, computed on demand in a
+    // single scan of the compilation unit.
+    ImmutableListMultimap<MethodSymbol, List<? extends Tree>> parameterLists = null;
+
     for (Map.Entry<Symbol, Collection<UnusedSpec>> entry : unusedSpecsBySymbol.asMap().entrySet()) {
       Symbol unusedSymbol = entry.getKey();
-      Collection<UnusedSpec> specs = entry.getValue();
 
-      ImmutableList<TreePath> allUsageSites =
-          specs.stream().flatMap(u -> u.usageSites().stream()).collect(toImmutableList());
       if (!unusedElements.containsKey(unusedSymbol)) {
         isEverUsed.add(unusedSymbol);
       }
-      SuggestedFix makeFirstAssignmentDeclaration =
-          makeAssignmentDeclaration(unusedSymbol, specs, allUsageSites, state);
       // Don't complain if this is a public method and we only overwrote it once.
-      if (onlyCheckForReassignments.contains(unusedSymbol) && specs.size() <= 1) {
+      if (onlyCheckForReassignments.contains(unusedSymbol) && entry.getValue().size() <= 1) {
         continue;
       }
-      Tree unused = specs.iterator().next().assignmentPath().getLeaf();
+      ImmutableList<UnusedSpec> specs =
+          entry.getValue().stream()
+              .filter(
+                  u ->
+                      paths.containsKey(u.assignmentSite())
+                          && paths.keySet().containsAll(u.usageSites()))
+              .collect(toImmutableList());
+      if (specs.isEmpty()) {
+        continue;
+      }
+      ImmutableList<TreePath> allUsageSites =
+          specs.stream()
+              .flatMap(u -> u.usageSites().stream())
+              .map(paths::get)
+              .collect(toImmutableList());
+      SuggestedFix makeFirstAssignmentDeclaration =
+          makeAssignmentDeclaration(unusedSymbol, specs, allUsageSites, state);
+      TreePath unusedPath = paths.get(specs.iterator().next().assignmentSite());
+      Tree unused = unusedPath.getLeaf();
       VarSymbol symbol = (VarSymbol) unusedSymbol;
       ImmutableList.Builder<SuggestedFix> fixes = ImmutableList.builder();
       if (symbol.getKind() == ElementKind.PARAMETER
           && !onlyCheckForReassignments.contains(unusedSymbol)
           && !isEverUsed.contains(unusedSymbol)) {
-        fixes.addAll(buildUnusedParameterFixes(symbol, allUsageSites, state));
+        if (parameterLists == null) {
+          parameterLists = indexParameterLists(unusedSpecsBySymbol.keySet(), state);
+        }
+        fixes.addAll(buildUnusedParameterFixes(symbol, allUsageSites, parameterLists, state));
       } else {
         fixes.addAll(buildUnusedVarFixes(symbol, allUsageSites, state));
       }
-      if (suggestUnderscore(state, isEverUsed, unusedSymbol, specs, allUsageSites)) {
+      if (suggestUnderscore(state, isEverUsed, unusedSymbol, unusedPath, specs, allUsageSites)) {
         fixes.add(SuggestedFixes.renameVariable((VariableTree) unused, "_", state));
       }
       String message;
@@ -297,9 +339,9 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       VisitorState state,
       Set<Symbol> isEverUsed,
       Symbol symbol,
+      TreePath unusedPath,
       Collection<UnusedSpec> specs,
       ImmutableList<TreePath> allUsageSites) {
-    TreePath unusedPath = specs.iterator().next().assignmentPath();
     Tree unused = unusedPath.getLeaf();
     if (!(unused instanceof VariableTree variableTree)) {
       return false;
@@ -374,35 +416,73 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     };
   }
 
-  private static boolean hasNativeMethods(CompilationUnitTree tree) {
+  /**
+   * @param hasNativeMethods whether any method in the compilation unit is native
+   * @param superMethodsToOverrides methods in the compilation unit, mapped to the methods in the
+   *     same compilation unit that override them
+   */
+  private record MethodDeclarations(
+      boolean hasNativeMethods,
+      ImmutableMultimap<MethodSymbol, MethodSymbol> superMethodsToOverrides) {}
+
+  private static MethodDeclarations scanMethodDeclarations(
+      CompilationUnitTree tree, VisitorState state) {
     AtomicBoolean hasAnyNativeMethods = new AtomicBoolean(false);
+    ImmutableMultimap.Builder<MethodSymbol, MethodSymbol> overrides = ImmutableMultimap.builder();
+    JavaFileObject sourceFile = tree.getSourceFile();
     new TreeScanner<Void, Void>() {
       @Override
       public Void visitMethod(MethodTree tree, Void unused) {
         if (tree.getModifiers().getFlags().contains(Modifier.NATIVE)) {
           hasAnyNativeMethods.set(true);
         }
+        if (hasAnyNativeMethods.get()) {
+          // The results are unused if there are any native methods.
+          return null;
+        }
+        MethodSymbol sym = getSymbol(tree);
+        findSuperMethods(sym, state.getTypes()).stream()
+            .filter(m -> sourceFile.equals(m.enclClass().sourcefile))
+            .forEach(m -> overrides.put(m, sym));
         return null;
       }
     }.scan(tree, null);
-    return hasAnyNativeMethods.get();
+    return new MethodDeclarations(hasAnyNativeMethods.get(), overrides.build());
   }
 
-  private static ImmutableMultimap<MethodSymbol, MethodSymbol> getSuperMethodsToOverrides(
-      CompilationUnitTree tree, VisitorState state) {
-    ImmutableMultimap.Builder<MethodSymbol, MethodSymbol> overrides = ImmutableMultimap.builder();
-    JavaFileObject sourceFile = tree.getSourceFile();
+  /**
+   * Returns the parameter lists of the declarations of methods which own any of the given
+   * parameters, and the argument lists of invocations of those methods, in source order.
+   */
+  private static ImmutableListMultimap<MethodSymbol, List<? extends Tree>> indexParameterLists(
+      Set<Symbol> unusedSymbols, VisitorState state) {
+    ImmutableSet<Symbol> methods =
+        unusedSymbols.stream()
+            .filter(s -> s.getKind() == ElementKind.PARAMETER && s.owner instanceof MethodSymbol)
+            .map(s -> s.owner)
+            .collect(toImmutableSet());
+    ImmutableListMultimap.Builder<MethodSymbol, List<? extends Tree>> parameterLists =
+        ImmutableListMultimap.builder();
     new TreeScanner<Void, Void>() {
+      @Override
+      public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
+        MethodSymbol symbol = getSymbol(tree);
+        if (methods.contains(symbol)) {
+          parameterLists.put(symbol, tree.getArguments());
+        }
+        return super.visitMethodInvocation(tree, null);
+      }
+
       @Override
       public Void visitMethod(MethodTree tree, Void unused) {
-        MethodSymbol sym = getSymbol(tree);
-        findSuperMethods(getSymbol(tree), state.getTypes()).stream()
-            .filter(m -> sourceFile.equals(m.enclClass().sourcefile))
-            .forEach(m -> overrides.put(m, sym));
-        return null;
+        MethodSymbol symbol = getSymbol(tree);
+        if (methods.contains(symbol)) {
+          parameterLists.put(symbol, tree.getParameters());
+        }
+        return super.visitMethod(tree, null);
       }
-    }.scan(tree, null);
-    return overrides.build();
+    }.scan(state.getPath().getCompilationUnit(), null);
+    return parameterLists.build();
   }
 
   // https://docs.oracle.com/javase/specs/jls/se11/html/jls-14.html#jls-ExpressionStatement
@@ -570,7 +650,10 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
   }
 
   private static ImmutableList<SuggestedFix> buildUnusedParameterFixes(
-      Symbol varSymbol, List<TreePath> usagePaths, VisitorState state) {
+      Symbol varSymbol,
+      List<TreePath> usagePaths,
+      ImmutableListMultimap<MethodSymbol, List<? extends Tree>> parameterLists,
+      VisitorState state) {
     if (!(varSymbol.owner instanceof MethodSymbol methodSymbol)
         || !methodSymbol.params().contains(varSymbol)
         || !canBeRemoved(varSymbol.owner, state)) {
@@ -583,61 +666,52 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       deletions.add(
           Range.closed(getStartPosition(path.getLeaf()), state.getEndPosition(path.getLeaf())));
     }
-    new TreePathScanner<Void, Void>() {
-      @Override
-      public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
-        if (getSymbol(tree).equals(methodSymbol)) {
-          removeByIndex(tree.getArguments());
-        }
-        return super.visitMethodInvocation(tree, null);
-      }
-
-      @Override
-      public Void visitMethod(MethodTree tree, Void unused) {
-        if (getSymbol(tree).equals(methodSymbol)) {
-          removeByIndex(tree.getParameters());
-        }
-        return super.visitMethod(tree, null);
-      }
-
-      private void removeByIndex(List<? extends Tree> trees) {
-        if (index >= trees.size()) {
-          // possible when removing a varargs parameter with no corresponding formal parameters
-          return;
-        }
-        if (trees.size() == 1) {
-          Tree tree = getOnlyElement(trees);
-          if (!hasExplicitSource(tree, state)) {
-            // TODO(b/118437729): handle bogus source positions in enum declarations
-            return;
-          }
-          deletions.add(Range.closed(getStartPosition(tree), state.getEndPosition(tree)));
-          return;
-        }
-        int startPos;
-        int endPos;
-        if (index >= 1) {
-          startPos = state.getEndPosition(trees.get(index - 1));
-          endPos = state.getEndPosition(trees.get(index));
-        } else {
-          startPos = getStartPosition(trees.get(index));
-          endPos = getStartPosition(trees.get(index + 1));
-        }
-        if (index == methodSymbol.params().size() - 1 && methodSymbol.isVarArgs()) {
-          endPos = state.getEndPosition(getLast(trees));
-        }
-        if (startPos == Position.NOPOS || endPos == Position.NOPOS) {
-          // TODO(b/118437729): handle bogus source positions in enum declarations
-          return;
-        }
-        deletions.add(Range.closed(startPos, endPos));
-      }
-    }.scan(state.getPath().getCompilationUnit(), null);
+    for (List<? extends Tree> trees : parameterLists.get(methodSymbol)) {
+      removeByIndex(trees, index, methodSymbol, deletions, state);
+    }
     SuggestedFix.Builder fix = SuggestedFix.builder();
     deletions.asRanges().forEach(x -> fix.replace(x.lowerEndpoint(), x.upperEndpoint(), ""));
     return ImmutableList.of(fix.build());
   }
 
+  private static void removeByIndex(
+      List<? extends Tree> trees,
+      int index,
+      MethodSymbol methodSymbol,
+      RangeSet<Integer> deletions,
+      VisitorState state) {
+    if (index >= trees.size()) {
+      // possible when removing a varargs parameter with no corresponding formal parameters
+      return;
+    }
+    if (trees.size() == 1) {
+      Tree tree = getOnlyElement(trees);
+      if (!hasExplicitSource(tree, state)) {
+        // TODO(b/118437729): handle bogus source positions in enum declarations
+        return;
+      }
+      deletions.add(Range.closed(getStartPosition(tree), state.getEndPosition(tree)));
+      return;
+    }
+    int startPos;
+    int endPos;
+    if (index >= 1) {
+      startPos = state.getEndPosition(trees.get(index - 1));
+      endPos = state.getEndPosition(trees.get(index));
+    } else {
+      startPos = getStartPosition(trees.get(index));
+      endPos = getStartPosition(trees.get(index + 1));
+    }
+    if (index == methodSymbol.params().size() - 1 && methodSymbol.isVarArgs()) {
+      endPos = state.getEndPosition(getLast(trees));
+    }
+    if (startPos == Position.NOPOS || endPos == Position.NOPOS) {
+      // TODO(b/118437729): handle bogus source positions in enum declarations
+      return;
+    }
+    deletions.add(Range.closed(startPos, endPos));
+  }
+
   private static boolean isEnhancedForLoopVar(TreePath variablePath) {
     Tree tree = variablePath.getLeaf();
     Tree parent = variablePath.getParentPath().getLeaf();
@@ -645,6 +719,21 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
         && enhancedForLoopTree.getVariable() == tree;
   }
 
+  // This is a crude proxy for when a variable is unconditionally overwritten. It doesn't match
+  // all cases, but it catches a reassignment at the same depth.
+  private static int scopeDepth(TreePath assignmentSite) {
+    if (assignmentSite.getParentPath().getLeaf() instanceof EnhancedForLoopTree) {
+      return Iterables.size(assignmentSite) + 1;
+    }
+    if (assignmentSite.getLeaf() instanceof VariableTree variableTree) {
+      VarSymbol symbol = getSymbol(variableTree);
+      if (symbol.getKind() == ElementKind.PARAMETER) {
+        return Iterables.size(assignmentSite) + 1;
+      }
+    }
+    return Iterables.size(assignmentSite);
+  }
+
   private boolean exemptedByName(Name name) {
     String nameString = name.toString();
     String nameStringLower = Ascii.toLowerCase(nameString);
@@ -653,11 +742,13 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
   }
 
   private final class VariableFinder extends TreePathScanner<Void, Void> {
-    private final Map<Symbol, TreePath> unusedElements = new HashMap<>();
+    private final Map<Symbol, Site> unusedElements = new HashMap<>();
 
     private final Set<Symbol> onlyCheckForReassignments = new HashSet<>();
 
-    private final ListMultimap<Symbol, TreePath> usageSites = ArrayListMultimap.create();
+    private final ListMultimap<Symbol, Site> usageSites = ArrayListMultimap.create();
+
+    private final Map<Symbol, Integer> declarationScopeDepths = new HashMap<>();
 
     private final VisitorState state;
     private final ImmutableMultimap<MethodSymbol, MethodSymbol> superMethodsToOverrides;
@@ -686,8 +777,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       if (parent instanceof LambdaExpressionTree) {
         if (FUNCTIONAL_INTERFACE_TYPES_TO_CHECK.stream()
             .anyMatch(t -> isSubtype(getType(parent), state.getTypeFromString(t), state))) {
-          unusedElements.put(symbol, getCurrentPath());
-          usageSites.put(symbol, getCurrentPath());
+          addUnusedElement(symbol, /* isUsageSite= */ true);
         }
         return;
       }
@@ -708,16 +798,14 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
         case FIELD -> {
           // We are only interested in private fields and those which are not special.
           if (isFieldEligibleForChecking(variableTree, symbol)) {
-            unusedElements.put(symbol, getCurrentPath());
-            usageSites.put(symbol, getCurrentPath());
+            addUnusedElement(symbol, /* isUsageSite= */ true);
           }
         }
         case LOCAL_VARIABLE -> {
           if (isInsideRefasterTemplate(getCurrentPath())) {
             return;
           }
-          unusedElements.put(symbol, getCurrentPath());
-          usageSites.put(symbol, getCurrentPath());
+          addUnusedElement(symbol, /* isUsageSite= */ true);
         }
         case BINDING_VARIABLE -> {
           if (isInsideRefasterTemplate(getCurrentPath())) {
@@ -726,8 +814,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
           if (parent instanceof BindingPatternTree
               && getCurrentPath().getParentPath().getParentPath().getLeaf()
                   instanceof InstanceOfTree) {
-            unusedElements.put(symbol, getCurrentPath());
-            usageSites.put(symbol, getCurrentPath());
+            addUnusedElement(symbol, /* isUsageSite= */ true);
           }
         }
         case PARAMETER -> {
@@ -742,7 +829,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
           if (hasRecordFlag(symbol.owner)) {
             return;
           }
-          unusedElements.put(symbol, getCurrentPath());
+          addUnusedElement(symbol, /* isUsageSite= */ false);
           if (!isParameterSubjectToAnalysis(symbol)) {
             onlyCheckForReassignments.add(symbol);
           }
@@ -751,6 +838,15 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       }
     }
 
+    private void addUnusedElement(VarSymbol symbol, boolean isUsageSite) {
+      Site site = Site.of(getCurrentPath().getLeaf());
+      unusedElements.put(symbol, site);
+      if (isUsageSite) {
+        usageSites.put(symbol, site);
+      }
+      declarationScopeDepths.put(symbol, scopeDepth(getCurrentPath()));
+    }
+
     private boolean isInsideRefasterTemplate(TreePath path) {
       for (Tree node : path) {
         if (node instanceof MethodTree methodTree) {
@@ -871,26 +967,32 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     // call.
     private int inMethodCall = 0;
 
-    private final Map<Symbol, TreePath> assignmentSite = new HashMap<>();
+    private final Map<Symbol, Site> assignmentSite = new HashMap<>();
 
-    private TreePath currentExpressionStatement = null;
+    private @Nullable ExpressionStatementTree currentExpressionStatement = null;
 
-    private final Map<Symbol, TreePath> unusedElements;
+    private final Map<Symbol, Site> unusedElements;
 
-    private final ListMultimap<Symbol, TreePath> usageSites;
+    private final ListMultimap<Symbol, Site> usageSites;
 
     // Keeps track of whether a symbol was _ever_ used (between reassignments).
     private final Set<Symbol> isEverUsed = new HashSet<>();
 
     private final List<UnusedSpec> unusedSpecs = new ArrayList<>();
 
-    private final ImmutableMap<Symbol, TreePath> declarationSites;
+    private final Map<Symbol, Integer> declarationScopeDepths;
+
+    private final VisitorState state;
 
     private FilterUsedVariables(
-        Map<Symbol, TreePath> unusedElements, ListMultimap<Symbol, TreePath> usageSites) {
+        Map<Symbol, Site> unusedElements,
+        ListMultimap<Symbol, Site> usageSites,
+        Map<Symbol, Integer> declarationScopeDepths,
+        VisitorState state) {
       this.unusedElements = unusedElements;
       this.usageSites = usageSites;
-      this.declarationSites = ImmutableMap.copyOf(unusedElements);
+      this.declarationScopeDepths = declarationScopeDepths;
+      this.state = state;
     }
 
     private boolean isInExpressionStatementTree() {
@@ -904,11 +1006,22 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
           && unusedElements.containsKey(symbol);
     }
 
+    /**
+     * Records a real usage of the given symbol. The usage sites collected so far are only needed
+     * while the symbol is unused, so they are dropped instead of being retained until the end of
+     * the compilation unit.
+     */
+    private void markUsed(Symbol symbol) {
+      if (unusedElements.remove(symbol) != null) {
+        usageSites.removeAll(symbol);
+      }
+    }
+
     @Override
     public Void visitVariable(VariableTree tree, Void unused) {
       VarSymbol symbol = getSymbol(tree);
       if (hasBeenAssigned(tree, symbol)) {
-        assignmentSite.put(symbol, getCurrentPath());
+        assignmentSite.put(symbol, Site.of(tree));
       }
       return super.visitVariable(tree, null);
     }
@@ -933,7 +1046,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
 
     @Override
     public Void visitExpressionStatement(ExpressionStatementTree tree, Void unused) {
-      currentExpressionStatement = getCurrentPath();
+      currentExpressionStatement = tree;
       super.visitExpressionStatement(tree, null);
       currentExpressionStatement = null;
       return null;
@@ -944,10 +1057,10 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       Symbol symbol = getSymbol(tree);
       // Filtering out identifier symbol from vars map. These are real usages of identifiers.
       if (isUsed(symbol)) {
-        unusedElements.remove(symbol);
+        markUsed(symbol);
       }
       if (currentExpressionStatement != null && unusedElements.containsKey(symbol)) {
-        usageSites.put(symbol, currentExpressionStatement);
+        usageSites.put(symbol, Site.of(currentExpressionStatement));
       }
       return null;
     }
@@ -994,15 +1107,15 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       if (getType(tree.getExpression()) instanceof NullType) {
         return;
       }
-      TreePath lastAssignmentSite = assignmentSite.get(symbol);
+      Site lastAssignmentSite = assignmentSite.get(symbol);
       if (lastAssignmentSite == null) {
         return;
       }
-      TreePath declarationSite = declarationSites.get(symbol);
-      if (declarationSite == null) {
+      Integer declarationScopeDepth = declarationScopeDepths.get(symbol);
+      if (declarationScopeDepth == null) {
         return;
       }
-      if (scopeDepth(declarationSite) != Iterables.size(getCurrentPath().getParentPath())) {
+      if (declarationScopeDepth != Iterables.size(getCurrentPath().getParentPath())) {
         return;
       }
       if (unusedElements.containsKey(symbol)) {
@@ -1010,34 +1123,20 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
       } else {
         isEverUsed.add(symbol);
       }
-      unusedElements.put(symbol, getCurrentPath());
+      Site statementSite = Site.of(getCurrentPath().getParentPath().getLeaf());
+      unusedElements.put(symbol, Site.of(tree));
       usageSites.removeAll(symbol);
-      usageSites.put(symbol, getCurrentPath().getParentPath());
-      assignmentSite.put(symbol, getCurrentPath().getParentPath());
-    }
-
-    // This is a crude proxy for when a variable is unconditionally overwritten. It doesn't match
-    // all cases, but it catches a reassignment at the same depth.
-    private static int scopeDepth(TreePath assignmentSite) {
-      if (assignmentSite.getParentPath().getLeaf() instanceof EnhancedForLoopTree) {
-        return Iterables.size(assignmentSite) + 1;
-      }
-      if (assignmentSite.getLeaf() instanceof VariableTree variableTree) {
-        VarSymbol symbol = getSymbol(variableTree);
-        if (symbol.getKind() == ElementKind.PARAMETER) {
-          return Iterables.size(assignmentSite) + 1;
-        }
-      }
-      return Iterables.size(assignmentSite);
+      usageSites.put(symbol, statementSite);
+      assignmentSite.put(symbol, statementSite);
     }
 
     @Override
     public Void visitMemberSelect(MemberSelectTree memberSelectTree, Void unused) {
       Symbol symbol = getSymbol(memberSelectTree);
       if (isUsed(symbol)) {
-        unusedElements.remove(symbol);
+        markUsed(symbol);
       } else if (currentExpressionStatement != null && unusedElements.containsKey(symbol)) {
-        usageSites.put(symbol, currentExpressionStatement);
+        usageSites.put(symbol, Site.of(currentExpressionStatement));
       }
       // Clear leftHandSideAssignment and descend down the tree to catch any variables in the
       // receiver of this member select, which _are_ considered used.
@@ -1052,7 +1151,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
     public Void visitMemberReference(MemberReferenceTree tree, Void unused) {
       super.visitMemberReference(tree, null);
       MethodSymbol symbol = getSymbol(tree);
-      symbol.getParameters().forEach(unusedElements::remove);
+      symbol.getParameters().forEach(this::markUsed);
       return null;
     }
 
@@ -1129,7 +1228,7 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
 
   /**
    * @param symbol {@link Symbol} of the unused element.
-   * @param assignmentPath {@link VariableTree} or {@link AssignmentTree} for the original
+   * @param assignmentSite {@link VariableTree} or {@link AssignmentTree} for the original
    *     assignment site.
    * @param usageSites All the usage sites of this variable that we claim are unused (including the
    *     initial declaration/assignment).
@@ -1138,20 +1237,64 @@ public final class UnusedVariable extends BugChecker implements CompilationUnitT
    */
   private record UnusedSpec(
       Symbol symbol,
-      TreePath assignmentPath,
-      ImmutableList<TreePath> usageSites,
+      Site assignmentSite,
+      ImmutableList<Site> usageSites,
       Optional<AssignmentTree> terminatingAssignment) {
     private static UnusedSpec of(
         Symbol symbol,
-        TreePath assignmentPath,
-        Iterable<TreePath> treePaths,
+        Site assignmentSite,
+        Iterable<Site> sites,
         @Nullable AssignmentTree assignmentTree) {
       return new UnusedSpec(
-          symbol,
-          assignmentPath,
-          ImmutableList.copyOf(treePaths),
-          Optional.ofNullable(assignmentTree));
+          symbol, assignmentSite, ImmutableList.copyOf(sites), Optional.ofNullable(assignmentTree));
+    }
+  }
+
+  /**
+   * A declaration, assignment or statement in the compilation unit. The analysis records these
+   * rather than {@link TreePath}s, and only the sites of variables that are reported are resolved
+   * back to paths (see {@link #resolveSites}). Sites are identified by their tree, since implicit
+   * and synthetic trees don't have unique source positions.
+   */
+  private record Site(Tree tree) {
+    private static Site of(Tree tree) {
+      return new Site(tree);
+    }
+  }
+
+  /**
+   * Resolves the given sites to the paths of the corresponding trees in a single scan. Sites whose
+   * trees the scan doesn't reach are left out.
+   */
+  private static ImmutableMap<Site, TreePath> resolveSites(
+      ImmutableSet<Site> sites, VisitorState state) {
+    if (sites.isEmpty()) {
+      return ImmutableMap.of();
     }
+    Map<Tree, Site> sitesByTree = new IdentityHashMap<>();
+    for (Site site : sites) {
+      sitesByTree.put(site.tree(), site);
+    }
+    Map<Site, TreePath> paths = new HashMap<>();
+    new TreePathScanner<Void, Void>() {
+      @Override
+      public Void scan(Tree tree, Void unused) {
+        if (tree == null || paths.size() == sites.size()) {
+          return null;
+        }
+        Site site = sitesByTree.get(tree);
+        if (site != null) {
+          paths.putIfAbsent(site, new TreePath(getCurrentPath(), tree));
+        }
+        return super.scan(tree, null);
+      }
+
+      @Override
+      public Void visitErroneous(ErroneousTree tree, Void unused) {
+        return scan(tree.getErrorTrees(), null);
+      }
+    }.scan(state.getPath(), null);
+    return ImmutableMap.copyOf(paths);
   }
 
   private static final Supplier<Type> PARCELABLE_CREATOR =
@@ -16,9 +16,15 @@
 
 package com.google.errorprone.bugpatterns.argumentselectiondefects;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
 import com.google.auto.value.AutoBuilder;
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.VisitorState;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.code.Type;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -78,11 +84,26 @@ record ArgumentChangeFinder(
       return Changes.empty();
     }
 
+    ImmutableList<Tree> actualTrees =
+        invocationInfo.actualParameters().subList(0, invocationInfo.formalParameters().size());
+
+    ImmutableList<Type> actualTypes =
+        actualTrees.stream().map(Parameter::getArgumentType).collect(toImmutableList());
+
+    /* Work out which actual parameters are assignable to which alternative formal parameters from
+    their types alone, before building the parameters and the cost matrix */
+    boolean[][] assignable = findAlternativeAssignments(invocationInfo, actualTypes);
+
+    /* Any permutation of the arguments moves them around one or more cycles, so if the alternative
+    pairings don't form a cycle then we can stop without trying to look for permutations */
+    if (!hasCycle(assignable)) {
+      return Changes.empty();
+    }
+
     ImmutableList<Parameter> formals =
         Parameter.createListFromVarSymbols(invocationInfo.formalParameters());
     ImmutableList<Parameter> actuals =
-        Parameter.createListFromExpressionTrees(
-            invocationInfo.actualParameters().subList(0, invocationInfo.formalParameters().size()));
+        Parameter.createListFromExpressionTrees(actualTrees, actualTypes);
 
     Costs costs = new Costs(formals, actuals);
 
@@ -90,15 +111,9 @@ record ArgumentChangeFinder(
     costs
         .viablePairs()
         .filter(ParameterPair::isAlternativePairing)
-        .filter(p -> !p.actual().isAssignableTo(p.formal(), invocationInfo.state()))
+        .filter(p -> !assignable[p.formal().index()][p.actual().index()])
         .forEach(p -> costs.invalidatePair(p));
 
-    /* If there are no formal parameters which are assignable to any alternative actual parameters
-    then we can stop without trying to look for permutations */
-    if (costs.viablePairs().noneMatch(ParameterPair::isAlternativePairing)) {
-      return Changes.empty();
-    }
-
     /* Set the lexical distance between pairs */
     costs.viablePairs().forEach(p -> costs.updatePair(p, distanceFunction().apply(p)));
 
@@ -117,4 +132,48 @@ record ArgumentChangeFinder(
     }
     return changes;
   }
+
+  /**
+   * Returns a matrix whose element (i,j) is true if the jth actual parameter could be passed as the
+   * ith formal parameter instead, for i != j.
+   */
+  private static boolean[][] findAlternativeAssignments(
+      InvocationInfo invocationInfo, List<Type> actualTypes) {
+    VisitorState state = invocationInfo.state();
+    int size = actualTypes.size();
+    boolean[][] assignable = new boolean[size][size];
+    for (int i = 0; i < size; i++) {
+      Type formalType = invocationInfo.formalParameters().get(i).asType();
+      for (int j = 0; j < size; j++) {
+        assignable[i][j] = i != j && Parameter.isAssignable(actualTypes.get(j), formalType, state);
+      }
+    }
+    return assignable;
+  }
+
+  /** Returns true if the directed graph with the given adjacency matrix contains a cycle. */
+  private static boolean hasCycle(boolean[][] edges) {
+    // 0 = unvisited, 1 = on the current search path, 2 = finished
+    int[] visited = new int[edges.length];
+    for (int node = 0; node < edges.length; node++) {
+      if (visited[node] == 0 && hasCycle(edges, node, visited)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasCycle(boolean[][] edges, int node, int[] visited) {
+    visited[node] = 1;
+    for (int next = 0; next < edges.length; next++) {
+      if (!edges[node][next]) {
+        continue;
+      }
+      if (visited[next] == 1 || (visited[next] == 0 && hasCycle(edges, next, visited))) {
+        return true;
+      }
+    }
+    visited[node] = 2;
+    return false;
+  }
 }
@@ -16,9 +16,12 @@
 
 package com.google.errorprone.bugpatterns.argumentselectiondefects;
 
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
@@ -28,11 +31,18 @@ import com.google.errorprone.bugpatterns.BugChecker.NewClassTreeMatcher;
 import com.google.errorprone.matchers.Description;
 import com.google.errorprone.names.NamingConventions;
 import com.google.errorprone.names.NeedlemanWunschEditDistance;
+import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.DeconstructionPatternTree;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symbol.VarSymbol;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Checks the lexical distance between method parameter names and the argument names at call sites.
@@ -58,23 +68,43 @@ import com.sun.tools.javac.code.Symbol.MethodSymbol;
 public class ArgumentSelectionDefectChecker extends BugChecker
     implements DeconstructionPatternTreeMatcher, MethodInvocationTreeMatcher, NewClassTreeMatcher {
 
-  private final ArgumentChangeFinder argumentChangeFinder;
+  private static final ImmutableList<Heuristic> DEFAULT_HEURISTICS =
+      ImmutableList.of(
+          new LowInformationNameHeuristic(),
+          new PenaltyThresholdHeuristic(),
+          new EnclosedByReverseHeuristic(),
+          new CreatesDuplicateCallHeuristic(),
+          new NameInCommentHeuristic());
+
+  /** Returns the {@link ArgumentChangeFinder} to use for each invocation. */
+  private final Function<InvocationInfo, ArgumentChangeFinder> argumentChangeFinder;
+
+  /**
+   * Whether invocations whose arguments all have the same names as their formal parameters can be
+   * skipped. This holds for the default distance function and heuristics: such arguments already
+   * have the lowest possible cost, so no permutation can pass the {@link
+   * PenaltyThresholdHeuristic}.
+   */
+  private final boolean skipMatchingNames;
 
   public ArgumentSelectionDefectChecker() {
     this(
-        ArgumentChangeFinder.builder()
-            .setDistanceFunction(ArgumentSelectionDefectChecker::defaultDistanceFunction)
-            .addHeuristic(new LowInformationNameHeuristic())
-            .addHeuristic(new PenaltyThresholdHeuristic())
-            .addHeuristic(new EnclosedByReverseHeuristic())
-            .addHeuristic(new CreatesDuplicateCallHeuristic())
-            .addHeuristic(new NameInCommentHeuristic())
-            .build());
+        invocationInfo ->
+            new ArgumentChangeFinder(
+                new DefaultDistanceFunction(invocationInfo), DEFAULT_HEURISTICS),
+        /* skipMatchingNames= */ true);
   }
 
   @VisibleForTesting
   ArgumentSelectionDefectChecker(ArgumentChangeFinder argumentChangeFinder) {
+    this(unused -> argumentChangeFinder, /* skipMatchingNames= */ false);
+  }
+
+  private ArgumentSelectionDefectChecker(
+      Function<InvocationInfo, ArgumentChangeFinder> argumentChangeFinder,
+      boolean skipMatchingNames) {
     this.argumentChangeFinder = argumentChangeFinder;
+    this.skipMatchingNames = skipMatchingNames;
   }
 
   @Override
@@ -109,7 +139,11 @@ public class ArgumentSelectionDefectChecker extends BugChecker
   }
 
   private Description visit(InvocationInfo invocationInfo) {
-    Changes changes = argumentChangeFinder.findChanges(invocationInfo);
+    if (skipMatchingNames && allArgumentNamesMatch(invocationInfo)) {
+      return Description.NO_MATCH;
+    }
+
+    Changes changes = argumentChangeFinder.apply(invocationInfo).findChanges(invocationInfo);
 
     if (changes.isEmpty()) {
       return Description.NO_MATCH;
@@ -126,28 +160,103 @@ public class ArgumentSelectionDefectChecker extends BugChecker
   }
 
   /**
-   * Computes the distance between a formal and actual parameter. If either is a null literal then
-   * the distance is zero (null matches everything). If both have a name then we compute the
-   * normalised NeedlemanWunschEditDistance. Otherwise, one of the names is unknown and so we return
-   * 0 distance between it and its original parameter and infinite distance between all others.
+   * Returns true if every argument of the invocation has exactly the same name as the formal
+   * parameter it is passed as.
+   */
+  private static boolean allArgumentNamesMatch(InvocationInfo invocationInfo) {
+    ImmutableList<VarSymbol> formals = invocationInfo.formalParameters();
+    ImmutableList<Tree> actuals = invocationInfo.actualParameters();
+    if (formals.size() <= 1 || actuals.size() < formals.size()) {
+      // ArgumentChangeFinder bails out on these cheaply anyway
+      return false;
+    }
+    for (int i = 0; i < formals.size(); i++) {
+      String actualName = Parameter.getArgumentName(actuals.get(i));
+      if (!formals.get(i).getSimpleName().contentEquals(actualName)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The normalized names of the formal parameters of each method, keyed by parameter name. A
+   * method's formal parameters are compared at each of its call sites, so they are only normalized
+   * once per compilation.
    */
-  private static double defaultDistanceFunction(ParameterPair pair) {
-    if (pair.formal().isNullLiteral() || pair.actual().isNullLiteral()) {
-      return 0.0;
+  private static final Supplier<Map<MethodSymbol, ImmutableMap<String, String>>>
+      NORMALIZED_FORMAL_NAMES = VisitorState.memoize(unused -> new ConcurrentHashMap<>());
+
+  /**
+   * Computes the distance between a formal and actual parameter of an invocation. If either is a
+   * null literal then the distance is zero (null matches everything). If both have a name then we
+   * compute the normalised NeedlemanWunschEditDistance. Otherwise, one of the names is unknown and
+   * so we return 0 distance between it and its original parameter and infinite distance between all
+   * others.
+   */
+  private static final class DefaultDistanceFunction implements Function<ParameterPair, Double> {
+    private final InvocationInfo invocationInfo;
+    private @Nullable ImmutableMap<String, String> normalizedFormals;
+    private String @Nullable [] normalizedActuals;
+
+    private DefaultDistanceFunction(InvocationInfo invocationInfo) {
+      this.invocationInfo = invocationInfo;
     }
 
-    if (!pair.formal().isUnknownName() && !pair.actual().isUnknownName()) {
-      String normalizedSource = NamingConventions.convertToLowerUnderscore(pair.formal().name());
-      String normalizedTarget = NamingConventions.convertToLowerUnderscore(pair.actual().name());
-      return NeedlemanWunschEditDistance.getNormalizedEditDistance(
-          /* source= */ normalizedSource,
-          /* target= */ normalizedTarget,
-          /* caseSensitive= */ false,
-          /* changeCost= */ 8,
-          /* openGapCost= */ 8,
-          /* continueGapCost= */ 1);
+    @Override
+    public Double apply(ParameterPair pair) {
+      if (pair.formal().isNullLiteral() || pair.actual().isNullLiteral()) {
+        return 0.0;
+      }
+
+      if (!pair.formal().isUnknownName() && !pair.actual().isUnknownName()) {
+        String normalizedSource = normalizedFormal(pair.formal());
+        String normalizedTarget = normalizedActual(pair.actual());
+        if (normalizedSource.equals(normalizedTarget)) {
+          return 0.0;
+        }
+        return NeedlemanWunschEditDistance.getNormalizedEditDistance(
+            /* source= */ normalizedSource,
+            /* target= */ normalizedTarget,
+            /* caseSensitive= */ false,
+            /* changeCost= */ 8,
+            /* openGapCost= */ 8,
+            /* continueGapCost= */ 1);
+      }
+
+      return pair.formal().index() == pair.actual().index() ? 0.0 : Double.POSITIVE_INFINITY;
+    }
+
+    private String normalizedFormal(Parameter formal) {
+      if (normalizedFormals == null) {
+        normalizedFormals =
+            NORMALIZED_FORMAL_NAMES
+                .get(invocationInfo.state())
+                .computeIfAbsent(invocationInfo.symbol(), DefaultDistanceFunction::normalizeNames);
+      }
+      String normalized = normalizedFormals.get(formal.name());
+      return normalized != null
+          ? normalized
+          : NamingConventions.convertToLowerUnderscore(formal.name());
     }
 
-    return pair.formal().index() == pair.actual().index() ? 0.0 : Double.POSITIVE_INFINITY;
+    private String normalizedActual(Parameter actual) {
+      if (normalizedActuals == null) {
+        normalizedActuals = new String[invocationInfo.formalParameters().size()];
+      }
+      String normalized = normalizedActuals[actual.index()];
+      if (normalized == null) {
+        normalized = NamingConventions.convertToLowerUnderscore(actual.name());
+        normalizedActuals[actual.index()] = normalized;
+      }
+      return normalized;
+    }
+
+    private static ImmutableMap<String, String> normalizeNames(MethodSymbol method) {
+      return method.getParameters().stream()
+          .map(p -> p.getSimpleName().toString())
+          .distinct()
+          .collect(toImmutableMap(n -> n, NamingConventions::convertToLowerUnderscore));
+    }
   }
 }
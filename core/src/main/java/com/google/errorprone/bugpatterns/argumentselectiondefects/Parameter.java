@@ -76,16 +76,22 @@ record Parameter(String name, Type type, int index, String text, Kind kind, bool
   }
 
   static ImmutableList<Parameter> createListFromExpressionTrees(List<? extends Tree> trees) {
+    return createListFromExpressionTrees(
+        trees, trees.stream().map(Parameter::getArgumentType).collect(toImmutableList()));
+  }
+
+  /**
+   * Creates parameters for the given trees, whose types have already been computed with {@link
+   * #getArgumentType}.
+   */
+  static ImmutableList<Parameter> createListFromExpressionTrees(
+      List<? extends Tree> trees, List<Type> types) {
     return Streams.mapWithIndex(
             trees.stream(),
             (t, i) ->
                 new Parameter(
                     getArgumentName(t),
-                    Optional.ofNullable(
-                            t instanceof ExpressionTree expressionTree
-                                ? ASTHelpers.getResultType(expressionTree)
-                                : ASTHelpers.getType(t))
-                        .orElse(Type.noType),
+                    types.get((int) i),
                     (int) i,
                     t.toString(),
                     t.getKind(),
@@ -98,17 +104,35 @@ record Parameter(String name, Type type, int index, String text, Kind kind, bool
         trees.stream().map(ASTHelpers::getSymbol).collect(toImmutableList()));
   }
 
+  /** Returns the type of an argument, or {@link Type#noType} if it isn't known. */
+  static Type getArgumentType(Tree tree) {
+    return Optional.ofNullable(
+            tree instanceof ExpressionTree expressionTree
+                ? ASTHelpers.getResultType(expressionTree)
+                : ASTHelpers.getType(tree))
+        .orElse(Type.noType);
+  }
+
   /**
    * Return true if this parameter is assignable to the target parameter. This will consider
    * subclassing, autoboxing and null.
    */
   boolean isAssignableTo(Parameter target, VisitorState state) {
-    if (state.getTypes().isSameType(type(), Type.noType)
-        || state.getTypes().isSameType(target.type(), Type.noType)) {
+    return isAssignable(type(), target.type(), state);
+  }
+
+  /**
+   * Return true if a parameter of the given type is assignable to a parameter of the target type.
+   *
+   * @see #isAssignableTo(Parameter, VisitorState)
+   */
+  static boolean isAssignable(Type type, Type target, VisitorState state) {
+    if (state.getTypes().isSameType(type, Type.noType)
+        || state.getTypes().isSameType(target, Type.noType)) {
       return false;
     }
     try {
-      return state.getTypes().isAssignable(type(), target.type());
+      return state.getTypes().isAssignable(type, target);
     } catch (CompletionFailure e) {
       // Report completion errors to avoid e.g. https://github.com/bazelbuild/bazel/issues/4105
       Check.instance(state.context)
@@ -151,7 +175,6 @@ record Parameter(String name, Type type, int index, String text, Kind kind, bool
    * All other trees (including literals other than Null literal) do not have a name and this method
    * will return the marker for an unknown name.
    */
-  @VisibleForTesting
   static String getArgumentName(Tree tree) {
     return switch (tree) {
       case VariableTree variableTree -> variableTree.getName().toString();
@@ -72,7 +72,8 @@ import org.safere.Pattern;
         "Use Flogger's printf-style formatting instead of explicitly converting arguments to"
             + " strings. Note that Flogger does more than just call toString; for instance, it"
             + " formats arrays sensibly.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerArgumentToString extends BugChecker implements MethodInvocationTreeMatcher {
 
   /**
@@ -45,7 +45,8 @@ import org.jspecify.annotations.Nullable;
 @BugPattern(
     altNames = "FormatString",
     summary = "Invalid printf-style format string",
-    severity = ERROR)
+    severity = ERROR,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerFormatString extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final Matcher<ExpressionTree> FORMAT_METHOD =
@@ -42,7 +42,8 @@ import com.sun.source.tree.MethodInvocationTree;
         "Arguments to log(String) must be compile-time constants or parameters annotated with"
             + " @CompileTimeConstant. If possible, use Flogger's formatting log methods instead.",
     linkType = NONE,
-    severity = ERROR)
+    severity = ERROR,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerLogString extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final Matcher<ExpressionTree> LOG_STRING =
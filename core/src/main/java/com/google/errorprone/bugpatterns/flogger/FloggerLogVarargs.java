@@ -40,7 +40,8 @@ import com.sun.source.tree.MethodTree;
  */
 @BugPattern(
     summary = "logVarargs should be used to pass through format strings and arguments.",
-    severity = ERROR)
+    severity = ERROR,
+    requiredReferences = "com.google.common.flogger")
 public final class FloggerLogVarargs extends BugChecker implements MethodInvocationTreeMatcher {
   private static final Matcher<MethodInvocationTree> MATCHER =
       allOf(
@@ -49,7 +49,8 @@ import java.util.List;
     summary =
         "Setting the caught exception as the cause of the log message may provide more context for"
             + " anyone debugging errors.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public final class FloggerLogWithCause extends BugChecker implements CatchTreeMatcher {
 
   private static final Matcher<ExpressionTree> LOG_MATCHER =
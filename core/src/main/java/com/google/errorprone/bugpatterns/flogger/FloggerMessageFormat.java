@@ -41,7 +41,8 @@ import org.safere.Pattern;
     explanation =
         "Flogger uses printf-style format specifiers, such as %s and %d. Message format-style"
             + " specifiers like {0} don't work.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerMessageFormat extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final Matcher<ExpressionTree> LOG_MATCHER =
@@ -35,7 +35,8 @@ import com.sun.source.tree.MethodInvocationTree;
 @BugPattern(
     summary =
         "per() methods are no-ops unless combined with atMostEvery(), every(), or onAverageEvery()",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerPerWithoutRateLimit extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final Matcher<ExpressionTree> LOG_METHOD =
@@ -54,7 +54,8 @@ import org.jspecify.annotations.Nullable;
     summary =
         "Logger level check is already implied in the log() call. "
             + "An explicit atLEVEL().isEnabled() check is redundant.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerRedundantIsEnabled extends BugChecker implements IfTreeMatcher {
 
   private static final String FLOGGER = "com.google.common.flogger.FluentLogger";
@@ -29,10 +29,13 @@ import static javax.lang.model.element.Modifier.STATIC;
 import com.google.common.base.Joiner;
 import com.google.common.base.Verify;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
 import com.google.errorprone.BugPattern;
 import com.google.errorprone.BugPattern.LinkType;
+import com.google.errorprone.StatisticsCollector.Counter;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.IdentifierTreeMatcher;
@@ -79,7 +82,8 @@ import javax.lang.model.element.NestingKind;
         "FluentLogger.forEnclosingClass should always be saved to a private static final field.",
     link = "https://google.github.io/flogger/best_practice#modifiers",
     linkType = LinkType.CUSTOM,
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public final class FloggerRequiredModifiers extends BugChecker
     implements MethodInvocationTreeMatcher,
         IdentifierTreeMatcher,
@@ -114,6 +118,19 @@ public final class FloggerRequiredModifiers extends BugChecker
 
   private final Map<String, LocalLogger> localLogger = new HashMap<>();
 
+  private final Counter localVariableCounter = counter("local-variable");
+  private final Counter inlineCounter = counter("inline");
+  private final Counter skipSelfAssignmentCounter = counter("skip-self-assignment");
+  private final Counter foundExistingCounter = counter("found-existing");
+  private final Counter noOutermostClassCounter = counter("error-no-outermost-class");
+  private final Counter packageVisibilityCounter = counter("visibility-package");
+  private final ImmutableMap<Modifier, Counter> missingModifierCounters =
+      Maps.toMap(ImmutableList.of(STATIC, FINAL), modifier -> counter("missing-" + modifier));
+  private final ImmutableMap<Modifier, Counter> visibilityCounters =
+      Maps.toMap(
+          ImmutableList.of(PUBLIC, Modifier.PRIVATE, PROTECTED),
+          visibility -> counter("visibility-" + visibility));
+
   private static final Matcher<Tree> CONTAINS_INIT_LOGGER =
       Matchers.contains(ExpressionTree.class, INIT_LOGGER);
 
@@ -199,7 +216,7 @@ public final class FloggerRequiredModifiers extends BugChecker
     // They're using forEnclosingClass inside a method that doesn't produce a logger, or in the
     // initializer for some variable that's not a logger. We'll replace this with a reference to a
     // class-level logger.
-    state.incrementCounter(this, parent instanceof VariableTree ? "local-variable" : "inline");
+    state.incrementCounter(parent instanceof VariableTree ? localVariableCounter : inlineCounter);
     return replaceWithFieldLookup(tree, state);
   }
 
@@ -251,7 +268,7 @@ public final class FloggerRequiredModifiers extends BugChecker
       do {
         if (e instanceof AssignmentTree assignment) {
           if (ASTHelpers.getSymbol(assignment.getVariable()).equals(target)) {
-            state.incrementCounter(this, "skip-self-assignment");
+            state.incrementCounter(skipSelfAssignmentCounter);
             return NO_MATCH;
           }
         }
@@ -283,23 +300,19 @@ public final class FloggerRequiredModifiers extends BugChecker
 
   private void updateModifierCounters(VisitorState state, Set<Modifier> flags) {
     // We expect to see all of these, so note when we don't
-    for (Modifier modifier : ImmutableList.of(STATIC, FINAL)) {
-      if (!flags.contains(modifier)) {
-        state.incrementCounter(this, "missing-" + modifier);
+    for (Map.Entry<Modifier, Counter> entry : missingModifierCounters.entrySet()) {
+      if (!flags.contains(entry.getKey())) {
+        state.incrementCounter(entry.getValue());
       }
     }
     // These we expect to see at most one of, so log whichever is there (or package otherwise)
-    boolean explicitVisibility = false;
-    for (Modifier visibility : ImmutableList.of(PUBLIC, Modifier.PRIVATE, PROTECTED)) {
-      if (flags.contains(visibility)) {
-        state.incrementCounter(this, "visibility-" + visibility);
-        explicitVisibility = true;
-        break;
+    for (Map.Entry<Modifier, Counter> entry : visibilityCounters.entrySet()) {
+      if (flags.contains(entry.getKey())) {
+        state.incrementCounter(entry.getValue());
+        return;
       }
     }
-    if (!explicitVisibility) {
-      state.incrementCounter(this, "visibility-package");
-    }
+    state.incrementCounter(packageVisibilityCounter);
   }
 
   private record LocalLogger(Provenance provenance, Optional<Symbol> sym, String name) {
@@ -331,7 +344,7 @@ public final class FloggerRequiredModifiers extends BugChecker
           && !ignoredFields.contains(memberSym)) {
         // Found some logger defined, let's just use that, unless it needs to be moved.
         if (!targetClassSym.isInterface()) {
-          state.incrementCounter(this, "found-existing");
+          state.incrementCounter(foundExistingCounter);
           return new LocalLogger(
               LocalLogger.Provenance.ALREADY_PRESENT,
               Optional.of(memberSym),
@@ -452,7 +465,7 @@ public final class FloggerRequiredModifiers extends BugChecker
 
     if (outermostClassOfFile == null) {
       // Impossible, I think?
-      state.incrementCounter(this, "error-no-outermost-class");
+      state.incrementCounter(noOutermostClassCounter);
       return NO_MATCH;
     }
 
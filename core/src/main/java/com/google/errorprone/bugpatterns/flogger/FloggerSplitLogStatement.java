@@ -44,7 +44,8 @@ import com.sun.source.tree.VariableTree;
     summary = "Splitting log statements and using Api instances directly breaks logging.",
     linkType = CUSTOM,
     link = "https://google.github.io/flogger/best_practice#no-split",
-    severity = ERROR)
+    severity = ERROR,
+    requiredReferences = "com.google.common.flogger")
 public final class FloggerSplitLogStatement extends BugChecker
     implements MethodTreeMatcher, VariableTreeMatcher {
 
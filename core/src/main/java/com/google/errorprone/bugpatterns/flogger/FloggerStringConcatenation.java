@@ -48,7 +48,8 @@ import java.util.List;
     summary =
         "Prefer string formatting using printf placeholders (e.g. %s) instead of string"
             + " concatenation",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerStringConcatenation extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final Matcher<ExpressionTree> MATCHER =
@@ -54,7 +54,8 @@ import java.util.Optional;
             + " performance.",
     linkType = LinkType.CUSTOM,
     link = "https://google.github.io/flogger/best_practice#stack-trace",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerWithCause extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final String STACK_SIZE_MEDIUM_IMPORT =
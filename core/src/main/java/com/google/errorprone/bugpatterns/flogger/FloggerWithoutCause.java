@@ -39,7 +39,8 @@ import org.jspecify.annotations.Nullable;
  */
 @BugPattern(
     summary = "Use withCause to associate Exceptions with log statements",
-    severity = BugPattern.SeverityLevel.WARNING)
+    severity = BugPattern.SeverityLevel.WARNING,
+    requiredReferences = "com.google.common.flogger")
 public class FloggerWithoutCause extends BugChecker
     implements BugChecker.MethodInvocationTreeMatcher {
 
@@ -21,6 +21,8 @@ import static com.google.errorprone.suppliers.Suppliers.typeFromString;
 import static com.google.errorprone.util.ASTHelpers.isSameType;
 import static java.util.Arrays.asList;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.VisitorState;
@@ -137,8 +139,16 @@ public final class FormatStringValidation {
                 })
             .toArray();
 
+    Cache<String, ParsedFormatString> parsedFormatStrings = PARSED_FORMAT_STRINGS.get(state);
     return formatStrings
-        .map(formatString -> validate(formatString, instances))
+        .map(
+            formatString -> {
+              ParsedFormatString parsed =
+                  parsedFormatStrings.get(formatString, ParsedFormatString::parse);
+              return parsed.isSupported()
+                  ? parsed.validate(instances)
+                  : validate(formatString, instances);
+            })
         .filter(x -> x != null)
         .findFirst()
         .orElse(null);
@@ -241,10 +251,7 @@ public final class FormatStringValidation {
       return ValidationResult.create(
           String.format("invalid Unicode code point: %x", e.getCodePoint()));
     } catch (IllegalFormatConversionException e) {
-      return ValidationResult.create(
-          String.format(
-              "illegal format conversion: '%s' cannot be formatted using '%%%s'",
-              e.getArgumentClass().getName(), e.getConversion()));
+      return illegalConversion(e.getArgumentClass(), e.getConversion());
     } catch (IllegalFormatFlagsException e) {
       return ValidationResult.create(String.format("illegal format flags: %s", e.getFlags()));
     } catch (IllegalFormatPrecisionException e) {
@@ -253,8 +260,7 @@ public final class FormatStringValidation {
     } catch (IllegalFormatWidthException e) {
       return ValidationResult.create(String.format("illegal format width: %s", e.getWidth()));
     } catch (MissingFormatArgumentException e) {
-      return ValidationResult.create(
-          String.format("missing argument for format specifier '%s'", e.getFormatSpecifier()));
+      return missingArgument(e.getFormatSpecifier());
     } catch (MissingFormatWidthException e) {
       return ValidationResult.create(
           String.format("missing format width: %s", e.getFormatSpecifier()));
@@ -281,8 +287,24 @@ public final class FormatStringValidation {
     if (used == arguments.size()) {
       return null;
     }
+    return extraArguments(used, arguments.size());
+  }
+
+  static ValidationResult illegalConversion(Class<?> argumentClass, char conversion) {
+    return ValidationResult.create(
+        String.format(
+            "illegal format conversion: '%s' cannot be formatted using '%%%s'",
+            argumentClass.getName(), conversion));
+  }
+
+  static ValidationResult missingArgument(String formatSpecifier) {
+    return ValidationResult.create(
+        String.format("missing argument for format specifier '%s'", formatSpecifier));
+  }
+
+  static ValidationResult extraArguments(int used, int provided) {
     return ValidationResult.create(
-        String.format("extra format arguments: used %d, provided %d", used, arguments.size()));
+        String.format("extra format arguments: used %d, provided %d", used, provided));
   }
 
   private static boolean doesItFormat(String formatString, List<Object> arguments) {
@@ -305,6 +327,13 @@ public final class FormatStringValidation {
 
   private FormatStringValidation() {}
 
+  /**
+   * Format strings parsed during the current compilation; the same constant format string is
+   * typically passed to many format methods.
+   */
+  private static final Supplier<Cache<String, ParsedFormatString>> PARSED_FORMAT_STRINGS =
+      VisitorState.memoize(unusedState -> Caffeine.newBuilder().maximumSize(1000).build());
+
   private static final Supplier<Type> COM_GOOGLE_COMMON_FLOGGER_LAZYARG =
       typeFromString("com.google.common.flogger.LazyArg");
 }
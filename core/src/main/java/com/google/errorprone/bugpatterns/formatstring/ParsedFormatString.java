@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import com.google.errorprone.bugpatterns.formatstring.FormatStringValidation.ValidationResult;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A format string parsed into the conversions it applies to its arguments, so that it can be
+ * checked against the arguments of many format method calls without invoking {@link
+ * java.util.Formatter}.
+ *
+ * <p>Only the common case of format strings whose specifiers are all of the form {@code
+ * %<conversion>} (no argument index, flags, width or precision) is handled; for any other format
+ * string {@link #parse} returns {@link #UNSUPPORTED}, and callers should fall back to running the
+ * format string through {@link String#format} to report the same diagnostics as {@link
+ * java.util.Formatter} would.
+ */
+final class ParsedFormatString {
+
+  static final ParsedFormatString UNSUPPORTED = new ParsedFormatString(null);
+
+  /**
+   * The conversion characters of the specifiers that consume an argument, in order, or {@code
+   * null} if the format string is not handled by this class.
+   */
+  private final @Nullable String conversions;
+
+  private ParsedFormatString(@Nullable String conversions) {
+    this.conversions = conversions;
+  }
+
+  /** Parses the given format string. Never throws. */
+  static ParsedFormatString parse(String formatString) {
+    StringBuilder conversions = new StringBuilder();
+    int length = formatString.length();
+    for (int i = 0; i < length; i++) {
+      if (formatString.charAt(i) != '%') {
+        continue;
+      }
+      if (++i == length) {
+        return UNSUPPORTED;
+      }
+      char conversion = formatString.charAt(i);
+      switch (conversion) {
+        case '%', 'n' -> {}
+        case 'b', 'B', 's', 'S', 'h', 'H', 'd', 'o', 'x', 'X', 'e', 'E', 'f', 'g', 'G' ->
+            conversions.append(conversion);
+        default -> {
+          // argument indices, flags, width, precision, date/time conversions, '%c' (whose
+          // validity depends on the argument's value), and invalid conversions
+          return UNSUPPORTED;
+        }
+      }
+    }
+    return new ParsedFormatString(conversions.toString());
+  }
+
+  boolean isSupported() {
+    return conversions != null;
+  }
+
+  /**
+   * Validates the given arguments against this format string, producing the same diagnostic as
+   * {@link FormatStringValidation} would by formatting them.
+   */
+  @Nullable ValidationResult validate(@Nullable Object[] arguments) {
+    if (conversions == null) {
+      throw new IllegalStateException("unsupported format string");
+    }
+    for (int i = 0; i < conversions.length(); i++) {
+      char conversion = conversions.charAt(i);
+      if (i >= arguments.length) {
+        return FormatStringValidation.missingArgument("%" + conversion);
+      }
+      Object argument = arguments[i];
+      if (argument != null && !accepts(conversion, argument)) {
+        // java.util.Formatter reports upper-case conversions in lower case
+        return FormatStringValidation.illegalConversion(
+            argument.getClass(), Character.toLowerCase(conversion));
+      }
+    }
+    if (conversions.length() < arguments.length) {
+      return FormatStringValidation.extraArguments(conversions.length(), arguments.length);
+    }
+    return null;
+  }
+
+  private static boolean accepts(char conversion, Object argument) {
+    return switch (conversion) {
+      case 'd', 'o', 'x', 'X' ->
+          argument instanceof Byte
+              || argument instanceof Short
+              || argument instanceof Integer
+              || argument instanceof Long
+              || argument instanceof BigInteger;
+      case 'e', 'E', 'f', 'g', 'G' ->
+          argument instanceof Float
+              || argument instanceof Double
+              || argument instanceof BigDecimal;
+      default -> true;
+    };
+  }
+}
@@ -34,9 +34,12 @@ import static com.google.errorprone.util.SideEffectAnalysis.hasSideEffect;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -52,6 +55,7 @@ import com.google.errorprone.fixes.ErrorProneEndPosTable;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.fixes.SuggestedFixes;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.suppliers.Supplier;
 import com.google.errorprone.util.ErrorProneParser;
 import com.google.errorprone.util.MoreAnnotations;
 import com.google.errorprone.util.OperatorPrecedence;
@@ -82,6 +86,7 @@ import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Checker that performs the inlining at call-sites (where the invoked APIs are annotated as
@@ -169,11 +174,12 @@ public final class Inliner extends BugChecker
     if (!hasDirectAnnotationWithSimpleName(symbol, INLINE_ME)) {
       return Description.NO_MATCH;
     }
-    Optional<InlineMeData> inlineMeMaybe = InlineMeData.createFromSymbol(symbol);
-    if (inlineMeMaybe.isEmpty()) {
+    Optional<Template> templateMaybe = Template.get(symbol, state);
+    if (templateMaybe.isEmpty()) {
       return Description.NO_MATCH;
     }
-    InlineMeData inlineMe = inlineMeMaybe.get();
+    Template template = templateMaybe.get();
+    InlineMeData inlineMe = template.inlineMe();
     if (!inlineMe.imports().isEmpty() || !inlineMe.staticImports().isEmpty()) {
       // TODO: b/165938605 - handle imports
       return Description.NO_MATCH;
@@ -186,8 +192,7 @@ public final class Inliner extends BugChecker
         && stringContainsComments(state.getSourceForNode(tree), state.context)) {
       return Description.NO_MATCH;
     }
-    JavacParser parser = newParser(inlineMe.replacement(), state);
-    if (!(parser.parseExpression() instanceof MethodInvocationTree mit
+    if (!(template.expression() instanceof MethodInvocationTree mit
         && mit.getArguments().isEmpty()
         && getReceiver(mit) instanceof IdentifierTree it
         && it.getName().contentEquals("this"))) {
@@ -209,10 +214,12 @@ public final class Inliner extends BugChecker
       String receiverString,
       ExpressionTree receiver,
       VisitorState state) {
-    Optional<InlineMeData> inlineMe = InlineMeData.createFromSymbol(symbol);
-    if (inlineMe.isEmpty()) {
+    Optional<Template> templateMaybe = Template.get(symbol, state);
+    if (templateMaybe.isEmpty()) {
       return Description.NO_MATCH;
     }
+    Template template = templateMaybe.get();
+    InlineMeData inlineMe = template.inlineMe();
 
     Api api = Api.create(symbol, state);
     if (!matchesApiPrefixes(api)) {
@@ -255,27 +262,21 @@ public final class Inliner extends BugChecker
           callingVars.stream().map(state::getSourceForNode).collect(toImmutableList());
     }
 
-    String replacement = inlineMe.get().replacement();
-
-    JavacParser parser = newParser(replacement, state);
-    ExpressionTree replacementExpression = parser.parseExpression();
+    String replacement = inlineMe.replacement();
+    ExpressionTree replacementExpression = template.expression();
+    ErrorProneEndPosTable endPositions = template.endPositions();
     SuggestedFix.Builder replacementFixes = SuggestedFix.builder();
 
     SuggestedFix.Builder fixBuilder = SuggestedFix.builder();
 
-    for (String newImport : inlineMe.get().imports()) {
+    for (String newImport : inlineMe.imports()) {
       String typeName = Iterables.getLast(PACKAGE_SPLITTER.split(newImport));
       String qualifiedTypeName = SuggestedFixes.qualifyType(state, fixBuilder, newImport);
-
-      visitIdentifiers(
-          replacementExpression,
-          (node, unused) -> {
-            if (node.getName().contentEquals(typeName)) {
-              replacementFixes.replace(node, qualifiedTypeName);
-            }
-          });
-    }
-    for (String newStaticImport : inlineMe.get().staticImports()) {
+      for (Identifier identifier : template.identifiers(typeName)) {
+        replacementFixes.replace(identifier.node(), qualifiedTypeName);
+      }
+    }
+    for (String newStaticImport : inlineMe.staticImports()) {
       fixBuilder.addStaticImport(newStaticImport);
     }
 
@@ -291,14 +292,10 @@ public final class Inliner extends BugChecker
     }
 
     if (Strings.isNullOrEmpty(receiverString)) {
-      visitIdentifiers(
-          replacementExpression,
-          (node, unused) -> {
-            if (node.getName().contentEquals("this")) {
-              replacementFixes.replace(
-                  getStartPosition(node), parser.getEndPos((JCTree) node) + 1, "");
-            }
-          });
+      for (Identifier identifier : template.identifiers("this")) {
+        IdentifierTree node = identifier.node();
+        replacementFixes.replace(getStartPosition(node), endPositions.getEndPosition(node) + 1, "");
+      }
     } else {
       if (replacement.equals("this")) { // e.g.: foo.b() -> foo
         Tree parent = state.getPath().getParentPath().getLeaf();
@@ -309,15 +306,13 @@ public final class Inliner extends BugChecker
           return describe(parent, SuggestedFix.delete(parent), api);
         }
       }
-      visitIdentifiers(
-          replacementExpression,
-          (node, unused) -> {
-            if ((!removedThisPrefix || getStartPosition(node) != 0)
-                && node.getName().contentEquals("this")) {
-              replacementFixes.replace(
-                  getStartPosition(node), parser.getEndPos((JCTree) node), receiverString);
-            }
-          });
+      for (Identifier identifier : template.identifiers("this")) {
+        IdentifierTree node = identifier.node();
+        if (!removedThisPrefix || getStartPosition(node) != 0) {
+          replacementFixes.replace(
+              getStartPosition(node), endPositions.getEndPosition(node), receiverString);
+        }
+      }
     }
 
     for (int i = 0; i < varNames.size(); i++) {
@@ -336,40 +331,34 @@ public final class Inliner extends BugChecker
       boolean mayRequireParens =
           i < callingVars.size() && requiresParentheses(callingVars.get(i), state);
 
-      visitIdentifiers(
-          replacementExpression,
-          (node, path) -> {
-            if (!node.getName().contentEquals(varName)) {
-              return;
-            }
-            // Substituting into a method invocation never requires parens.
-            boolean outerNeverRequiresParens =
-                path.size() < 2 || getArguments(path.get(path.size() - 2)).contains(node);
-            if (terminalVarargsReplacement) {
-              var calledMethodArguments = getArguments(path.get(path.size() - 2));
-              replacementFixes.replace(
-                  calledMethodArguments.indexOf(node) == 0
-                      ? getStartPosition(node)
-                      : parser.getEndPos(
-                          (JCTree)
-                              calledMethodArguments.get(calledMethodArguments.indexOf(node) - 1)),
-                  parser.getEndPos((JCTree) node),
-                  replacementResult);
-            } else {
-              replacementFixes.replace(
-                  node,
-                  !outerNeverRequiresParens && mayRequireParens
-                      ? "(" + replacementResult + ")"
-                      : replacementResult);
-            }
-          });
-    }
-
-    substituteTypeArguments(
-        tree, symbol, replacementExpression, replacement, parser, replacementFixes, state);
+      for (Identifier identifier : template.identifiers(varName)) {
+        IdentifierTree node = identifier.node();
+        Tree parent = identifier.parent();
+        // Substituting into a method invocation never requires parens.
+        boolean outerNeverRequiresParens = parent == null || getArguments(parent).contains(node);
+        if (terminalVarargsReplacement) {
+          var calledMethodArguments = getArguments(parent);
+          replacementFixes.replace(
+              calledMethodArguments.indexOf(node) == 0
+                  ? getStartPosition(node)
+                  : endPositions.getEndPosition(
+                      calledMethodArguments.get(calledMethodArguments.indexOf(node) - 1)),
+              endPositions.getEndPosition(node),
+              replacementResult);
+        } else {
+          replacementFixes.replace(
+              node,
+              !outerNeverRequiresParens && mayRequireParens
+                  ? "(" + replacementResult + ")"
+                  : replacementResult);
+        }
+      }
+    }
+
+    substituteTypeArguments(tree, symbol, template, replacementFixes, state);
 
     String fixedReplacement =
-        AppliedFix.applyReplacements(replacement, asEndPosTable(parser), replacementFixes.build());
+        AppliedFix.applyReplacements(replacement, endPositions, replacementFixes.build());
 
     fixBuilder.replace(
         replacementStart,
@@ -429,9 +418,7 @@ public final class Inliner extends BugChecker
   private static void substituteTypeArguments(
       ExpressionTree tree,
       MethodSymbol symbol,
-      ExpressionTree replacementExpression,
-      String replacement,
-      JavacParser parser,
+      Template template,
       SuggestedFix.Builder replacementFixes,
       VisitorState state) {
     ImmutableSet<String> typeParamNames =
@@ -444,18 +431,16 @@ public final class Inliner extends BugChecker
 
     List<? extends Tree> callingTypeArgs = getTypeArguments(tree);
     if (callingTypeArgs.size() == typeParamNames.size()) {
-      substituteExplicitTypeArguments(
-          symbol, callingTypeArgs, replacementExpression, replacementFixes, state);
+      substituteExplicitTypeArguments(symbol, callingTypeArgs, template, replacementFixes, state);
     } else if (callingTypeArgs.isEmpty()) {
-      stripUnsubstitutedTypeParameters(
-          typeParamNames, replacementExpression, replacement, parser, replacementFixes);
+      stripUnsubstitutedTypeParameters(typeParamNames, template, replacementFixes);
     }
   }
 
   private static void substituteExplicitTypeArguments(
       MethodSymbol symbol,
       List<? extends Tree> callingTypeArgs,
-      ExpressionTree replacementExpression,
+      Template template,
       SuggestedFix.Builder replacementFixes,
       VisitorState state) {
     // Map each declared type parameter name to its corresponding concrete type argument string from
@@ -468,14 +453,11 @@ public final class Inliner extends BugChecker
                     i -> symbol.getTypeParameters().get(i).getSimpleName().toString(),
                     i -> state.getSourceForNode(callingTypeArgs.get(i))));
 
-    // In a single AST pass over the replacement expression, substitute any matching type variable
-    // identifiers.
-    visitIdentifiers(
-        replacementExpression,
-        (node, unused) -> {
-          String typeArgString = typeMap.get(node.getName().toString());
-          if (typeArgString != null) {
-            replacementFixes.replace(node, typeArgString);
+    // Substitute any matching type variable identifiers in the replacement expression.
+    typeMap.forEach(
+        (typeParamName, typeArgString) -> {
+          for (Identifier identifier : template.identifiers(typeParamName)) {
+            replacementFixes.replace(identifier.node(), typeArgString);
           }
         });
   }
@@ -487,10 +469,10 @@ public final class Inliner extends BugChecker
    */
   private static void stripUnsubstitutedTypeParameters(
       ImmutableSet<String> typeParamNames,
-      ExpressionTree replacementExpression,
-      String replacement,
-      JavacParser parser,
+      Template template,
       SuggestedFix.Builder replacementFixes) {
+    String replacement = template.inlineMe().replacement();
+    ErrorProneEndPosTable endPositions = template.endPositions();
     new TreeScanner<Void, Void>() {
       @Override
       public Void visitMethodInvocation(MethodInvocationTree node, Void unused) {
@@ -500,9 +482,9 @@ public final class Inliner extends BugChecker
           // Bound the '<' search to start after the receiver so we don't accidentally match
           // type arguments within receiver expressions (e.g., ((List<String>) x).<T>after()).
           int searchStart =
-              (receiver != null) ? parser.getEndPos((JCTree) receiver) : getStartPosition(node);
+              (receiver != null) ? endPositions.getEndPosition(receiver) : getStartPosition(node);
           int leftAngle = replacement.indexOf('<', searchStart);
-          int lastEnd = parser.getEndPos((JCTree) Iterables.getLast(node.getTypeArguments()));
+          int lastEnd = endPositions.getEndPosition(Iterables.getLast(node.getTypeArguments()));
           int rightAngle = replacement.indexOf('>', lastEnd - 1);
           if (leftAngle != -1 && rightAngle != -1) {
             replacementFixes.replace(leftAngle, rightAngle + 1, "");
@@ -518,7 +500,7 @@ public final class Inliner extends BugChecker
           // Replacing the type arguments span with "" turns `new ArrayList<T>()` into diamond `new
           // ArrayList<>()`
           int firstStart = getStartPosition(ptt.getTypeArguments().get(0));
-          int lastEnd = parser.getEndPos((JCTree) Iterables.getLast(ptt.getTypeArguments()));
+          int lastEnd = endPositions.getEndPosition(Iterables.getLast(ptt.getTypeArguments()));
           replacementFixes.replace(firstStart, lastEnd, "");
         }
         return super.visitNewClass(node, null);
@@ -536,7 +518,7 @@ public final class Inliner extends BugChecker
         }
         return super.visitTypeCast(node, null);
       }
-    }.scan(replacementExpression, null);
+    }.scan(template.expression(), null);
   }
 
   private static boolean isSimpleTypeParameterList(
@@ -732,6 +714,49 @@ public final class Inliner extends BugChecker
     return false;
   }
 
+  /**
+   * Replacements parsed during the current compilation. An {@code @InlineMe} API typically has many
+   * call sites, which can share the parsed replacement and only need to substitute their arguments.
+   */
+  private static final Supplier<Cache<MethodSymbol, Optional<Template>>> TEMPLATES =
+      VisitorState.memoize(unusedState -> Caffeine.newBuilder().weakKeys().build());
+
+  /** The parsed replacement of an {@code @InlineMe} API. */
+  private record Template(
+      InlineMeData inlineMe,
+      ExpressionTree expression,
+      ErrorProneEndPosTable endPositions,
+      ImmutableListMultimap<String, Identifier> identifiers) {
+
+    static Optional<Template> get(MethodSymbol symbol, VisitorState state) {
+      return TEMPLATES
+          .get(state)
+          .get(symbol, s -> InlineMeData.createFromSymbol(s).map(data -> parse(data, state)));
+    }
+
+    private static Template parse(InlineMeData inlineMe, VisitorState state) {
+      JavacParser parser = newParser(inlineMe.replacement(), state);
+      ExpressionTree expression = parser.parseExpression();
+      ImmutableListMultimap.Builder<String, Identifier> identifiers =
+          ImmutableListMultimap.builder();
+      visitIdentifiers(
+          expression,
+          (node, path) ->
+              identifiers.put(
+                  node.getName().toString(),
+                  new Identifier(node, path.size() < 2 ? null : path.get(path.size() - 2))));
+      return new Template(inlineMe, expression, asEndPosTable(parser), identifiers.build());
+    }
+
+    /** Returns the identifiers in the replacement with the given name, in source order. */
+    ImmutableList<Identifier> identifiers(String name) {
+      return identifiers.get(name);
+    }
+  }
+
+  /** An identifier in a parsed replacement, and its enclosing tree if it isn't the root. */
+  private record Identifier(IdentifierTree node, @Nullable Tree parent) {}
+
   private static ErrorProneEndPosTable asEndPosTable(JavacParser parser) {
     return tree -> parser.getEndPos((JCTree) tree);
   }
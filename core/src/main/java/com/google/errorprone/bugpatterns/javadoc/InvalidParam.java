@@ -201,7 +201,9 @@ public final class InvalidParam extends BugChecker implements ClassTreeMatcher,
       String bestMatch = null;
       int minDistance = Integer.MAX_VALUE;
       for (String parameter : parameters) {
-        int distance = getEditDistance(body, parameter);
+        int distance =
+            getEditDistance(
+                body, parameter, /* caseSensitive= */ true, /* maxDistance= */ minDistance - 1);
         if (distance < minDistance) {
           bestMatch = parameter;
           minDistance = distance;
@@ -61,7 +61,12 @@ final class Utils {
     String bestMatch = null;
     int minDistance = Integer.MAX_VALUE;
     for (String choice : choices) {
-      int distance = getEditDistance(to, choice);
+      int distance =
+          getEditDistance(
+              to,
+              choice,
+              /* caseSensitive= */ true,
+              /* maxDistance= */ Math.min(minDistance, maxEditDistance) - 1);
       if (distance < minDistance && distance < maxEditDistance) {
         bestMatch = choice;
         minDistance = distance;
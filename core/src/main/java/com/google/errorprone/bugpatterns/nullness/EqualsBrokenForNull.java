@@ -22,6 +22,7 @@ import static com.google.errorprone.util.ASTHelpers.getSymbol;
 import static com.google.errorprone.util.ASTHelpers.isConsideredFinal;
 
 import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.CostClass;
 import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.VisitorState;
 import com.google.errorprone.bugpatterns.BugChecker;
@@ -60,7 +61,8 @@ import org.jspecify.annotations.Nullable;
  */
 @BugPattern(
     summary = "equals() implementation may throw NullPointerException when given null",
-    severity = SeverityLevel.WARNING)
+    severity = SeverityLevel.WARNING,
+    cost = CostClass.DATAFLOW)
 public class EqualsBrokenForNull extends BugChecker implements MethodTreeMatcher {
 
   @Override
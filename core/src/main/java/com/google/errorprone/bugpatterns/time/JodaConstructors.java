@@ -47,7 +47,8 @@ import com.sun.source.tree.NewClassTree;
 @BugPattern(
     summary = "Use of certain JodaTime constructors are not allowed.",
     explanation = "Use JodaTime's static factories instead of the ambiguous constructors.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaConstructors extends BugChecker implements NewClassTreeMatcher {
   private static final Matcher<ExpressionTree> SELF_USAGE = packageStartsWith("org.joda.time");
 
@@ -39,7 +39,8 @@ import com.sun.source.tree.MemberSelectTree;
         "Manual date/time math leads to overflows, unit mismatches, and weak typing. Prefer to use"
             + " strong types (e.g., `java.time.Duration` or `java.time.Instant`) and their APIs to"
             + " perform date/time math.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaDateTimeConstants extends BugChecker
     implements MemberSelectTreeMatcher, IdentifierTreeMatcher {
 
@@ -43,7 +43,8 @@ import com.sun.source.tree.MethodInvocationTree;
             + "Please use Duration.millis(long) instead. If your Duration is better expressed in "
             + "terms of other units, use standardSeconds(long), standardMinutes(long), "
             + "standardHours(long), or standardDays(long) instead.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaDurationWithMillis extends BugChecker
     implements MethodInvocationTreeMatcher {
   private static final Matcher<ExpressionTree> MATCHER =
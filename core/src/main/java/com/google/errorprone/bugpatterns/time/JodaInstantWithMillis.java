@@ -39,7 +39,8 @@ import com.sun.source.tree.MethodInvocationTree;
         "Joda-Time's 'instant.withMillis(long)' method is often a source of bugs because it "
             + "doesn't mutate the current instance but rather returns a new immutable Instant "
             + "instance. Please use Instant.ofEpochMilli(long) instead.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaInstantWithMillis extends BugChecker implements MethodInvocationTreeMatcher {
   private static final Matcher<ExpressionTree> MATCHER =
       Matchers.allOf(
@@ -47,7 +47,8 @@ import java.util.List;
         "JodaTime's type.plus(long) and type.minus(long) methods are often a source of bugs "
             + "because the units of the parameters are ambiguous. Please use "
             + "type.plus(Duration.millis(long)) or type.minus(Duration.millis(long)) instead.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaPlusMinusLong extends BugChecker implements MethodInvocationTreeMatcher {
 
   private static final ImmutableSet<String> TYPES =
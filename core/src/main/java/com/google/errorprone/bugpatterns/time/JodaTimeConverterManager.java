@@ -36,7 +36,8 @@ import com.sun.source.tree.MethodInvocationTree;
         "Joda-Time's ConverterManager makes the semantics of DateTime/Instant/etc construction"
             + " subject to global static state. If you need to define your own converters, use"
             + " a helper.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaTimeConverterManager extends BugChecker
     implements MethodInvocationTreeMatcher {
 
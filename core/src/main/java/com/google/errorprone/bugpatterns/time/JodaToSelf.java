@@ -44,7 +44,8 @@ import com.sun.source.tree.NewClassTree;
         "Joda-Time's DateTime.toDateTime(), Duration.toDuration(), Instant.toInstant(), "
             + "Interval.toInterval(), and Period.toPeriod() are always unnecessary, since they "
             + "simply 'return this'. There is no reason to ever call them.",
-    severity = ERROR)
+    severity = ERROR,
+    requiredReferences = "org.joda.time")
 public final class JodaToSelf extends BugChecker
     implements MethodInvocationTreeMatcher, NewClassTreeMatcher {
 
@@ -48,7 +48,8 @@ import com.sun.source.tree.MethodInvocationTree;
         "JodaTime's type.withDurationAdded(long, int) is often a source of bugs "
             + "because the units of the parameters are ambiguous. Please use "
             + "type.withDurationAdded(Duration.millis(long), int) instead.",
-    severity = WARNING)
+    severity = WARNING,
+    requiredReferences = "org.joda.time")
 public final class JodaWithDurationAddedLong extends BugChecker
     implements MethodInvocationTreeMatcher {
 
@@ -40,7 +40,9 @@ import org.jspecify.annotations.Nullable;
  * <p>Bindings are represented as a persistent linked chain. Adding a binding creates a new {@link
  * Node} pointing to the current head as its parent, and lookups traverse parent references towards
  * the root, naturally shadowing earlier bindings for the same key. Forking a {@code Bindings}
- * instance shares the underlying node chain with zero entry copying.
+ * instance shares the underlying node chain with zero entry copying, and the chain doubles as a
+ * trail: a {@link Mark} taken before a speculative unification can be used to undo all the bindings
+ * added since.
  *
  * @author Louis Wasserman
  */
@@ -98,6 +100,17 @@ public class Bindings {
     }
   }
 
+  /** A point in the history of a {@code Bindings} instance that it can be rolled back to. */
+  public static final class Mark {
+    private final @Nullable Node head;
+
+    private Mark(@Nullable Node head) {
+      this.head = head;
+    }
+  }
+
+  private static final Mark EMPTY_MARK = new Mark(null);
+
   private @Nullable Node head;
 
   public static Bindings create() {
@@ -116,6 +129,19 @@ public class Bindings {
     return head == null;
   }
 
+  /** Returns a mark that {@link #rollback} can restore the current bindings from. */
+  public Mark mark() {
+    return head == null ? EMPTY_MARK : new Mark(head);
+  }
+
+  /**
+   * Restores the bindings as they were when {@code mark} was taken from this instance, discarding
+   * any bindings added or cleared since.
+   */
+  public void rollback(Mark mark) {
+    this.head = checkNotNull(mark).head;
+  }
+
   public boolean containsKey(Key<?> key) {
     checkNotNull(key);
     for (Node curr = head; curr != null; curr = curr.parent) {
@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.logging.Level.SEVERE;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
@@ -88,6 +89,13 @@ public abstract class BlockTemplate extends Template<BlockTemplateMatch> {
 
   abstract ImmutableList<UStatement> templateStatements();
 
+  /** Whether the template contains placeholders, which must be rechecked after unification. */
+  @Memoized
+  boolean hasPlaceholders() {
+    return ExpressionTemplate.trueOrFalse(
+        ExpressionTemplate.CONTAINS_PLACEHOLDER.scan(templateStatements(), null));
+  }
+
   /**
    * If the tree is a {@link JCBlock}, returns a list of disjoint matches corresponding to the exact
    * list of template statements found consecutively; otherwise, returns an empty list.
@@ -136,9 +144,10 @@ public abstract class BlockTemplate extends Template<BlockTemplateMatch> {
                   new BlockTemplateMatch(
                       block, checkedUnifier.get(), offset, offset + consumedStatements);
               boolean verified =
-                  ExpressionTemplate.trueOrNull(
-                      ExpressionTemplate.PLACEHOLDER_VERIFIER.scan(
-                          templateStatements(), checkedUnifier.get()));
+                  !hasPlaceholders()
+                      || ExpressionTemplate.trueOrNull(
+                          ExpressionTemplate.PLACEHOLDER_VERIFIER.scan(
+                              templateStatements(), checkedUnifier.get()));
               if (!verified) {
                 return Choice.none();
               }
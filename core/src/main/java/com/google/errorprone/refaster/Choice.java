@@ -29,6 +29,7 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A representation of a choice with zero or more options, which may be evaluated lazily or
@@ -111,6 +112,11 @@ public abstract class Choice<T> {
         return Optional.of(t);
       }
 
+      @Override
+      T onlyOption() {
+        return t;
+      }
+
       @Override
       public Choice<T> filter(Predicate<? super T> predicate) {
         return predicate.test(t) ? this : Choice.<T>none();
@@ -187,6 +193,14 @@ public abstract class Choice<T> {
     return Iterables.toString(asIterable());
   }
 
+  /**
+   * Returns the only option of this {@code Choice} if it is known without evaluating it, as for
+   * choices created with {@link #of}, and null otherwise.
+   */
+  @Nullable T onlyOption() {
+    return null;
+  }
+
   /** Returns the first valid option from this {@code Choice}. */
   public Optional<T> findFirst() {
     Iterator<T> itr = iterator();
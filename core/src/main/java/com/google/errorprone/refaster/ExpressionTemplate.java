@@ -21,6 +21,7 @@ import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.SEVERE;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
@@ -104,6 +105,12 @@ public abstract class ExpressionTemplate extends Template<ExpressionTemplateMatc
 
   abstract UType returnType();
 
+  /** Whether the template contains placeholders, which {@link #PLACEHOLDER_VERIFIER} rechecks. */
+  @Memoized
+  boolean hasPlaceholders() {
+    return trueOrFalse(CONTAINS_PLACEHOLDER.scan(expression(), null));
+  }
+
   public boolean generateNegation() {
     return annotations().containsKey(AlsoNegation.class);
   }
@@ -137,6 +144,27 @@ public abstract class ExpressionTemplate extends Template<ExpressionTemplateMatc
     return b == null || b;
   }
 
+  static boolean trueOrFalse(@Nullable Boolean b) {
+    return b != null && b;
+  }
+
+  /** Returns true if the scanned template contains a placeholder, and false or null otherwise. */
+  static final TreeScanner<Boolean, Void> CONTAINS_PLACEHOLDER =
+      new TreeScanner<Boolean, Void>() {
+        @Override
+        public Boolean reduce(Boolean a, Boolean b) {
+          return trueOrFalse(a) || trueOrFalse(b);
+        }
+
+        @Override
+        public Boolean visitOther(Tree t, Void v) {
+          if (t instanceof UPlaceholderExpression || t instanceof UPlaceholderStatement) {
+            return true;
+          }
+          return super.visitOther(t, v);
+        }
+      };
+
   /**
    * Placeholders' verification step only checks that they use variables that haven't *yet* been
    * matched to another local variable. This scanner reruns the verification step for the whole
@@ -165,7 +193,8 @@ public abstract class ExpressionTemplate extends Template<ExpressionTemplateMatc
   public Choice<Unifier> unify(JCExpression target, Unifier unifier) {
     return expression()
         .unify(target, unifier)
-        .filter(u -> trueOrNull(PLACEHOLDER_VERIFIER.scan(expression(), u)))
+        .filter(
+            u -> !hasPlaceholders() || trueOrNull(PLACEHOLDER_VERIFIER.scan(expression(), u)))
         .mapIfPresent(
             new Function<Unifier, Optional<Unifier>>() {
 
@@ -57,7 +57,7 @@ final class PlaceholderVerificationVisitor extends TreeScanner<Boolean, Unifier>
   }
 
   private boolean couldUnify(UExpression expr, Tree tree, Unifier unifier) {
-    return expr.unify(tree, unifier.fork()).findFirst().isPresent();
+    return Unifier.canUnify(expr, tree, unifier);
   }
 
   @Override
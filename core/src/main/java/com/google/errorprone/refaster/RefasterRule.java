@@ -153,6 +153,7 @@ public abstract class RefasterRule<M extends TemplateMatch, T extends Template<M
     context.put(JCCompilationUnit.class, compilationUnit);
     context.put(PackageSymbol.class, compilationUnit.packge);
     context.put(RULE_TYPE_VARS, typeVariables());
+    Template.InferenceCache.preRegister(context);
     return context;
   }
 
@@ -32,8 +32,10 @@ import com.google.errorprone.refaster.PlaceholderMethod.PlaceholderExpressionKey
 import com.google.errorprone.refaster.UTypeVar.TypeWithExpression;
 import com.google.errorprone.refaster.annotation.NoAutoboxing;
 import com.sun.source.tree.ModifiersTree;
+import com.sun.tools.javac.code.BoundKind;
 import com.sun.tools.javac.code.Kinds.KindSelector;
 import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symtab;
 import com.sun.tools.javac.code.Type;
@@ -80,6 +82,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import org.jspecify.annotations.Nullable;
@@ -418,6 +423,9 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
     }
   }
 
+  /** A failed inference in the {@link InferenceCache}, rethrown as a new {@link InferException}. */
+  private record InferFailure(Collection<JCDiagnostic> diagnostics) {}
+
   /**
    * Returns the inferred method type of the template based on the given actual argument types.
    *
@@ -434,6 +442,19 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
       throws InferException {
     Symtab symtab = inliner.symtab();
 
+    // Repeated matches of a template against identically typed code perform the same inference.
+    Map<String, Object> inferenceResults = InferenceCache.instance(inliner.getContext()).get(this);
+    String key = inferenceKey(freeTypeVariables, expectedArgTypes, returnType, actualArgTypes);
+    if (key != null) {
+      Object cached = inferenceResults.get(key);
+      if (cached instanceof InferFailure failure) {
+        throw new InferException(failure.diagnostics());
+      }
+      if (cached != null) {
+        return (Type) cached;
+      }
+    }
+
     Type methodType =
         new Type.MethodType(expectedArgTypes, returnType, List.<Type>nil(), symtab.methodClass);
     if (!freeTypeVariables.isEmpty()) {
@@ -450,24 +471,14 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
         enter.getTopLevelEnv(TreeMaker.instance(inliner.getContext()).TopLevel(List.<JCTree>nil()));
 
     // Set up the resolution phase:
-    try {
-      Field field = AttrContext.class.getDeclaredField("pendingResolutionPhase");
-      field.setAccessible(true);
-      field.set(env.info, newMethodResolutionPhase(autoboxing()));
-    } catch (ReflectiveOperationException e) {
-      throw new LinkageError(e.getMessage(), e);
-    }
-
     Object resultInfo;
     try {
-      Class<?> resultInfoClass = Class.forName("com.sun.tools.javac.comp.Attr$ResultInfo");
-      Constructor<?> resultInfoCtor =
-          resultInfoClass.getDeclaredConstructor(Attr.class, KindSelector.class, Type.class);
-      resultInfoCtor.setAccessible(true);
+      ResolveMembers.PENDING_RESOLUTION_PHASE.set(
+          env.info, autoboxing() ? ResolveMembers.BOX_PHASE : ResolveMembers.BASIC_PHASE);
       resultInfo =
-          resultInfoCtor.newInstance(
+          ResolveMembers.RESULT_INFO_CONSTRUCTOR.newInstance(
               Attr.instance(inliner.getContext()), KindSelector.PCK, Type.noType);
-    } catch (ReflectiveOperationException e) {
+    } catch (ReflectiveOperationException | RuntimeException e) {
       throw new LinkageError(e.getMessage(), e);
     }
 
@@ -482,32 +493,25 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
       if (!diagnostics.isEmpty()) {
         throw new InferException(diagnostics);
       }
+      if (key != null && inferenceKey(List.nil(), List.of(result), result, List.nil()) != null) {
+        inferenceResults.put(key, result);
+      }
       return result;
+    } catch (InferException e) {
+      if (key != null) {
+        inferenceResults.put(key, new InferFailure(e.diagnostics));
+      }
+      throw e;
     } finally {
       Log.instance(inliner.getContext()).popDiagnosticHandler(handler);
     }
   }
 
-  /** Reflectively instantiate the package-private {@code MethodResolutionPhase} enum. */
-  private static @Nullable Object newMethodResolutionPhase(boolean autoboxing) {
-    for (Class<?> c : Resolve.class.getDeclaredClasses()) {
-      if (!c.getName().equals("com.sun.tools.javac.comp.Resolve$MethodResolutionPhase")) {
-        continue;
-      }
-      for (Object e : c.getEnumConstants()) {
-        if (e.toString().equals(autoboxing ? "BOX" : "BASIC")) {
-          return e;
-        }
-      }
-    }
-    return null;
-  }
-
   /**
    * Reflectively invoke Resolve.checkMethod(), which despite being package-private is apparently
    * the only useful entry-point into javac8's type inference implementation.
    */
-  private Type.MethodType callCheckMethod(
+  private static Type.MethodType callCheckMethod(
       Warner warner,
       Inliner inliner,
       Object resultInfo,
@@ -517,21 +521,8 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
       Env<AttrContext> env)
       throws InferException {
     try {
-      Method checkMethod;
-      checkMethod =
-          Resolve.class.getDeclaredMethod(
-              "checkMethod",
-              Env.class,
-              Type.class,
-              Symbol.class,
-              Class.forName(
-                  "com.sun.tools.javac.comp.Attr$ResultInfo"), // ResultInfo is package-private
-              List.class,
-              List.class,
-              Warner.class);
-      checkMethod.setAccessible(true);
       return (Type.MethodType)
-          checkMethod.invoke(
+          ResolveMembers.CHECK_METHOD.invoke(
               Resolve.instance(inliner.getContext()),
               env,
               site,
@@ -541,17 +532,219 @@ public abstract class Template<M extends TemplateMatch> implements Serializable
               /* freeTypeVariables */ List.<Type>nil(),
               warner);
     } catch (InvocationTargetException e) {
-      if (e.getCause() instanceof Resolve.InapplicableMethodException) {
-        throw new InferException(
-            ImmutableList.of(
-                ((Resolve.InapplicableMethodException) e.getTargetException()).getDiagnostic()));
+      if (e.getCause() instanceof Resolve.InapplicableMethodException inapplicable) {
+        throw new InferException(ImmutableList.of(inapplicable.getDiagnostic()));
       }
+      Throwables.throwIfInstanceOf(e.getCause(), Error.class);
       throw new LinkageError(e.getMessage(), e.getCause());
-    } catch (ReflectiveOperationException e) {
+    } catch (ReflectiveOperationException | RuntimeException e) {
       throw new LinkageError(e.getMessage(), e);
     }
   }
 
+  /**
+   * The package-private parts of javac's method resolution that {@link #infer} uses, looked up
+   * once.
+   */
+  private static final class ResolveMembers {
+    static final Field PENDING_RESOLUTION_PHASE;
+    static final Constructor<?> RESULT_INFO_CONSTRUCTOR;
+    static final Method CHECK_METHOD;
+
+    static final Object BOX_PHASE;
+    static final Object BASIC_PHASE;
+
+    static {
+      try {
+        PENDING_RESOLUTION_PHASE = AttrContext.class.getDeclaredField("pendingResolutionPhase");
+        PENDING_RESOLUTION_PHASE.setAccessible(true);
+
+        Class<?> resultInfoClass = Class.forName("com.sun.tools.javac.comp.Attr$ResultInfo");
+        RESULT_INFO_CONSTRUCTOR =
+            resultInfoClass.getDeclaredConstructor(Attr.class, KindSelector.class, Type.class);
+        RESULT_INFO_CONSTRUCTOR.setAccessible(true);
+
+        CHECK_METHOD =
+            Resolve.class.getDeclaredMethod(
+                "checkMethod",
+                Env.class,
+                Type.class,
+                Symbol.class,
+                resultInfoClass, // ResultInfo is package-private
+                List.class,
+                List.class,
+                Warner.class);
+        CHECK_METHOD.setAccessible(true);
+      } catch (ReflectiveOperationException e) {
+        throw new LinkageError(e.getMessage(), e);
+      }
+      BOX_PHASE = newMethodResolutionPhase(/* autoboxing= */ true);
+      BASIC_PHASE = newMethodResolutionPhase(/* autoboxing= */ false);
+    }
+
+    /** Reflectively instantiate the package-private {@code MethodResolutionPhase} enum. */
+    private static @Nullable Object newMethodResolutionPhase(boolean autoboxing) {
+      for (Class<?> c : Resolve.class.getDeclaredClasses()) {
+        if (!c.getName().equals("com.sun.tools.javac.comp.Resolve$MethodResolutionPhase")) {
+          continue;
+        }
+        for (Object e : c.getEnumConstants()) {
+          if (e.toString().equals(autoboxing ? "BOX" : "BASIC")) {
+            return e;
+          }
+        }
+      }
+      return null;
+    }
+
+    private ResolveMembers() {}
+  }
+
+  /**
+   * The results of {@link #infer} for each template. Inliners and forked unifiers work in their own
+   * {@link com.google.errorprone.SubContext}, so the cache must be registered in the context they
+   * are derived from to be shared between matches.
+   */
+  static final class InferenceCache {
+    private static final Context.Key<InferenceCache> KEY = new Context.Key<>();
+
+    static void preRegister(Context context) {
+      context.put(KEY, new InferenceCache());
+    }
+
+    static InferenceCache instance(Context context) {
+      InferenceCache instance = context.get(KEY);
+      if (instance == null) {
+        instance = new InferenceCache();
+        context.put(KEY, instance);
+      }
+      return instance;
+    }
+
+    /** Inferred method types or {@link InferFailure}s, keyed by {@link #inferenceKey}. */
+    private final Map<Template<?>, Map<String, Object>> results = new IdentityHashMap<>();
+
+    Map<String, Object> get(Template<?> template) {
+      return results.computeIfAbsent(template, t -> new HashMap<>());
+    }
+  }
+
+  /**
+   * Describes the inputs to {@link #infer} for a template uniquely within a compilation unit, or
+   * returns null if they contain types that can't be described by name, such as type variables
+   * other than the free type variables of the template, captured types, or local classes.
+   */
+  private static @Nullable String inferenceKey(
+      List<Type> freeTypeVariables,
+      List<Type> expectedArgTypes,
+      Type returnType,
+      List<Type> actualArgTypes) {
+    StringBuilder key = new StringBuilder();
+    for (Type freeTypeVariable : freeTypeVariables) {
+      key.append(freeTypeVariable.tsym.name).append(" extends ");
+      if (!appendKey(key, freeTypeVariable.getUpperBound(), freeTypeVariables)) {
+        return null;
+      }
+      key.append(" super ");
+      if (!appendKey(key, freeTypeVariable.getLowerBound(), freeTypeVariables)) {
+        return null;
+      }
+      key.append(',');
+    }
+    key.append(';');
+    for (Type type : expectedArgTypes) {
+      if (!appendKey(key, type, freeTypeVariables)) {
+        return null;
+      }
+      key.append(',');
+    }
+    key.append(';');
+    if (!appendKey(key, returnType, freeTypeVariables)) {
+      return null;
+    }
+    key.append(';');
+    for (Type type : actualArgTypes) {
+      if (!appendKey(key, type, freeTypeVariables)) {
+        return null;
+      }
+      key.append(',');
+    }
+    return key.toString();
+  }
+
+  private static boolean appendKey(StringBuilder key, Type type, List<Type> freeTypeVariables) {
+    switch (type.getTag()) {
+      case BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE, BOOLEAN, VOID, BOT, NONE -> {
+        key.append(type.getTag());
+        return true;
+      }
+      case ARRAY -> {
+        if (!appendKey(key, ((Type.ArrayType) type).elemtype, freeTypeVariables)) {
+          return false;
+        }
+        key.append("[]");
+        return true;
+      }
+      case WILDCARD -> {
+        Type.WildcardType wildcard = (Type.WildcardType) type;
+        key.append(wildcard.kind);
+        return wildcard.kind == BoundKind.UNBOUND
+            || appendKey(key, wildcard.type, freeTypeVariables);
+      }
+      case TYPEVAR -> {
+        for (Type freeTypeVariable : freeTypeVariables) {
+          if (freeTypeVariable == type) {
+            key.append('#').append(type.tsym.name);
+            return true;
+          }
+        }
+        return false;
+      }
+      case CLASS -> {
+        if (type.isCompound()
+            || type.isUnion()
+            || !(type.tsym instanceof ClassSymbol classSymbol)
+            || classSymbol.isDirectlyOrIndirectlyLocal()) {
+          return false;
+        }
+        Type enclosingType = type.getEnclosingType();
+        if (enclosingType.hasTag(TypeTag.CLASS)) {
+          if (!appendKey(key, enclosingType, freeTypeVariables)) {
+            return false;
+          }
+          key.append('.');
+        }
+        key.append(classSymbol.flatName());
+        if (!type.getTypeArguments().isEmpty()) {
+          key.append('<');
+          for (Type typeArgument : type.getTypeArguments()) {
+            if (!appendKey(key, typeArgument, freeTypeVariables)) {
+              return false;
+            }
+            key.append(',');
+          }
+          key.append('>');
+        }
+        return true;
+      }
+      case METHOD -> {
+        Type.MethodType methodType = (Type.MethodType) type;
+        key.append('(');
+        for (Type parameterType : methodType.getParameterTypes()) {
+          if (!appendKey(key, parameterType, freeTypeVariables)) {
+            return false;
+          }
+          key.append(',');
+        }
+        key.append(')');
+        return appendKey(key, methodType.getReturnType(), freeTypeVariables);
+      }
+      default -> {
+        return false;
+      }
+    }
+  }
+
   /**
    * Returns a list of the elements of {@code typeVariables} that are <em>not</em> bound in the
    * specified {@link Unifier}.
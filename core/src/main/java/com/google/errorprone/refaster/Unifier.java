@@ -18,7 +18,6 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Function;
-import com.google.errorprone.SubContext;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Types;
@@ -48,18 +47,43 @@ public final class Unifier {
   }
 
   private Unifier(Context context, Bindings bindings) {
-    this.context = new SubContext(context);
+    this.context = context;
     this.bindings = Bindings.create(bindings);
   }
 
   /**
    * Returns a {@code Unifier} containing all the bindings from this {@code Unifier}, but which can
    * succeed or fail independently of this {@code Unifier}.
+   *
+   * <p>Where alternatives are explored eagerly, {@link #mark} and {@link #rollback} are cheaper.
    */
   public Unifier fork() {
     return new Unifier(context, bindings);
   }
 
+  /** Returns a mark that {@link #rollback} can restore the bindings of this unifier from. */
+  public Bindings.Mark mark() {
+    return bindings.mark();
+  }
+
+  /** Undoes all the bindings made in this unifier since {@code mark} was taken. */
+  public void rollback(Bindings.Mark mark) {
+    bindings.rollback(mark);
+  }
+
+  /**
+   * Returns true if {@code unifiable} can be unified with {@code target}, without changing the
+   * bindings of {@code unifier}.
+   */
+  static <T> boolean canUnify(Unifiable<? super T> unifiable, T target, Unifier unifier) {
+    Bindings.Mark mark = unifier.mark();
+    try {
+      return unifiable.unify(target, unifier).findFirst().isPresent();
+    } finally {
+      unifier.rollback(mark);
+    }
+  }
+
   public Types types() {
     return Types.instance(context);
   }
@@ -169,13 +193,19 @@ public final class Unifier {
         return choice.mapIfPresent(
             u -> {
               List<JCExpression> expressions = new ArrayList<>();
+              Bindings.Mark mark = u.mark();
               for (int j = startIndex; j < targets.size(); j++) {
-                Optional<Unifier> forked =
-                    repeated.unify((JCTree) targets.get(j), u.fork()).findFirst();
-                if (forked.isEmpty()) {
-                  return Optional.empty();
+                JCExpression boundExpr;
+                try {
+                  Optional<Unifier> unified =
+                      repeated.unify((JCTree) targets.get(j), u).findFirst();
+                  if (unified.isEmpty()) {
+                    return Optional.empty();
+                  }
+                  boundExpr = repeated.getUnderlyingBinding(unified.get());
+                } finally {
+                  u.rollback(mark);
                 }
-                JCExpression boundExpr = repeated.getUnderlyingBinding(forked.get());
                 if (boundExpr == null) {
                   return Optional.empty();
                 }
@@ -188,7 +218,16 @@ public final class Unifier {
       if (index >= targets.size()) {
         return Choice.none();
       }
-      choice = choice.flatMap(unifications(toUnifyNext, targets.get(index)));
+      // Most elements unify in at most one way, so apply them directly instead of allocating a
+      // deferred unification for each one.
+      Unifier onlyOption = choice.onlyOption();
+      if (onlyOption != null) {
+        choice = unifyNullable(onlyOption, toUnifyNext, targets.get(index));
+      } else if (choice == Choice.<Unifier>none()) {
+        return choice;
+      } else {
+        choice = choice.flatMap(unifications(toUnifyNext, targets.get(index)));
+      }
     }
     if (index < targets.size()) {
       return Choice.none();
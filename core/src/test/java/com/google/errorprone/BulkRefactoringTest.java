@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BulkRefactoring.Result;
+import com.google.errorprone.BulkRefactoring.Target;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
+import com.google.errorprone.fixes.SuggestedFix;
+import com.google.errorprone.matchers.Description;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.util.Constants;
+import com.sun.tools.javac.util.Options;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link BulkRefactoring}. */
+@RunWith(JUnit4.class)
+public class BulkRefactoringTest {
+
+  @Rule public final TemporaryFolder tempDir = new TemporaryFolder();
+
+  private Path root;
+
+  @Before
+  public void setUp() {
+    root = tempDir.getRoot().toPath().toAbsolutePath();
+  }
+
+  @Test
+  public void inPlace() throws Exception {
+    Path a = write("a/A.java", "class A {", "  String s = \"old\";", "}");
+    Path b = write("b/B.java", "class B {", "  String s = \"old\";", "}");
+
+    Result result =
+        BulkRefactoring.create(
+                ScannerSupplier.fromBugCheckerClasses(InitializerUpdater.class),
+                ImmutableList.of(
+                    "-XepPatchChecks:InitializerUpdater", "-XepPatchLocation:IN_PLACE"),
+                2)
+            .run(
+                ImmutableList.of(
+                    Target.of(ImmutableList.of(root.resolve("a")), ImmutableList.of()),
+                    Target.of(ImmutableList.of(b), ImmutableList.of())));
+
+    assertThat(result.failures()).isEmpty();
+    assertThat(result.filesAnalyzed()).isEqualTo(2);
+    assertThat(result.changedFiles()).containsExactly(a, b);
+    assertThat(result.patchFile()).isEmpty();
+    assertThat(Files.readString(a)).isEqualTo("class A {\n  String s = \"new\";\n}\n");
+    assertThat(Files.readString(b)).isEqualTo("class B {\n  String s = \"new\";\n}\n");
+  }
+
+  @Test
+  public void combinedPatch() throws Exception {
+    Path a = write("a/A.java", "class A {", "  String s = \"old\";", "}");
+    Path b = write("b/B.java", "class B {", "  String s = \"old\";", "}");
+
+    Result result =
+        BulkRefactoring.create(
+                ScannerSupplier.fromBugCheckerClasses(InitializerUpdater.class),
+                ImmutableList.of(
+                    "-XepPatchChecks:InitializerUpdater", "-XepPatchLocation:" + root),
+                2)
+            .run(
+                ImmutableList.of(
+                    Target.of(ImmutableList.of(a), ImmutableList.of()),
+                    Target.of(ImmutableList.of(b), ImmutableList.of())));
+
+    assertThat(result.failures()).isEmpty();
+    assertThat(result.patchFile()).hasValue(root.resolve("error-prone.patch"));
+    String patch = Files.readString(root.resolve("error-prone.patch"));
+    assertThat(patch).contains("--- a/A.java");
+    assertThat(patch).contains("--- b/B.java");
+    assertThat(patch).contains("+  String s = \"new\";");
+    // the sources themselves are unchanged
+    assertThat(Files.readString(a)).contains("\"old\"");
+  }
+
+  @Test
+  public void conflictingChanges_leftUnchanged() throws Exception {
+    Path shared = write("shared/Shared.java", "class Shared {", "  String s = \"old\";", "}");
+    Path a = write("a/A.java", "class A {", "  String s = \"old\";", "}");
+
+    Result result =
+        BulkRefactoring.create(
+                ScannerSupplier.fromBugCheckerClasses(InitializerUpdater.class),
+                ImmutableList.of(
+                    "-XepPatchChecks:InitializerUpdater", "-XepPatchLocation:IN_PLACE"),
+                2)
+            .run(
+                ImmutableList.of(
+                    new Target(
+                        ImmutableList.of(shared, a),
+                        ImmutableList.of(),
+                        ImmutableList.of("-XDupdater.value=first")),
+                    new Target(
+                        ImmutableList.of(shared),
+                        ImmutableList.of(),
+                        ImmutableList.of("-XDupdater.value=second"))));
+
+    assertThat(result.failures()).isEmpty();
+    assertThat(result.conflictingFiles()).containsExactly(shared);
+    assertThat(result.changedFiles()).containsExactly(a);
+    assertThat(Files.readString(shared)).contains("\"old\"");
+    assertThat(Files.readString(a)).contains("\"first\"");
+  }
+
+  @Test
+  public void compilationError_reported() throws Exception {
+    Path a = write("a/A.java", "class A {", "  String s = 1;", "}");
+
+    Result result =
+        BulkRefactoring.create(
+                ScannerSupplier.fromBugCheckerClasses(InitializerUpdater.class),
+                ImmutableList.of(
+                    "-XepPatchChecks:InitializerUpdater", "-XepPatchLocation:IN_PLACE"),
+                1)
+            .run(ImmutableList.of(Target.of(ImmutableList.of(a), ImmutableList.of())));
+
+    assertThat(result.failures()).hasSize(1);
+    assertThat(result.failures().getFirst()).contains("failed to compile");
+    assertThat(result.changedFiles()).isEmpty();
+  }
+
+  private Path write(String path, String... lines) throws IOException {
+    Path file = root.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, String.join("\n", lines) + "\n");
+    return file;
+  }
+
+  /** Replaces string initializers with the value of {@code -XDupdater.value}, or "new". */
+  @BugPattern(summary = "Updates string initializers.", severity = ERROR)
+  public static final class InitializerUpdater extends BugChecker implements VariableTreeMatcher {
+    @Override
+    public Description matchVariable(VariableTree tree, VisitorState state) {
+      if (tree.getInitializer() == null) {
+        return NO_MATCH;
+      }
+      String value = Options.instance(state.context).get("updater.value");
+      return describeMatch(
+          tree,
+          SuggestedFix.replace(
+              tree.getInitializer(), Constants.format(value != null ? value : "new")));
+    }
+  }
+}
@@ -554,6 +554,65 @@ public class ErrorProneCompilerIntegrationTest {
     assertWithMessage(outputStream.toString()).that(exitCode).isEqualTo(Result.OK);
   }
 
+  @Test
+  public void compilePolicy_bytodo_reducedMemory() {
+    compilerBuilder.report(ScannerSupplier.fromBugCheckerClasses(CPSChecker.class));
+    compiler = compilerBuilder.build();
+    Result exitCode =
+        compiler.compile(
+            new String[] {"-XDcompilePolicy=bytodo", "-XepReducedMemory"},
+            Arrays.asList(
+                forSourceLines(
+                    "Test.java",
+                    """
+                    package test;
+                    class Test {
+                      void f() {
+                        return;
+                      }
+                    }
+                    class Other {
+                      void g() {
+                        return;
+                      }
+                    }
+                    """)));
+    outputStream.flush();
+    assertWithMessage(outputStream.toString()).that(exitCode).isEqualTo(Result.ERROR);
+    assertThat(diagnosticHelper.getDiagnostics()).hasSize(2);
+  }
+
+  @Test
+  public void reducedMemory_defaultCompilePolicy() {
+    compilerBuilder.report(ScannerSupplier.fromBugCheckerClasses(CPSChecker.class));
+    compiler = compilerBuilder.build();
+    Result exitCode =
+        compiler.compile(
+            new String[] {"-XepReducedMemory"},
+            Arrays.asList(
+                forSourceLines(
+                    "A.java",
+                    """
+                    package test;
+                    class A {
+                      void f() {
+                        return;
+                      }
+                    }
+                    """),
+                forSourceLines(
+                    "B.java",
+                    """
+                    package test;
+                    class B {
+                      void f() {}
+                    }
+                    """)));
+    outputStream.flush();
+    assertWithMessage(outputStream.toString()).that(exitCode).isEqualTo(Result.ERROR);
+    assertThat(diagnosticHelper.getDiagnostics()).hasSize(1);
+  }
+
   @Test
   public void addTypeAnnotationsToSymbol_true() {
     Result exitCode =
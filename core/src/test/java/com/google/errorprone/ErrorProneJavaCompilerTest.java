@@ -19,6 +19,7 @@ package com.google.errorprone;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assertWithMessage;
 import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
+import static com.google.errorprone.BugPattern.SeverityLevel.WARNING;
 import static com.google.errorprone.DiagnosticTestHelper.DIAGNOSTIC_CONTAINING;
 import static com.google.errorprone.FileObjects.forResources;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -47,6 +48,8 @@ import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.VariableTree;
 import com.sun.tools.javac.file.JavacFileManager;
 import com.sun.tools.javac.util.Constants;
+import com.sun.tools.javac.util.JCDiagnostic.SimpleDiagnosticPosition;
+import com.sun.tools.javac.util.Position;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -572,6 +575,85 @@ public class ErrorProneJavaCompilerTest {
             """);
   }
 
+  @Test
+  public void findingsOutput_jsonLines() throws IOException {
+    Path findings = tempDir.getRoot().toPath().resolve("findings.jsonl");
+    CompilationResult result =
+        doCompile(
+            ImmutableList.of(
+                FileObjects.forSourceLines(
+                    "StringConstantWrapper.java",
+                    """
+                    class StringConstantWrapper {
+                      String s = "old-value";
+                      String t = "old-value";
+                    }
+                    """)),
+            Arrays.asList(
+                "-XepFindingsOutput:" + findings,
+                "-Xep:AssignmentUpdater:WARN",
+                "-XepOpt:AssignmentUpdater:NewValue=new-value"),
+            ImmutableList.of(AssignmentUpdater.class));
+    assertSucceeded(result);
+    // warnings are also reported to javac
+    assertThat(result.diagnosticHelper().getDiagnostics()).hasSize(2);
+    List<String> lines = Files.readAllLines(findings, UTF_8);
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0))
+        .startsWith("{\"check\":\"AssignmentUpdater\",\"severity\":\"WARNING\",");
+    assertThat(lines.get(0)).contains("\"line\":2,\"column\":3,");
+    assertThat(lines.get(0)).contains("\"replaceWith\":\"\\\"new-value\\\"\"");
+    assertThat(lines.get(1)).contains("\"line\":3,");
+  }
+
+  @Test
+  public void findingsOutput_sarif() throws IOException {
+    Path findings = tempDir.getRoot().toPath().resolve("findings.sarif");
+    CompilationResult result =
+        doCompile(
+            ImmutableList.of(
+                FileObjects.forSourceLines(
+                    "StringConstantWrapper.java",
+                    """
+                    class StringConstantWrapper {
+                      String s = "old-value";
+                    }
+                    """)),
+            Arrays.asList("-XepFindingsOutput:" + findings),
+            ImmutableList.of(AssignmentUpdater.class));
+    // errors are still reported to javac
+    assertThat(result.succeeded()).isFalse();
+    assertThat(result.diagnosticHelper().getDiagnostics()).hasSize(1);
+    String sarif = Files.readString(findings);
+    assertThat(sarif).startsWith("{\"version\":\"2.1.0\",");
+    assertThat(sarif).contains("\"ruleId\":\"AssignmentUpdater\",\"level\":\"error\"");
+    assertThat(sarif).contains("\"region\":{\"startLine\":2,\"startColumn\":3,");
+    assertThat(sarif).contains("\"insertedContent\":{\"text\":\"\\\"flag-not-set\\\"\"}");
+    assertThat(sarif).endsWith("]}]}\n");
+  }
+
+  @Test
+  public void findingsOutput_withoutPosition() throws IOException {
+    Path findings = tempDir.getRoot().toPath().resolve("findings.jsonl");
+    CompilationResult result =
+        doCompile(
+            ImmutableList.of(FileObjects.forSourceLines("Test.java", "class Test {}")),
+            Arrays.asList("-XepFindingsOutput:" + findings),
+            ImmutableList.of(PositionlessChecker.class));
+    assertSucceeded(result);
+    String line = Iterables.getOnlyElement(Files.readAllLines(findings, UTF_8));
+    assertThat(line).startsWith("{\"check\":\"PositionlessChecker\",\"severity\":\"WARNING\",");
+    assertThat(line).doesNotContain("\"line\"");
+  }
+
+  @BugPattern(summary = "Reports each class without a source position.", severity = WARNING)
+  public static final class PositionlessChecker extends BugChecker implements ClassTreeMatcher {
+    @Override
+    public Description matchClass(ClassTree tree, VisitorState state) {
+      return buildDescription(new SimpleDiagnosticPosition(Position.NOPOS)).build();
+    }
+  }
+
   /**
    * Creates a {@link JavaFileObject} with matching on-disk contents.
    *
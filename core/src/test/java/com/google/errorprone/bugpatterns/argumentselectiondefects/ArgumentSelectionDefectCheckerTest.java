@@ -134,6 +134,23 @@ public class ArgumentSelectionDefectCheckerTest {
         .doTest();
   }
 
+  @Test
+  public void argumentSelectionDefectChecker_rejectsSwap_withOnlyOneWayAssignableAlternative() {
+    testHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            abstract class Test {
+              abstract void target(String first, Object second);
+
+              void test(Object first, String second) {
+                target(second, first);
+              }
+            }
+            """)
+        .doTest();
+  }
+
   @Test
   public void argumentSelectionDefectChecker_commentsOnlyOnSwappedPair_withThreeArguments() {
     testHelper
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.bugpatterns.formatstring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.errorprone.bugpatterns.formatstring.FormatStringValidation.ValidationResult;
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ParsedFormatStringTest {
+
+  @Test
+  public void unsupported() {
+    assertThat(ParsedFormatString.parse("%1$s").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("%-5s").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("%.2f").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("%tY").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("%c").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("%l").isSupported()).isFalse();
+    assertThat(ParsedFormatString.parse("100%").isSupported()).isFalse();
+  }
+
+  @Test
+  public void valid() {
+    ParsedFormatString parsed = ParsedFormatString.parse("%s: %d%% %n%X %e");
+    assertThat(parsed.isSupported()).isTrue();
+    assertThat(parsed.validate(new Object[] {"string", 3, 4L, BigDecimal.ONE})).isNull();
+    assertThat(parsed.validate(new Object[] {null, null, null, null})).isNull();
+  }
+
+  @Test
+  public void missingArgument() {
+    assertThat(ParsedFormatString.parse("%s %S").validate(new Object[] {"string"}))
+        .isEqualTo(ValidationResult.create("missing argument for format specifier '%S'"));
+  }
+
+  @Test
+  public void extraArguments() {
+    assertThat(ParsedFormatString.parse("%s%n").validate(new Object[] {"string", 3}))
+        .isEqualTo(ValidationResult.create("extra format arguments: used 1, provided 2"));
+  }
+
+  @Test
+  public void illegalConversion() {
+    assertThat(ParsedFormatString.parse("%X").validate(new Object[] {6.0d}))
+        .isEqualTo(
+            ValidationResult.create(
+                "illegal format conversion: 'java.lang.Double' cannot be formatted using '%x'"));
+  }
+}
@@ -631,6 +631,75 @@ public class InlinerTest {
         .doTest();
   }
 
+  @Test
+  public void sharedReplacement_substitutedPerCallSite() {
+    refactoringTestHelper
+        .addInputLines(
+            "Client.java",
+            """
+            import com.google.errorprone.annotations.InlineMe;
+            import java.time.Duration;
+
+            public final class Client {
+              @Deprecated
+              @InlineMe(
+                  replacement = "Duration.ofMillis(seconds * 1000)",
+                  imports = {"java.time.Duration"})
+              public static Duration fromSeconds(long seconds) {
+                return Duration.ofMillis(seconds * 1000);
+              }
+            }
+            """)
+        .expectUnchanged()
+        .addInputLines(
+            "Caller.java",
+            """
+            import org.joda.time.Duration;
+
+            public final class Caller {
+              public void doTest(long a, long b) {
+                Duration jodaDuration = Duration.millis(42);
+                Client.fromSeconds(a);
+                Client.fromSeconds(a + b);
+              }
+            }
+            """)
+        .addOutputLines(
+            "out/Caller.java",
+            """
+            import org.joda.time.Duration;
+
+            public final class Caller {
+              public void doTest(long a, long b) {
+                Duration jodaDuration = Duration.millis(42);
+                java.time.Duration.ofMillis(a * 1000);
+                java.time.Duration.ofMillis((a + b) * 1000);
+              }
+            }
+            """)
+        .addInputLines(
+            "Caller2.java",
+            """
+            public final class Caller2 {
+              public Object doTest() {
+                return Client.fromSeconds(42);
+              }
+            }
+            """)
+        .addOutputLines(
+            "out/Caller2.java",
+            """
+            import java.time.Duration;
+
+            public final class Caller2 {
+              public Object doTest() {
+                return Duration.ofMillis(42 * 1000);
+              }
+            }
+            """)
+        .doTest();
+  }
+
   @Test
   public void instanceMethod_withPartiallyQualifiedInnerType() {
     refactoringTestHelper
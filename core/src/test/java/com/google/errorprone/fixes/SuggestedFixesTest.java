@@ -79,7 +79,10 @@ import java.lang.annotation.Retention;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import javax.lang.model.element.Modifier;
@@ -1861,6 +1864,109 @@ public class Test {
         .doTest();
   }
 
+  /** A test bugchecker that deletes any method named {@code m} if that doesn't break the build. */
+  @BugPattern(summary = "", severity = ERROR)
+  public static class DeletesMethodIfCompilesChecker extends BugChecker
+      implements MethodTreeMatcher {
+    @Override
+    public Description matchMethod(MethodTree tree, VisitorState state) {
+      if (!tree.getName().contentEquals("m")) {
+        return NO_MATCH;
+      }
+      Fix fix = SuggestedFix.delete(tree);
+      return SuggestedFixes.compilesWithFix(fix, state)
+          ? describeMatch(tree, fix)
+          : Description.NO_MATCH;
+    }
+  }
+
+  @Test
+  public void compilesWithFix_signatureChangeBreaksOtherCompilationUnit() {
+    CompilationTestHelper.newInstance(DeletesMethodIfCompilesChecker.class, getClass())
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              void m() {}
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              void f() {
+                new A().m();
+              }
+            }
+            """)
+        .expectNoDiagnostics()
+        .doTest();
+  }
+
+  @Test
+  public void compilesWithFix_signatureChangeOfUnusedMember() {
+    CompilationTestHelper.newInstance(DeletesMethodIfCompilesChecker.class, getClass())
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              // BUG: Diagnostic contains:
+              void m() {}
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              void f() {
+                new A();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  /** A test bugchecker that deletes the fields of a class whose removal doesn't break the build. */
+  @BugPattern(summary = "", severity = ERROR)
+  public static class CompilingFixesChecker extends BugChecker implements ClassTreeMatcher {
+    @Override
+    public Description matchClass(ClassTree tree, VisitorState state) {
+      Map<SuggestedFix, Tree> fixes = new LinkedHashMap<>();
+      for (Tree member : tree.getMembers()) {
+        if (member instanceof VariableTree) {
+          fixes.put(SuggestedFix.delete(member), member);
+        }
+      }
+      for (SuggestedFix fix :
+          SuggestedFixes.compilingFixes(new ArrayList<>(fixes.keySet()), state)) {
+        state.reportMatch(describeMatch(fixes.get(fix), fix));
+      }
+      return NO_MATCH;
+    }
+  }
+
+  @Test
+  public void compilingFixes() {
+    CompilationTestHelper.newInstance(CompilingFixesChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains:
+              private int a;
+              private int b;
+              // BUG: Diagnostic contains:
+              private int c;
+              private int d;
+
+              int f() {
+                return b + d;
+              }
+            }
+            """)
+        .doTest();
+  }
+
   /** A test bugchecker that deletes an exception from throws. */
   @BugPattern(summary = "", severity = ERROR)
   public static class RemovesExceptionsChecker extends BugChecker implements MethodTreeMatcher {
@@ -233,4 +233,24 @@ public class BindingsTest extends AbstractUTreeTest {
     assertThat(bindings.hasFreeIdentMatching(expr -> expr.toString().contains("nonExistent")))
         .isFalse();
   }
+
+  @Test
+  public void markAndRollback() {
+    Bindings bindings = Bindings.create();
+    Bindings.Mark empty = bindings.mark();
+    bindings.putBinding(FOO, "foo");
+    Bindings.Mark mark = bindings.mark();
+    bindings.putBinding(BAR, "bar");
+    bindings.putBinding(FOO, "shadowed");
+    bindings.clearBinding(BAZ);
+
+    bindings.rollback(mark);
+    assertThat(bindings.asMap()).containsExactly(FOO, "foo");
+
+    bindings.putBinding(BAZ, 42);
+    assertThat(bindings.asMap()).containsExactly(FOO, "foo", BAZ, 42);
+
+    bindings.rollback(empty);
+    assertThat(bindings.isEmpty()).isTrue();
+  }
 }
@@ -67,4 +67,11 @@ public class ChoiceTest {
         .containsExactly(2, 1, 3)
         .inOrder();
   }
+
+  @Test
+  public void onlyOption() {
+    assertThat(Choice.of("foo").onlyOption()).isEqualTo("foo");
+    assertThat(Choice.none().onlyOption()).isNull();
+    assertThat(Choice.from(ImmutableList.of(1, 2)).onlyOption()).isNull();
+  }
 }
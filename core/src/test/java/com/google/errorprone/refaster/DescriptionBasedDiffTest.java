@@ -23,6 +23,7 @@ import com.google.errorprone.BugPattern.SeverityLevel;
 import com.google.errorprone.apply.DescriptionBasedDiff;
 import com.google.errorprone.apply.ImportOrganizer;
 import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.fixes.ErrorProneEndPosTable;
 import com.google.errorprone.fixes.FixedPosition;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
@@ -280,6 +281,35 @@ public class DescriptionBasedDiffTest extends CompilerBasedTest {
         .inOrder();
   }
 
+  @Test
+  public void resolvedFixes() {
+    DescriptionBasedDiff diff =
+        DescriptionBasedDiff.createIgnoringOverlapsForResolvedFixes(
+            compilationUnit, ImportOrganizer.STATIC_FIRST_ORGANIZER);
+    SuggestedFix fix =
+        SuggestedFix.builder()
+            .replace(124, 127, "longer")
+            .replace(137, 140, "bar")
+            .addImport("com.google.foo.Bar")
+            .build();
+    assertThrows(IllegalArgumentException.class, () -> diff.onDescribed(dummyDescription(fix)));
+    diff.onDescribed(dummyDescription(fix.resolve(ErrorProneEndPosTable.create(compilationUnit))));
+    diff.applyDifferences(sourceFile);
+    assertThat(sourceFile.getLines())
+        .containsExactly(
+            "package foo.bar;",
+            "import com.foo.Bar;",
+            "import com.google.foo.Bar;",
+            "import org.bar.Baz;",
+            "",
+            "class Foo {",
+            "  public static void main(String[] args) {",
+            "    System.longer.println(\"bar\");",
+            "  }",
+            "}")
+        .inOrder();
+  }
+
   @BugPattern(name = "Test", summary = "", severity = SeverityLevel.WARNING)
   static final class DummyChecker extends BugChecker {}
 
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone.scanner;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+import static com.google.errorprone.util.ASTHelpers.isGeneratedConstructor;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.BugPattern;
+import com.google.errorprone.BugPattern.CostClass;
+import com.google.errorprone.CompilationTestHelper;
+import com.google.errorprone.VisitorState;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.MethodTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ErrorProneScanner}. */
+@RunWith(JUnit4.class)
+public class ErrorProneScannerTest {
+
+  private final CompilationTestHelper compilationHelper =
+      CompilationTestHelper.newInstance(
+          ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, ExpensiveChecker.class),
+          getClass());
+
+  @Test
+  public void largeUnit_skipsExpensiveChecks() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: [ExpensiveChecker-skipped-large-unit,
+              void f() {
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepLargeUnitThreshold:3")
+        .doTest();
+  }
+
+  @Test
+  public void smallUnit_runsExpensiveChecks() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              void f() {
+                // BUG: Diagnostic contains: ExpensiveChecker
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepLargeUnitThreshold:100")
+        .doTest();
+  }
+
+  @Test
+  public void largeUnit_sampled() {
+    compilationHelper
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              void f() {
+                // BUG: Diagnostic contains: ExpensiveChecker
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepLargeUnitThreshold:3", "-XepLargeUnitSamplePercent:100")
+        .doTest();
+  }
+
+  @Test
+  public void unreferencedPackage_skipsCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: [LibChecker-skipped-unreferenced]
+              void f() {
+                f();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void unreferencedPackage_skipsCheck_inReusedContext() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .reuseCompilerContext()
+        .addSourceLines(
+            "lib/Value.java",
+            """
+            package lib;
+
+            public class Value {}
+            """)
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              void f(lib.Value v) {}
+            }
+            """)
+        .doTest();
+    // Classes compiled from source are dropped when the context is reset.
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .reuseCompilerContext()
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: [LibChecker-skipped-unreferenced]
+              void f() {
+                f();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void referencedPackage_runsCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .addSourceLines(
+            "lib/Value.java",
+            """
+            package lib;
+
+            public class Value {}
+            """)
+        .addSourceLines(
+            "Test.java",
+            """
+            import lib.Value;
+
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              void f(Value v) {
+                // BUG: Diagnostic contains: LibChecker
+                f(v);
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void referencedThroughReturnType_runsCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .addSourceLines(
+            "lib/Value.java",
+            """
+            package lib;
+
+            public class Value {}
+            """)
+        .addSourceLines(
+            "other/Factory.java",
+            """
+            package other;
+
+            public class Factory {
+              public static final lib.Value VALUE = new lib.Value();
+            }
+            """)
+        .addSourceLines(
+            "Test.java",
+            """
+            import other.Factory;
+
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              int f() {
+                // BUG: Diagnostic contains: LibChecker
+                return Factory.VALUE.hashCode();
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void referencedByQualifiedName_runsCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(CheapChecker.class, LibChecker.class),
+            getClass())
+        .addSourceLines(
+            "lib/Value.java",
+            """
+            package lib;
+
+            public class Value {}
+            """)
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              // BUG: Diagnostic contains: skipped: []
+              void f(lib.Value v) {
+                // BUG: Diagnostic contains: LibChecker
+                f(v);
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void timeBudgetExceeded_disablesCheckForFile() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(SlowChecker.class), getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              void f() {
+                // BUG: Diagnostic contains: SlowChecker exceeded its time budget of 1ms
+                f();
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepCheckTimeBudget:SlowChecker=1")
+        .doTest();
+  }
+
+  @Test
+  public void timeBudgetExceeded_disablesCheckForCompilation() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(SlowChecker.class), getClass())
+        .addSourceLines(
+            "A.java",
+            """
+            class A {
+              void f() {
+                // BUG: Diagnostic contains: disabled for the rest of this file
+                f();
+              }
+            }
+            """)
+        .addSourceLines(
+            "B.java",
+            """
+            class B {
+              void f() {
+                // BUG: Diagnostic contains: disabled for the rest of this file
+                f();
+              }
+            }
+            """)
+        .addSourceLines(
+            "C.java",
+            """
+            class C {
+              void f() {
+                // BUG: Diagnostic contains: disabled for the rest of the compilation
+                f();
+              }
+            }
+            """)
+        .addSourceLines(
+            "D.java",
+            """
+            class D {
+              void f() {
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepCheckTimeBudget:1")
+        .doTest();
+  }
+
+  @Test
+  public void withinTimeBudget_runsCheck() {
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(SlowChecker.class), getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              void f() {
+                // BUG: Diagnostic contains: SlowChecker
+                f();
+                // BUG: Diagnostic contains: SlowChecker
+                f();
+              }
+            }
+            """)
+        .setArgs("-XepCheckTimeBudget:1", "-XepCheckTimeBudget:SlowChecker=600000")
+        .doTest();
+  }
+
+  /** Reports every method, with the checks that have been skipped so far. */
+  @BugPattern(summary = "Reports methods.", severity = ERROR)
+  public static class CheapChecker extends BugChecker implements MethodTreeMatcher {
+    @Override
+    public Description matchMethod(MethodTree tree, VisitorState state) {
+      if (isGeneratedConstructor(tree)) {
+        return NO_MATCH;
+      }
+      ImmutableList<String> skipped =
+          state.counters().elementSet().stream()
+              .filter(counter -> counter.contains("-skipped-"))
+              .sorted()
+              .collect(toImmutableList());
+      return buildDescription(tree).setMessage("skipped: " + skipped).build();
+    }
+  }
+
+  @BugPattern(
+      summary = "Reports method invocations.",
+      severity = ERROR,
+      requiredReferences = "lib")
+  public static class LibChecker extends BugChecker implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      return describeMatch(tree);
+    }
+  }
+
+  @BugPattern(
+      summary = "Reports method invocations.",
+      severity = ERROR,
+      cost = CostClass.DATAFLOW)
+  public static class ExpensiveChecker extends BugChecker implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      return describeMatch(tree);
+    }
+  }
+
+  /** Takes a few milliseconds to report each method invocation. */
+  @BugPattern(summary = "Reports method invocations slowly.", severity = ERROR)
+  public static class SlowChecker extends BugChecker implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      sleepUninterruptibly(Duration.ofMillis(5));
+      return describeMatch(tree);
+    }
+  }
+}
@@ -60,7 +60,7 @@ import org.jspecify.annotations.Nullable;
 /** Helps test Error Prone bug checkers and compilations. */
 @CheckReturnValue
 public final class CompilationTestHelper {
-  private static final ImmutableList<String> DEFAULT_ARGS =
+  static final ImmutableList<String> DEFAULT_ARGS =
       ImmutableList.of(
           "-encoding",
           "UTF-8",
@@ -76,6 +76,7 @@ public final class CompilationTestHelper {
           "500");
 
   private final DiagnosticTestHelper diagnosticHelper;
+  private final ScannerSupplier scannerSupplier;
   private final BaseErrorProneJavaCompiler compiler;
   private final ByteArrayOutputStream outputStream;
   private final Class<?> clazz;
@@ -87,6 +88,7 @@ public final class CompilationTestHelper {
   private LookForCheckNameInDiagnostic lookForCheckNameInDiagnostic =
       LookForCheckNameInDiagnostic.YES;
   private boolean testOnly = false;
+  private boolean reuseCompilerContext = CompilerContextPool.enabledByDefault();
 
   private boolean run = false;
 
@@ -94,6 +96,7 @@ public final class CompilationTestHelper {
     this.clazz = clazz;
     this.diagnosticHelper = new DiagnosticTestHelper(checkName);
     this.outputStream = new ByteArrayOutputStream();
+    this.scannerSupplier = scannerSupplier;
     this.compiler = new BaseErrorProneJavaCompiler(JavacTool.create(), scannerSupplier);
   }
 
@@ -264,6 +267,21 @@ public final class CompilationTestHelper {
     return this;
   }
 
+  /**
+   * Compiles in a javac context reused from an earlier test compilation with the same arguments,
+   * instead of a new one. This avoids completing the JDK's classes again for every test, which
+   * dominates the cost of compiling small test inputs.
+   *
+   * <p>Checkers are still instantiated for each compilation, and Error Prone's per-compilation
+   * state is not shared. Reuse can be enabled for all tests by setting the {@code
+   * com.google.errorprone.reuse_compiler_contexts} system property to {@code true}.
+   */
+  @CanIgnoreReturnValue
+  public CompilationTestHelper reuseCompilerContext() {
+    this.reuseCompilerContext = true;
+    return this;
+  }
+
   /**
    * Tells the compilation helper to expect that no diagnostics will be generated, even if the
    * source file contains bug markers. Useful for testing that a check is actually disabled when the
@@ -383,11 +401,24 @@ public final class CompilationTestHelper {
 
   private Result compile() {
     ImmutableList<String> processedArgs = buildArguments(overrideClasspath, extraArgs, testOnly);
+    PrintWriter out =
+        new PrintWriter(
+            new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)),
+            /* autoFlush= */ true);
+    if (reuseCompilerContext) {
+      return CompilerContextPool.call(
+              scannerSupplier,
+              out,
+              FileManagers.testFileManager(),
+              diagnosticHelper.collector,
+              processedArgs,
+              sources)
+          ? Result.OK
+          : Result.ERROR;
+    }
     return compiler
             .getTask(
-                new PrintWriter(
-                    new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)),
-                    /* autoFlush= */ true),
+                out,
                 FileManagers.testFileManager(),
                 diagnosticHelper.collector,
                 /* options= */ processedArgs,
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.tools.javac.api.JavacTaskPool;
+import java.io.Writer;
+import java.util.List;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+
+/**
+ * Runs test compilations in javac contexts that are reset and reused across compilations with the
+ * same options, so that the classes of the JDK and the classpath are only completed once rather
+ * than once per test.
+ *
+ * <p>Each compilation still has its own task, diagnostic listener, and Error Prone analyzer, so
+ * diagnostics are attributed to the compilation that produced them. The analyzer keeps Error
+ * Prone's per-compilation state, such as its timings, in its own context on top of the pooled one.
+ * Contexts in which a test redefines a platform class are discarded rather than reused.
+ */
+final class CompilerContextPool {
+
+  /** Enables context reuse for all test compilations that don't opt in explicitly. */
+  static final String REUSE_CONTEXTS_PROPERTY = "com.google.errorprone.reuse_compiler_contexts";
+
+  /**
+   * The maximum number of idle contexts to keep. Each retains the symbols it has completed, so this
+   * bounds memory use while leaving room for a few distinct option sets and parallel tests.
+   */
+  private static final int MAX_POOL_SIZE = 8;
+
+  private static final JavacTaskPool POOL = new JavacTaskPool(MAX_POOL_SIZE);
+
+  /** Returns true if context reuse was enabled for the whole test run. */
+  static boolean enabledByDefault() {
+    return Boolean.getBoolean(REUSE_CONTEXTS_PROPERTY);
+  }
+
+  /**
+   * Compiles the given sources with Error Prone, in a context from the pool.
+   *
+   * @return true if the compilation succeeded
+   */
+  static boolean call(
+      ScannerSupplier scannerSupplier,
+      Writer out,
+      JavaFileManager fileManager,
+      DiagnosticListener<? super JavaFileObject> diagnosticListener,
+      List<String> args,
+      List<JavaFileObject> sources) {
+    ErrorProneOptions errorProneOptions = ErrorProneOptions.processArgs(args);
+    return POOL.getTask(
+        out,
+        fileManager,
+        diagnosticListener,
+        BaseErrorProneJavaCompiler.javacOptions(errorProneOptions),
+        /* classes= */ ImmutableList.of(),
+        sources,
+        task -> {
+          BaseErrorProneJavaCompiler.addTaskListener(task, scannerSupplier, errorProneOptions);
+          return task.call();
+        });
+  }
+
+  private CompilerContextPool() {}
+}
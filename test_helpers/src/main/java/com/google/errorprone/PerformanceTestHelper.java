@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.errorprone.BugCheckerInfo.canonicalName;
+import static com.google.errorprone.FileObjects.forResource;
+import static com.google.errorprone.FileObjects.forSourceLines;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.scanner.ScannerSupplier;
+import com.sun.source.util.JavacTask;
+import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.api.JavacTool;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Checks that a bug checker stays within a time and allocation budget when analyzing large inputs.
+ *
+ * <p>The sources are compiled with only the checker under test enabled, and the time and memory
+ * attributed to it by {@link ErrorProneTimings} are compared against the declared budgets. Findings
+ * reported by the checker are ignored; use {@link CompilationTestHelper} to test those. Code
+ * generation is skipped, so inputs may exceed class file limits such as the maximum method size.
+ *
+ * <p>Pathological inputs can be generated with {@link StressInputs}:
+ *
+ * <pre>{@code
+ * PerformanceTestHelper.newInstance(MyChecker.class, getClass())
+ *     .addSource(StressInputs.longMethod("Test", 10_000))
+ *     .withTimeBudget(Duration.ofSeconds(1))
+ *     .withAllocationBudget(100_000_000)
+ *     .doTest();
+ * }</pre>
+ *
+ * <p>Budgets should be generous: they are meant to catch a checker that becomes an order of
+ * magnitude slower, not to detect small regressions, which are better measured with benchmarks.
+ */
+@CheckReturnValue
+public final class PerformanceTestHelper {
+
+  private final ScannerSupplier scannerSupplier;
+  private final String checkName;
+  private final Class<?> clazz;
+  private final List<JavaFileObject> sources = new ArrayList<>();
+  private ImmutableList<String> extraArgs = ImmutableList.of();
+  private @Nullable Duration timeBudget;
+  private long allocationBudget = -1;
+  private int runs = 1;
+
+  private boolean run = false;
+
+  private PerformanceTestHelper(
+      ScannerSupplier scannerSupplier, String checkName, Class<?> clazz) {
+    this.scannerSupplier = scannerSupplier;
+    this.checkName = checkName;
+    this.clazz = clazz;
+  }
+
+  /**
+   * Returns a new {@link PerformanceTestHelper}.
+   *
+   * @param checker the {@link BugChecker} to test
+   * @param clazz the class to use to locate file resources
+   */
+  public static PerformanceTestHelper newInstance(
+      Class<? extends BugChecker> checker, Class<?> clazz) {
+    ScannerSupplier scannerSupplier = ScannerSupplier.fromBugCheckerClasses(checker);
+    String checkName =
+        canonicalName(checker.getSimpleName(), checker.getAnnotation(BugPattern.class));
+    return new PerformanceTestHelper(scannerSupplier, checkName, clazz);
+  }
+
+  /** Adds a source file to the compilation, typically one generated by {@link StressInputs}. */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper addSource(JavaFileObject source) {
+    this.sources.add(source);
+    return this;
+  }
+
+  /** Adds a source file to the compilation, from the string content of the file. */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper addSourceLines(String path, String... lines) {
+    return addSource(forSourceLines(path, lines));
+  }
+
+  /** Adds a source file to the compilation, from an existing resource file. */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper addSourceFile(String path) {
+    return addSource(forResource(clazz, path));
+  }
+
+  /**
+   * Sets custom command-line arguments for the compilation. These will be appended to the default
+   * compilation arguments.
+   */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper setArgs(String... args) {
+    checkState(extraArgs.isEmpty(), "Extra args already set: %s", extraArgs);
+    this.extraArgs = ImmutableList.copyOf(args);
+    return this;
+  }
+
+  /** Fails the test if the checker takes longer than the given duration. */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper withTimeBudget(Duration budget) {
+    checkArgument(!budget.isNegative(), "negative budget: %s", budget);
+    this.timeBudget = budget;
+    return this;
+  }
+
+  /** Fails the test if the checker allocates more than the given number of bytes. */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper withAllocationBudget(long bytes) {
+    checkArgument(bytes >= 0, "negative budget: %s", bytes);
+    this.allocationBudget = bytes;
+    return this;
+  }
+
+  /**
+   * Compiles the sources the given number of times, and compares the lowest time and allocation
+   * seen against the budgets. Repeating the compilation excludes the cost of class loading and
+   * interpretation from the measurement. Defaults to 1.
+   */
+  @CanIgnoreReturnValue
+  public PerformanceTestHelper setRuns(int runs) {
+    checkArgument(runs > 0, "runs must be positive: %s", runs);
+    this.runs = runs;
+    return this;
+  }
+
+  /** Performs the compilations and checks that the checker stayed within its budgets. */
+  public void doTest() {
+    checkState(!sources.isEmpty(), "No source files to compile");
+    checkState(timeBudget != null || allocationBudget >= 0, "No budget declared");
+    checkState(!run, "doTest should only be called once");
+    this.run = true;
+
+    Duration time = Duration.ofSeconds(Long.MAX_VALUE);
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int i = 0; i < runs; i++) {
+      ErrorProneTimings timings = compile();
+      Duration runTime = timings.timings().getOrDefault(checkName, Duration.ZERO);
+      if (runTime.compareTo(time) < 0) {
+        time = runTime;
+      }
+      allocatedBytes =
+          Math.min(allocatedBytes, timings.allocatedBytes().getOrDefault(checkName, 0L));
+    }
+
+    List<String> failures = new ArrayList<>();
+    if (timeBudget != null && time.compareTo(timeBudget) > 0) {
+      failures.add(String.format("took %s, budget %s", time, timeBudget));
+    }
+    if (allocationBudget >= 0 && allocatedBytes > allocationBudget) {
+      failures.add(
+          String.format("allocated %d bytes, budget %d bytes", allocatedBytes, allocationBudget));
+    }
+    if (!failures.isEmpty()) {
+      fail(String.format("%s exceeded its budget: %s", checkName, String.join("; ", failures)));
+    }
+  }
+
+  private ErrorProneTimings compile() {
+    ImmutableList.Builder<String> args =
+        ImmutableList.<String>builder()
+            .addAll(CompilationTestHelper.DEFAULT_ARGS)
+            // only analysis is measured, and very large inputs can't be written to class files
+            .add("-XDshould-stop.ifNoError=FLOW");
+    String depsForTestInputs = System.getProperty("com.google.errorprone.deps_for_test_inputs");
+    if (depsForTestInputs != null) {
+      args.add("-cp").add(depsForTestInputs);
+    }
+    args.addAll(CompilationTestHelper.disableImplicitProcessing(extraArgs));
+
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StringWriter output = new StringWriter();
+    JavacTask task =
+        (JavacTask)
+            new BaseErrorProneJavaCompiler(JavacTool.create(), scannerSupplier)
+                .getTask(
+                    new PrintWriter(output, /* autoFlush= */ true),
+                    FileManagers.testFileManager(),
+                    diagnostics,
+                    args.build(),
+                    /* classes= */ ImmutableList.of(),
+                    sources);
+    ErrorProneTimings timings =
+        ErrorProneTimings.instance(((BasicJavacTask) task).getContext());
+    if (allocationBudget >= 0) {
+      timings.trackAllocations();
+    }
+    task.call();
+
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getCode().contains("error.prone.crash")) {
+        fail(diagnostic.toString());
+      }
+      // errors reported by the checker under test are expected, anything else is a broken input
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR
+          && !diagnostic.getMessage(null).contains("[" + checkName + "]")) {
+        fail(String.format("compilation failed unexpectedly: %s\n%s", diagnostic, output));
+      }
+    }
+    return timings;
+  }
+}
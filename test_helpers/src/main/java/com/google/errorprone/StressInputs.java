@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.errorprone.FileObjects.forSourceLines;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generators for large, pathological compilation units, for use with {@link
+ * PerformanceTestHelper}.
+ *
+ * <p>Every generated source compiles without errors or warnings, and declares a single top-level
+ * class in the unnamed package. Deeply nested inputs are analyzed recursively by javac, so very
+ * large depths may need a larger thread stack than the default.
+ */
+public final class StressInputs {
+
+  /**
+   * Returns a class with a single expression of the given nesting depth, alternating method
+   * invocations and binary operators: {@code f(a + f(a + f(a + ...)))}.
+   */
+  public static JavaFileObject deeplyNestedExpression(String className, int depth) {
+    checkArgument(depth > 0, "depth must be positive: %s", depth);
+    StringBuilder expression = new StringBuilder();
+    for (int i = 0; i < depth; i++) {
+      expression.append("f(a + ");
+    }
+    expression.append('a');
+    expression.append(")".repeat(depth));
+    return forSourceLines(
+        className + ".java",
+        "class " + className + " {",
+        "  static int f(int x) {",
+        "    return x;",
+        "  }",
+        "",
+        "  int m(int a) {",
+        "    return " + expression + ";",
+        "  }",
+        "}");
+  }
+
+  /**
+   * Returns a class with a method that contains a switch statement with the given number of cases,
+   * each of which returns a different string.
+   */
+  public static JavaFileObject largeSwitch(String className, int cases) {
+    checkArgument(cases > 0, "cases must be positive: %s", cases);
+    List<String> lines = new ArrayList<>();
+    lines.add("class " + className + " {");
+    lines.add("  String m(int x) {");
+    lines.add("    switch (x) {");
+    for (int i = 0; i < cases; i++) {
+      lines.add("      case " + i + ":");
+      lines.add("        return \"" + i + "\";");
+    }
+    lines.add("      default:");
+    lines.add("        return \"\";");
+    lines.add("    }");
+    lines.add("  }");
+    lines.add("}");
+    return forSourceLines(className + ".java", lines.toArray(new String[0]));
+  }
+
+  /**
+   * Returns a class with a method that contains the given number of statements. The statements
+   * cycle through local variable declarations, assignments, method invocations and if statements.
+   */
+  public static JavaFileObject longMethod(String className, int statements) {
+    checkArgument(statements > 0, "statements must be positive: %s", statements);
+    List<String> lines = new ArrayList<>();
+    lines.add("class " + className + " {");
+    lines.add("  int m(int x) {");
+    lines.add("    StringBuilder sb = new StringBuilder();");
+    for (int i = 0; i < statements; i++) {
+      // every group of four statements starts by declaring the local the others use
+      String local = "v" + (i / 4);
+      lines.add(
+          switch (i % 4) {
+            case 0 -> "    int " + local + " = x + " + i + ";";
+            case 1 -> "    x = x * 31 + " + local + ";";
+            case 2 -> "    sb.append(" + local + ");";
+            default -> "    if (x > " + i + ") { x -= " + local + "; }";
+          });
+    }
+    lines.add("    return x + sb.length();");
+    lines.add("  }");
+    lines.add("}");
+    return forSourceLines(className + ".java", lines.toArray(new String[0]));
+  }
+
+  /**
+   * Returns a class with a method whose body nests the given number of blocks, alternating if
+   * statements and for loops.
+   */
+  public static JavaFileObject deeplyNestedBlocks(String className, int depth) {
+    checkArgument(depth > 0, "depth must be positive: %s", depth);
+    List<String> lines = new ArrayList<>();
+    lines.add("class " + className + " {");
+    lines.add("  int m(int x) {");
+    for (int i = 0; i < depth; i++) {
+      lines.add(
+          i % 2 == 0
+              ? "if (x > " + i + ") {"
+              : "for (int i" + i + " = 0; i" + i + " < x; i" + i + "++) {");
+      lines.add("x++;");
+    }
+    for (int i = 0; i < depth; i++) {
+      lines.add("}");
+    }
+    lines.add("    return x;");
+    lines.add("  }");
+    lines.add("}");
+    return forSourceLines(className + ".java", lines.toArray(new String[0]));
+  }
+
+  private StressInputs() {}
+}
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.bugpatterns.BugChecker;
 import com.google.errorprone.bugpatterns.BugChecker.ClassTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
@@ -31,6 +32,7 @@ import com.google.errorprone.bugpatterns.BugChecker.ReturnTreeMatcher;
 import com.google.errorprone.bugpatterns.BugChecker.VariableTreeMatcher;
 import com.google.errorprone.fixes.SuggestedFix;
 import com.google.errorprone.matchers.Description;
+import com.google.errorprone.scanner.ScannerSupplier;
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.CompilationUnitTree;
@@ -38,6 +40,8 @@ import com.sun.source.tree.ReturnTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
 import com.sun.tools.javac.main.Main.Result;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -146,6 +150,83 @@ public class CompilationTestHelperTest {
         .doTest();
   }
 
+  @Test
+  public void reuseCompilerContext() {
+    for (int i = 0; i < 3; i++) {
+      CompilationTestHelper.newInstance(ReturnTreeChecker.class, getClass())
+          .reuseCompilerContext()
+          .addSourceLines(
+              "Test.java",
+              """
+              public class Test {
+                public boolean doIt() {
+                  // BUG: Diagnostic contains: Method may return normally
+                  return true;
+                }
+              }
+              """)
+          .doTest();
+    }
+  }
+
+  @Test
+  public void reuseCompilerContext_afterCompilationError() {
+    CompilationTestHelper.newInstance(ReturnTreeChecker.class, getClass())
+        .reuseCompilerContext()
+        .addSourceLines(
+            "Test.java",
+            """
+            public class Test {
+              // BUG: Diagnostic contains: incompatible types
+              int x = "";
+            }
+            """)
+        .matchAllDiagnostics()
+        .expectResult(Result.ERROR)
+        .doTest();
+    CompilationTestHelper.newInstance(ReturnTreeChecker.class, getClass())
+        .reuseCompilerContext()
+        .addSourceLines(
+            "Test.java",
+            """
+            public class Test {
+              String x = "";
+
+              String doIt() {
+                // BUG: Diagnostic contains: Method may return normally
+                return x;
+              }
+            }
+            """)
+        .doTest();
+  }
+
+  @Test
+  public void reuseCompilerContext_timingsAreNotShared() {
+    TimingsRecorder.timedChecks.clear();
+    CompilationTestHelper.newInstance(
+            ScannerSupplier.fromBugCheckerClasses(TimingsRecorder.class, ReturnTreeChecker.class),
+            getClass())
+        .reuseCompilerContext()
+        .addSourceLines(
+            "Test.java",
+            """
+            public class Test {
+              public boolean doIt() {
+                // BUG: Diagnostic contains: Method may return normally
+                return true;
+              }
+            }
+            """)
+        .doTest();
+    CompilationTestHelper.newInstance(TimingsRecorder.class, getClass())
+        .reuseCompilerContext()
+        .addSourceLines("Test.java", "public class Test {}")
+        .doTest();
+    assertThat(TimingsRecorder.timedChecks).hasSize(2);
+    assertThat(TimingsRecorder.timedChecks.get(1)).doesNotContain("ReturnTreeChecker");
+  }
+
   @Test
   public void fileWithBugMarkerAndErrorOnWrongLineFails() {
     AssertionError expected =
@@ -431,6 +512,18 @@ public class CompilationTestHelperTest {
     }
   }
 
+  /** Records the checks that had been timed in each compilation when it is analyzed. */
+  @BugPattern(summary = "Records timings", severity = ERROR)
+  public static class TimingsRecorder extends BugChecker implements CompilationUnitTreeMatcher {
+    static final List<ImmutableSet<String>> timedChecks = new ArrayList<>();
+
+    @Override
+    public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+      timedChecks.add(ErrorProneTimings.instance(state.context).timings().keySet());
+      return NO_MATCH;
+    }
+  }
+
   @Test
   public void unexpectedDiagnosticOnFirstLine() {
     AssertionError expected =
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The Error Prone Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.errorprone;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.errorprone.BugPattern.SeverityLevel.ERROR;
+import static com.google.errorprone.matchers.Description.NO_MATCH;
+import static org.junit.Assert.assertThrows;
+
+import com.google.errorprone.bugpatterns.BugChecker;
+import com.google.errorprone.bugpatterns.BugChecker.CompilationUnitTreeMatcher;
+import com.google.errorprone.bugpatterns.BugChecker.MethodInvocationTreeMatcher;
+import com.google.errorprone.matchers.Description;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodInvocationTree;
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link PerformanceTestHelper}. */
+@RunWith(JUnit4.class)
+public class PerformanceTestHelperTest {
+
+  @Test
+  public void withinBudget() {
+    PerformanceTestHelper.newInstance(MethodInvocationChecker.class, getClass())
+        .addSource(StressInputs.deeplyNestedExpression("Nested", 100))
+        .addSource(StressInputs.largeSwitch("Switch", 1_000))
+        .addSource(StressInputs.longMethod("Long", 10_000))
+        .addSource(StressInputs.deeplyNestedBlocks("Blocks", 100))
+        .withTimeBudget(Duration.ofMinutes(1))
+        .withAllocationBudget(1L << 30)
+        .doTest();
+  }
+
+  @Test
+  public void findingsAreIgnored() {
+    PerformanceTestHelper.newInstance(MethodInvocationChecker.class, getClass())
+        .addSourceLines(
+            "Test.java",
+            """
+            class Test {
+              void f() {
+                f();
+              }
+            }
+            """)
+        .withTimeBudget(Duration.ofMinutes(1))
+        .doTest();
+  }
+
+  @Test
+  public void timeBudgetExceeded() {
+    AssertionError expected =
+        assertThrows(
+            AssertionError.class,
+            () ->
+                PerformanceTestHelper.newInstance(SleepingChecker.class, getClass())
+                    .addSource(StressInputs.largeSwitch("Test", 10))
+                    .withTimeBudget(Duration.ofMillis(1))
+                    .doTest());
+    assertThat(expected).hasMessageThat().contains("SleepingChecker exceeded its budget: took");
+  }
+
+  @Test
+  public void allocationBudgetExceeded() {
+    AssertionError expected =
+        assertThrows(
+            AssertionError.class,
+            () ->
+                PerformanceTestHelper.newInstance(AllocatingChecker.class, getClass())
+                    .addSource(StressInputs.longMethod("Test", 1_000))
+                    .withAllocationBudget(1_000)
+                    .doTest());
+    assertThat(expected)
+        .hasMessageThat()
+        .contains("AllocatingChecker exceeded its budget: allocated");
+  }
+
+  @Test
+  public void brokenInputFails() {
+    AssertionError expected =
+        assertThrows(
+            AssertionError.class,
+            () ->
+                PerformanceTestHelper.newInstance(MethodInvocationChecker.class, getClass())
+                    .addSourceLines("Test.java", "class Test { int x = \"\"; }")
+                    .withTimeBudget(Duration.ofMinutes(1))
+                    .doTest());
+    assertThat(expected).hasMessageThat().contains("compilation failed unexpectedly");
+  }
+
+  @Test
+  public void noBudget() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            PerformanceTestHelper.newInstance(MethodInvocationChecker.class, getClass())
+                .addSource(StressInputs.largeSwitch("Test", 10))
+                .doTest());
+  }
+
+  @BugPattern(summary = "Reports method invocations.", severity = ERROR)
+  public static class MethodInvocationChecker extends BugChecker
+      implements MethodInvocationTreeMatcher {
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      return tree.getArguments().isEmpty() ? describeMatch(tree) : NO_MATCH;
+    }
+  }
+
+  @BugPattern(summary = "Takes its time.", severity = ERROR)
+  public static class SleepingChecker extends BugChecker implements CompilationUnitTreeMatcher {
+    @Override
+    public Description matchCompilationUnit(CompilationUnitTree tree, VisitorState state) {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return NO_MATCH;
+    }
+  }
+
+  @BugPattern(summary = "Allocates on every method invocation.", severity = ERROR)
+  public static class AllocatingChecker extends BugChecker implements MethodInvocationTreeMatcher {
+    private byte[] lastAllocation;
+
+    @Override
+    public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
+      lastAllocation = new byte[1024];
+      return lastAllocation.length > 0 ? NO_MATCH : describeMatch(tree);
+    }
+  }
+}